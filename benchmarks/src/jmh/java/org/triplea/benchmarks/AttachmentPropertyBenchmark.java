@@ -0,0 +1,58 @@
+package org.triplea.benchmarks;
+
+import com.google.common.collect.Streams;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.MutableProperty;
+import games.strategy.triplea.attachments.UnitAttachment;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures looking up a single attachment property by name, as done by trigger and attachment
+ * property changes. Run with {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AttachmentPropertyBenchmark {
+  private List<UnitAttachment> unitAttachments;
+
+  @Setup
+  public void setUp() {
+    final GameData gameData = BenchmarkMap.GLOBAL1940.getGameData();
+    unitAttachments =
+        Streams.stream(gameData.getUnitTypeList())
+            .map(UnitAttachment::get)
+            .collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public void getPropertyOrThrow(final Blackhole blackhole) {
+    for (final UnitAttachment unitAttachment : unitAttachments) {
+      blackhole.consume(unitAttachment.getPropertyOrThrow("movement"));
+    }
+  }
+
+  @Benchmark
+  public void getPropertyMap(final Blackhole blackhole) {
+    for (final UnitAttachment unitAttachment : unitAttachments) {
+      final MutableProperty<?> property = unitAttachment.getPropertyMap().get("movement");
+      blackhole.consume(property);
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package org.triplea.benchmarks;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.delegate.TerritoryEffectHelper;
+import games.strategy.triplea.odds.calculator.AggregateResults;
+import games.strategy.triplea.odds.calculator.ConcurrentBattleCalculator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link ConcurrentBattleCalculator#calculate} for a Russian infantry attack against the
+ * starting German units in Germany, and the cost of handing game data to the calculator.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class BattleCalculatorBenchmark {
+  @Param({"200", "2000"})
+  private int runCount;
+
+  private GameData gameData;
+  private ConcurrentBattleCalculator calculator;
+  private GamePlayer russians;
+  private GamePlayer germans;
+  private Territory germany;
+  private List<Unit> attackingUnits;
+  private List<Unit> defendingUnits;
+
+  @Setup
+  public void setUp() {
+    gameData = BenchmarkMap.REVISED.getGameData();
+    russians = gameData.getPlayerList().getPlayerId("Russians");
+    germans = gameData.getPlayerList().getPlayerId("Germans");
+    germany = gameData.getMap().getTerritory("Germany");
+    defendingUnits = new ArrayList<>(germany.getUnits());
+    attackingUnits = gameData.getUnitTypeList().getUnitType("infantry").create(30, russians);
+    calculator = new ConcurrentBattleCalculator();
+    calculator.setGameData(gameData);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    calculator.setGameData(null);
+  }
+
+  @Benchmark
+  public AggregateResults calculate() {
+    return calculator.calculate(
+        russians,
+        germans,
+        germany,
+        attackingUnits,
+        defendingUnits,
+        List.of(),
+        TerritoryEffectHelper.getEffects(germany),
+        false,
+        runCount);
+  }
+
+  @Benchmark
+  public ConcurrentBattleCalculator setGameData() {
+    final ConcurrentBattleCalculator newCalculator = new ConcurrentBattleCalculator();
+    newCalculator.setGameData(gameData);
+    // calculate waits until all workers have their copy of the game data
+    newCalculator.calculate(
+        russians, germans, germany, List.of(), List.of(), List.of(), List.of(), false, 0);
+    newCalculator.setGameData(null);
+    return newCalculator;
+  }
+}
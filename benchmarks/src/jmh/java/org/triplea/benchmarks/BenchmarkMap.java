@@ -0,0 +1,56 @@
+package org.triplea.benchmarks;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameParser;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/** The test maps bundled with game-core that benchmarks can run against. */
+public enum BenchmarkMap {
+  REVISED("revised_test.xml"),
+
+  GLOBAL1940("ww2_g40_balanced.xml"),
+
+  TWW("Total_World_War_Dec1941.xml"),
+  ;
+
+  private static final String MAPS_DIR_PROPERTY = "triplea.benchmarks.mapsDir";
+
+  private final String fileName;
+
+  BenchmarkMap(final String fileName) {
+    this.fileName = fileName;
+  }
+
+  /** Returns the path to the game XML of this map. */
+  public Path getPath() {
+    return Paths.get(
+        System.getProperty(MAPS_DIR_PROPERTY, "../game-core/src/test/resources"), fileName);
+  }
+
+  /** Reads the raw game XML of this map into memory. */
+  public byte[] readBytes() {
+    try {
+      return Files.readAllBytes(getPath());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Parses the game data of this map.
+   *
+   * @throws IllegalStateException If an error occurs while parsing the map.
+   */
+  public GameData getGameData() {
+    try (InputStream is = Files.newInputStream(getPath())) {
+      return GameParser.parse(fileName, is);
+    } catch (final Exception e) {
+      throw new IllegalStateException("Failed to parse benchmark map " + fileName, e);
+    }
+  }
+}
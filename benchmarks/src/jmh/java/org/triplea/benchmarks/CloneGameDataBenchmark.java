@@ -0,0 +1,40 @@
+package org.triplea.benchmarks;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.framework.GameDataUtils;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures {@link GameDataUtils#cloneGameData(GameData)}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class CloneGameDataBenchmark {
+  @Param({"REVISED", "GLOBAL1940", "TWW"})
+  private BenchmarkMap map;
+
+  private GameData gameData;
+
+  @Setup
+  public void setUp() {
+    gameData = map.getGameData();
+  }
+
+  @Benchmark
+  public GameData cloneGameData() {
+    return GameDataUtils.cloneGameData(gameData);
+  }
+}
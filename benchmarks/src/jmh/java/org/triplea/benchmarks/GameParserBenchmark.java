@@ -0,0 +1,41 @@
+package org.triplea.benchmarks;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameParser;
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures {@link GameParser#parse(String, java.io.InputStream)} from an in-memory game XML. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class GameParserBenchmark {
+  @Param({"REVISED", "GLOBAL1940", "TWW"})
+  private BenchmarkMap map;
+
+  private byte[] gameXml;
+
+  @Setup
+  public void setUp() {
+    gameXml = map.readBytes();
+  }
+
+  @Benchmark
+  public GameData parse() throws Exception {
+    return GameParser.parse(map.name(), new ByteArrayInputStream(gameXml));
+  }
+}
@@ -0,0 +1,52 @@
+package org.triplea.benchmarks;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.MoveDescription;
+import games.strategy.engine.data.Route;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.triplea.delegate.MoveValidator;
+import games.strategy.triplea.delegate.data.MoveValidationResult;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures {@link MoveValidator#validateMove} for a land move of every unit in Germany. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class MoveValidatorBenchmark {
+  private MoveValidator moveValidator;
+  private MoveDescription move;
+  private GamePlayer germans;
+
+  @Setup
+  public void setUp() {
+    final GameData gameData = BenchmarkMap.REVISED.getGameData();
+    germans = gameData.getPlayerList().getPlayerId("Germans");
+    final Territory germany = gameData.getMap().getTerritory("Germany");
+    final Territory westernEurope = gameData.getMap().getTerritory("Western Europe");
+    final List<Unit> units = germany.getUnitCollection().getMatches(Matches.unitCanMove());
+    move = new MoveDescription(units, new Route(germany, westernEurope));
+    moveValidator = new MoveValidator(gameData);
+  }
+
+  @Benchmark
+  public MoveValidationResult validateMove() {
+    return moveValidator.validateMove(move, germans, false, null);
+  }
+}
@@ -0,0 +1,59 @@
+package org.triplea.benchmarks;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameMap;
+import games.strategy.engine.data.Route;
+import games.strategy.engine.data.Territory;
+import games.strategy.triplea.delegate.Matches;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures route finding by movement cost (see {@link GameMap#getRouteForUnits}) and by distance
+ * between the first and last territories of each map.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class RouteFinderBenchmark {
+  @Param({"REVISED", "GLOBAL1940", "TWW"})
+  private BenchmarkMap map;
+
+  private GameMap gameMap;
+  private Territory start;
+  private Territory end;
+
+  @Setup
+  public void setUp() {
+    final GameData gameData = map.getGameData();
+    gameMap = gameData.getMap();
+    final List<Territory> territories = gameMap.getTerritories();
+    start = territories.get(0);
+    end = territories.get(territories.size() - 1);
+  }
+
+  @Benchmark
+  public Route findRouteByCost() {
+    return gameMap.getRouteForUnits(
+        start, end, Matches.always(), start.getUnits(), start.getOwner());
+  }
+
+  @Benchmark
+  public int getDistance() {
+    return gameMap.getDistance(start, end);
+  }
+}
@@ -0,0 +1,52 @@
+package org.triplea.benchmarks;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.framework.GameDataManager;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.triplea.io.IoUtils;
+
+/**
+ * Measures {@link GameDataManager#saveGame(java.io.OutputStream, GameData)} and {@link
+ * GameDataManager#loadGame(java.io.InputStream)} using in-memory streams.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SaveGameBenchmark {
+  @Param({"REVISED", "GLOBAL1940", "TWW"})
+  private BenchmarkMap map;
+
+  private GameData gameData;
+  private byte[] savedGame;
+
+  @Setup
+  public void setUp() throws IOException {
+    gameData = map.getGameData();
+    savedGame = IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, gameData));
+  }
+
+  @Benchmark
+  public byte[] saveGame() throws IOException {
+    return IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, gameData));
+  }
+
+  @Benchmark
+  public GameData loadGame() throws IOException {
+    return IoUtils.readFromMemory(savedGame, GameDataManager::loadGame);
+  }
+}
@@ -0,0 +1,129 @@
+package org.triplea.benchmarks;
+
+import games.strategy.triplea.ui.mapdata.TerritoryPolygonIndex;
+import games.strategy.ui.Util;
+import java.awt.Polygon;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures finding the territory at a point of the map, as done by {@code
+ * MapData.getTerritoryAt} on every mouse move, against testing the point with every polygon of the
+ * map. The test maps have no polygons, so this uses a synthetic map of the size of a large
+ * community map: 3,000 land territories on 800 sea zones covering 12000x6000 pixels.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TerritoryPolygonIndexBenchmark {
+  private static final int MAP_WIDTH = 12000;
+  private static final int MAP_HEIGHT = 6000;
+  private static final int SEA_ZONE_SIZE = 300;
+  private static final int LAND_COLUMNS = 75;
+  private static final int LAND_ROWS = 40;
+  private static final int POINT_COUNT = 1024;
+
+  private Map<String, List<Polygon>> polygons;
+  private TerritoryPolygonIndex polygonIndex;
+  private double[] pointsX;
+  private double[] pointsY;
+
+  @Setup
+  public void setUp() {
+    final Random random = new Random(42);
+    polygons = new HashMap<>();
+    for (int x = 0; x < MAP_WIDTH; x += SEA_ZONE_SIZE) {
+      for (int y = 0; y < MAP_HEIGHT; y += SEA_ZONE_SIZE) {
+        polygons.put(
+            Util.TERRITORY_SEA_ZONE_INFIX + " " + polygons.size(),
+            List.of(newOctagon(x + SEA_ZONE_SIZE / 2, y + SEA_ZONE_SIZE / 2, SEA_ZONE_SIZE)));
+      }
+    }
+    final int landWidth = MAP_WIDTH / LAND_COLUMNS;
+    final int landHeight = MAP_HEIGHT / LAND_ROWS;
+    for (int column = 0; column < LAND_COLUMNS; column++) {
+      for (int row = 0; row < LAND_ROWS; row++) {
+        polygons.put(
+            "Land " + column + "," + row,
+            List.of(
+                newOctagon(
+                    column * landWidth + landWidth / 2 + random.nextInt(20) - 10,
+                    row * landHeight + landHeight / 2 + random.nextInt(20) - 10,
+                    Math.min(landWidth, landHeight) - random.nextInt(30))));
+      }
+    }
+    polygonIndex = new TerritoryPolygonIndex(polygons);
+
+    pointsX = new double[POINT_COUNT];
+    pointsY = new double[POINT_COUNT];
+    for (int i = 0; i < POINT_COUNT; i++) {
+      pointsX[i] = random.nextDouble() * MAP_WIDTH;
+      pointsY[i] = random.nextDouble() * MAP_HEIGHT;
+    }
+  }
+
+  /** Returns an octagon of the given width around the given center, so its corners are cut off. */
+  private static Polygon newOctagon(final int centerX, final int centerY, final int width) {
+    final int half = width / 2;
+    final int cut = width / 4;
+    final Polygon octagon = new Polygon();
+    octagon.addPoint(centerX - half + cut, centerY - half);
+    octagon.addPoint(centerX + half - cut, centerY - half);
+    octagon.addPoint(centerX + half, centerY - half + cut);
+    octagon.addPoint(centerX + half, centerY + half - cut);
+    octagon.addPoint(centerX + half - cut, centerY + half);
+    octagon.addPoint(centerX - half + cut, centerY + half);
+    octagon.addPoint(centerX - half, centerY + half - cut);
+    octagon.addPoint(centerX - half, centerY - half + cut);
+    return octagon;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(POINT_COUNT)
+  public void getTerritoryAt(final Blackhole blackhole) {
+    for (int i = 0; i < POINT_COUNT; i++) {
+      blackhole.consume(polygonIndex.getTerritoryAt(pointsX[i], pointsY[i]));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(POINT_COUNT)
+  public void getTerritoryAtByTestingEveryPolygon(final Blackhole blackhole) {
+    for (int i = 0; i < POINT_COUNT; i++) {
+      blackhole.consume(getTerritoryAtByTestingEveryPolygon(pointsX[i], pointsY[i]));
+    }
+  }
+
+  private String getTerritoryAtByTestingEveryPolygon(final double x, final double y) {
+    String seaName = null;
+    for (final Map.Entry<String, List<Polygon>> entry : polygons.entrySet()) {
+      for (final Polygon polygon : entry.getValue()) {
+        if (polygon.contains(x, y)) {
+          if (!Util.isTerritoryNameIndicatingWater(entry.getKey())) {
+            return entry.getKey();
+          }
+          seaName = entry.getKey();
+        }
+      }
+    }
+    return seaName;
+  }
+}
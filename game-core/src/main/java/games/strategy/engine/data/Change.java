@@ -21,4 +21,12 @@ public abstract class Change implements Serializable {
   public boolean isEmpty() {
     return false;
   }
+
+  /**
+   * Returns true if performing this change may modify a production frontier, a production rule or
+   * an attachment of a unit type, and so the cost of units.
+   */
+  public boolean affectsUnitCosts() {
+    return false;
+  }
 }
@@ -94,6 +94,11 @@ public class ChangeAttachmentChange extends Change {
     }
   }
 
+  @Override
+  public boolean affectsUnitCosts() {
+    return attachedTo instanceof UnitType;
+  }
+
   @Override
   public Change invert() {
     return new ChangeAttachmentChange(
@@ -60,6 +60,16 @@ public class CompositeChange extends Change {
     return true;
   }
 
+  @Override
+  public boolean affectsUnitCosts() {
+    for (final Change change : changes) {
+      if (change.affectsUnitCosts()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   public List<Change> getChanges() {
     return new ArrayList<>(changes);
   }
@@ -6,6 +6,7 @@ import com.google.common.base.Splitter;
 import com.google.common.collect.Iterables;
 import games.strategy.triplea.Constants;
 import java.math.BigDecimal;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -26,6 +27,10 @@ public abstract class DefaultAttachment extends GameDataComponent implements IAt
   private Attachable attachedTo;
   private String name;
 
+  // Properties are bound to this instance and never change, so build them once on first lookup
+  // instead of on every call. Not serialized as it is cheap to rebuild after deserialization.
+  private transient volatile Map<String, MutableProperty<?>> propertyCache;
+
   protected DefaultAttachment(
       final String name, final Attachable attachable, final GameData gameData) {
     super(gameData);
@@ -98,6 +103,23 @@ public abstract class DefaultAttachment extends GameDataComponent implements IAt
     return "   for: " + toString();
   }
 
+  /**
+   * Gets the property with the specified name. Unlike {@link #getPropertyMap()}, the properties of
+   * this attachment are only built once and then reused for every subsequent lookup.
+   */
+  @Override
+  public Optional<MutableProperty<?>> getProperty(final String name) {
+    checkNotNull(name);
+
+    Map<String, MutableProperty<?>> properties = propertyCache;
+    if (properties == null) {
+      // a concurrent lookup may build the map twice, both results are equivalent
+      properties = getPropertyMap();
+      propertyCache = properties;
+    }
+    return Optional.ofNullable(properties.get(name));
+  }
+
   /** Returns null or the toString() of the field value. */
   public String getRawPropertyString(final String property) {
     return getProperty(property).map(MutableProperty::getValue).map(Object::toString).orElse(null);
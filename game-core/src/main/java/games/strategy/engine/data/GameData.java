@@ -10,7 +10,9 @@ import games.strategy.engine.framework.GameDataManager;
 import games.strategy.engine.framework.IGameLoader;
 import games.strategy.engine.framework.message.PlayerListing;
 import games.strategy.engine.history.History;
+import games.strategy.engine.stats.RoundStatistics;
 import games.strategy.triplea.TripleA;
+import games.strategy.triplea.util.TuvCostsCache;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
@@ -97,7 +99,9 @@ public class GameData implements Serializable {
       new ArrayList<>();
   private final Map<String, TerritoryEffect> territoryEffectList = new HashMap<>();
   private final BattleRecordsList battleRecordsList = new BattleRecordsList(this);
+  private RoundStatistics roundStatistics = new RoundStatistics();
   private transient GameDataEventListeners gameDataEventListeners = new GameDataEventListeners();
+  private transient TuvCostsCache tuvCostsCache = new TuvCostsCache();
 
   private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
     // The process of deserializing makes use of this lock,
@@ -105,6 +109,11 @@ public class GameData implements Serializable {
     readWriteLock = new ReentrantReadWriteLock();
     in.defaultReadObject();
     gameDataEventListeners = new GameDataEventListeners();
+    tuvCostsCache = new TuvCostsCache();
+    // games saved before round statistics were recorded
+    if (roundStatistics == null) {
+      roundStatistics = new RoundStatistics();
+    }
   }
 
   /**
@@ -385,6 +394,15 @@ public class GameData implements Serializable {
     return battleRecordsList;
   }
 
+  public TuvCostsCache getTuvCostsCache() {
+    return tuvCostsCache;
+  }
+
+  /** Returns the over time statistics recorded at the start of each round played so far. */
+  public RoundStatistics getRoundStatistics() {
+    return roundStatistics;
+  }
+
   /**
    * Call this before starting the game and before the game data has been sent to the clients in
    * order to make any final modifications to the game data. For example, this method will remove
@@ -431,6 +449,7 @@ public class GameData implements Serializable {
     try {
       acquireWriteLock();
       change.perform(this);
+      tuvCostsCache.changePerformed(change);
     } finally {
       releaseWriteLock();
     }
@@ -5,20 +5,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import org.w3c.dom.Element;
 
 class GameDataVariableParser {
 
   private final NodeFinder nodeFinder = new NodeFinder();
 
-  Map<String, List<String>> parseVariables(final Element root) throws GameParseException {
-    final Element variableList = nodeFinder.getOptionalSingleChild("variableList", root);
+  Map<String, List<String>> parseVariables(final XmlElement root) throws GameParseException {
+    final XmlElement variableList = nodeFinder.getOptionalSingleChild("variableList", root);
     return variableList != null ? parseVariableElement(variableList) : Map.of();
   }
 
-  private Map<String, List<String>> parseVariableElement(final Element root) {
+  private Map<String, List<String>> parseVariableElement(final XmlElement root) {
     final Map<String, List<String>> variables = new HashMap<>();
-    for (final Element current : nodeFinder.getChildren("variable", root)) {
+    for (final XmlElement current : nodeFinder.getChildren("variable", root)) {
       final String name = "$" + current.getAttribute("name") + "$";
       final List<String> values =
           nodeFinder.getChildren("element", current).stream()
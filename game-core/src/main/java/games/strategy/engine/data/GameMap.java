@@ -39,6 +39,8 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
   // otherwise, gridDimensions.length is the number of dimensions, and each element is the size of a
   // dimension
   private int[] gridDimensions = null;
+  // built on first use and discarded whenever territories or connections change
+  private transient volatile TerritoryDistanceIndex distanceIndex;
 
   GameMap(final GameData data) {
     super(data);
@@ -75,6 +77,7 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     territories.add(t1);
     connections.put(t1, Set.of());
     territoryLookup.put(t1.getName(), t1);
+    distanceIndex = null;
   }
 
   /** Bi-directional. T1 connects to T2, and T2 connects to T1. */
@@ -96,6 +99,26 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     final Set<Territory> modified = new HashSet<>(current);
     modified.add(to);
     connections.put(from, Collections.unmodifiableSet(modified));
+    distanceIndex = null;
+  }
+
+  private TerritoryDistanceIndex getDistanceIndex() {
+    TerritoryDistanceIndex index = distanceIndex;
+    if (index == null) {
+      index = new TerritoryDistanceIndex(territories, connections);
+      distanceIndex = index;
+    }
+    return index;
+  }
+
+  private boolean isIndexed(final Territory... territories) {
+    final TerritoryDistanceIndex index = getDistanceIndex();
+    for (final Territory territory : territories) {
+      if (!index.contains(territory)) {
+        return false;
+      }
+    }
+    return true;
   }
 
   /**
@@ -141,6 +164,13 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
    * condition. Does NOT include the original/starting territory in the returned Set.
    */
   public Set<Territory> getNeighbors(final Territory territory, final int distance) {
+    Preconditions.checkArgument(distance >= 0, "Distance must be non-negative: " + distance);
+    if (distance == 0) {
+      return Set.of();
+    }
+    if (isIndexed(territory)) {
+      return getDistanceIndex().getNeighbors(territory, distance, TerritoryDistanceIndex.Mode.ALL);
+    }
     return getNeighbors(territory, distance, Matches.always());
   }
 
@@ -340,7 +370,21 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
    * @param t2 end territory of the route
    */
   public int getDistance(final Territory t1, final Territory t2) {
-    return getDistance(t1, t2, Matches.always());
+    return getDistance(t1, t2, TerritoryDistanceIndex.Mode.ALL, Matches.always());
+  }
+
+  private int getDistance(
+      final Territory t1,
+      final Territory t2,
+      final TerritoryDistanceIndex.Mode mode,
+      final Predicate<Territory> cond) {
+    if (t1.equals(t2)) {
+      return 0;
+    }
+    if (isIndexed(t1, t2)) {
+      return getDistanceIndex().getDistance(t1, t2, mode);
+    }
+    return getDistance(t1, t2, cond);
   }
 
   /**
@@ -410,7 +454,7 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
    * @param t2 end territory of the route
    */
   public int getLandDistance(final Territory t1, final Territory t2) {
-    return getDistance(t1, t2, Matches.territoryIsLand());
+    return getDistance(t1, t2, TerritoryDistanceIndex.Mode.LAND, Matches.territoryIsLand());
   }
 
   /**
@@ -420,7 +464,7 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
    * @param t2 end territory of the route
    */
   public int getWaterDistance(final Territory t1, final Territory t2) {
-    return getDistance(t1, t2, Matches.territoryIsWater());
+    return getDistance(t1, t2, TerritoryDistanceIndex.Mode.WATER, Matches.territoryIsWater());
   }
 
   /**
@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -35,22 +36,20 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.logging.Level;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.extern.java.Log;
 import org.triplea.util.Tuple;
 import org.triplea.util.Version;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import org.xml.sax.SAXParseException;
 
 /** Parses a game XML file into a {@link GameData} domain object. */
 @Log
 public final class GameParser {
   private static final String RESOURCE_IS_DISPLAY_FOR_NONE = "NONE";
+  // the elements read by parseMapProperties
+  private static final Set<String> MAP_PROPERTIES_ELEMENTS =
+      Set.of("info", "triplea", "diceSides", "playerList", "propertyList");
 
   @Nonnull private final GameData data;
   private final Collection<SAXParseException> errorsSax = new ArrayList<>();
@@ -102,7 +101,7 @@ public final class GameParser {
   @Nonnull
   private GameData parse(final InputStream stream)
       throws GameParseException, EngineVersionException {
-    final Element root = XmlReader.parseDom(mapName, stream, errorsSax);
+    final XmlElement root = XmlReader.parse(mapName, stream, errorsSax);
     parseMapProperties(root);
     parseMapDetails(root);
     return data;
@@ -137,12 +136,14 @@ public final class GameParser {
   @Nonnull
   private GameData parseShallow(final InputStream stream)
       throws GameParseException, EngineVersionException {
-    final Element root = XmlReader.parseDom(mapName, stream, errorsSax);
+    // the map details are not needed, so they are left out while reading
+    final XmlElement root =
+        XmlReader.parse(mapName, stream, errorsSax, MAP_PROPERTIES_ELEMENTS::contains);
     parseMapProperties(root);
     return data;
   }
 
-  private void parseMapProperties(final Element root)
+  private void parseMapProperties(final XmlElement root)
       throws GameParseException, EngineVersionException {
     // mandatory fields
     // get the name of the map
@@ -167,52 +168,52 @@ public final class GameParser {
       }
     }
     parseDiceSides(getSingleChild("diceSides", root, true));
-    final Element playerListNode = getSingleChild("playerList", root);
+    final XmlElement playerListNode = getSingleChild("playerList", root);
     parsePlayerList(playerListNode);
     parseAlliances(playerListNode);
-    final Node properties = getSingleChild("propertyList", root, true);
+    final XmlElement properties = getSingleChild("propertyList", root, true);
     if (properties != null) {
       parseProperties(properties);
     }
   }
 
-  private void parseMapDetails(final Element root) throws GameParseException {
+  private void parseMapDetails(final XmlElement root) throws GameParseException {
     final Map<String, List<String>> variables = variableParser.parseVariables(root);
     parseMap(getSingleChild("map", root));
-    final Element resourceList = getSingleChild("resourceList", root, true);
+    final XmlElement resourceList = getSingleChild("resourceList", root, true);
     if (resourceList != null) {
       parseResources(resourceList);
     }
-    final Element unitList = getSingleChild("unitList", root, true);
+    final XmlElement unitList = getSingleChild("unitList", root, true);
     if (unitList != null) {
       parseUnits(unitList);
     }
     // Parse all different relationshipTypes that are defined in the xml, for example: War, Allied,
     // Neutral, NAP
-    final Element relationshipTypes = getSingleChild("relationshipTypes", root, true);
+    final XmlElement relationshipTypes = getSingleChild("relationshipTypes", root, true);
     if (relationshipTypes != null) {
       parseRelationshipTypes(relationshipTypes);
     }
-    final Element territoryEffectList = getSingleChild("territoryEffectList", root, true);
+    final XmlElement territoryEffectList = getSingleChild("territoryEffectList", root, true);
     if (territoryEffectList != null) {
       parseTerritoryEffects(territoryEffectList);
     }
     parseGamePlay(getSingleChild("gamePlay", root));
-    final Element production = getSingleChild("production", root, true);
+    final XmlElement production = getSingleChild("production", root, true);
     if (production != null) {
       parseProduction(production);
     }
-    final Element technology = getSingleChild("technology", root, true);
+    final XmlElement technology = getSingleChild("technology", root, true);
     if (technology != null) {
       parseTechnology(technology);
     } else {
       TechAdvance.createDefaultTechAdvances(data);
     }
-    final Element attachmentList = getSingleChild("attachmentList", root, true);
+    final XmlElement attachmentList = getSingleChild("attachmentList", root, true);
     if (attachmentList != null) {
       parseAttachments(attachmentList, variables);
     }
-    final Node initialization = getSingleChild("initialize", root, true);
+    final XmlElement initialization = getSingleChild("initialize", root, true);
     if (initialization != null) {
       parseInitialization(initialization);
     }
@@ -236,21 +237,21 @@ public final class GameParser {
     }
   }
 
-  private void parseDiceSides(final Node diceSides) {
+  private void parseDiceSides(final XmlElement diceSides) {
     if (diceSides == null) {
       data.setDiceSides(6);
     } else {
-      data.setDiceSides(Integer.parseInt(((Element) diceSides).getAttribute("value")));
+      data.setDiceSides(Integer.parseInt(diceSides.getAttribute("value")));
     }
   }
 
-  private void parseMinimumEngineVersionNumber(final Node minimumVersion)
+  private void parseMinimumEngineVersionNumber(final XmlElement minimumVersion)
       throws EngineVersionException {
     if (minimumVersion == null) {
       return;
     }
     final Version mapMinimumEngineVersion =
-        new Version(((Element) minimumVersion).getAttribute("minimumVersion"));
+        new Version(minimumVersion.getAttribute("minimumVersion"));
     if (!ClientContext.engineVersion()
         .isCompatibleWithMapMinimumEngineVersion(mapMinimumEngineVersion)) {
       throw new EngineVersionException(
@@ -311,7 +312,7 @@ public final class GameParser {
   }
 
   private <T> T getValidatedObject(
-      final Element element,
+      final XmlElement element,
       final String attribute,
       final boolean mustFind,
       final Function<String, T> function,
@@ -340,7 +341,7 @@ public final class GameParser {
 
   /** If mustfind is true and cannot find the player an exception will be thrown. */
   private GamePlayer getPlayerId(
-      final Element element, final String attribute, final boolean mustFind)
+      final XmlElement element, final String attribute, final boolean mustFind)
       throws GameParseException {
     return getValidatedObject(
         element, attribute, mustFind, data.getPlayerList()::getPlayerId, "player");
@@ -357,7 +358,7 @@ public final class GameParser {
    * @return a RelationshipType from the relationshipTypeList, at this point all relationshipTypes
    *     should have been declared
    */
-  private RelationshipType getRelationshipType(final Element element, final String attribute)
+  private RelationshipType getRelationshipType(final XmlElement element, final String attribute)
       throws GameParseException {
     return getValidatedObject(
         element, attribute, true, data.getRelationshipTypeList()::getRelationshipType, "relation");
@@ -368,13 +369,13 @@ public final class GameParser {
   }
 
   /** If cannot find the productionRule an exception will be thrown. */
-  private ProductionRule getProductionRule(final Element element) throws GameParseException {
+  private ProductionRule getProductionRule(final XmlElement element) throws GameParseException {
     return getValidatedObject(
         element, "name", true, data.getProductionRuleList()::getProductionRule, "production rule");
   }
 
   /** If cannot find the repairRule an exception will be thrown. */
-  private RepairRule getRepairRule(final Element element) throws GameParseException {
+  private RepairRule getRepairRule(final XmlElement element) throws GameParseException {
     return getValidatedObject(
         element, "name", true, data.getRepairRules()::getRepairRule, "repair rule");
   }
@@ -384,7 +385,7 @@ public final class GameParser {
   }
 
   /** If cannot find the territory an exception will be thrown. */
-  private Territory getTerritory(final Element element, final String attribute)
+  private Territory getTerritory(final XmlElement element, final String attribute)
       throws GameParseException {
     return getValidatedObject(element, attribute, true, data.getMap()::getTerritory, "territory");
   }
@@ -395,7 +396,7 @@ public final class GameParser {
 
   /** If mustfind is true and cannot find the unitType an exception will be thrown. */
   private UnitType getUnitType(
-      final Element element, final String attribute, final boolean mustFind)
+      final XmlElement element, final String attribute, final boolean mustFind)
       throws GameParseException {
     return getValidatedObject(
         element, attribute, mustFind, data.getUnitTypeList()::getUnitType, "unitType");
@@ -415,7 +416,7 @@ public final class GameParser {
   }
 
   /** If cannot find the Delegate an exception will be thrown. */
-  private IDelegate getDelegate(final Element element) throws GameParseException {
+  private IDelegate getDelegate(final XmlElement element) throws GameParseException {
     return getValidatedObject(element, "delegate", true, data::getDelegate, "delegate");
   }
 
@@ -425,14 +426,14 @@ public final class GameParser {
 
   /** If mustfind is true and cannot find the Resource an exception will be thrown. */
   private Resource getResource(
-      final Element element, final String attribute, final boolean mustFind)
+      final XmlElement element, final String attribute, final boolean mustFind)
       throws GameParseException {
     return getValidatedObject(
         element, attribute, mustFind, data.getResourceList()::getResource, "resource");
   }
 
   /** If cannot find the productionRule an exception will be thrown. */
-  private ProductionFrontier getProductionFrontier(final Element element)
+  private ProductionFrontier getProductionFrontier(final XmlElement element)
       throws GameParseException {
     return getValidatedObject(
         element,
@@ -443,7 +444,7 @@ public final class GameParser {
   }
 
   /** If cannot find the repairFrontier an exception will be thrown. */
-  private RepairFrontier getRepairFrontier(final Element element) throws GameParseException {
+  private RepairFrontier getRepairFrontier(final XmlElement element) throws GameParseException {
     return getValidatedObject(
         element,
         "frontier",
@@ -453,12 +454,14 @@ public final class GameParser {
   }
 
   /** Get the given child. If there is not exactly one child throws a GameParseException */
-  private Element getSingleChild(final String name, final Element node) throws GameParseException {
+  private XmlElement getSingleChild(final String name, final XmlElement node)
+      throws GameParseException {
     return nodeFinder.getSingleChild(name, node);
   }
 
   /** If optional is true, will not throw an exception if there are 0 children. */
-  private Element getSingleChild(final String name, final Node node, final boolean optional)
+  private XmlElement getSingleChild(
+      final String name, final XmlElement node, final boolean optional)
       throws GameParseException {
     if (optional) {
       return nodeFinder.getOptionalSingleChild(name, node);
@@ -466,48 +469,40 @@ public final class GameParser {
     return nodeFinder.getSingleChild(name, node);
   }
 
-  private List<Element> getChildren(final String name, final Node node) {
+  private List<XmlElement> getChildren(final String name, final XmlElement node) {
     return nodeFinder.getChildren(name, node);
   }
 
-  private static List<Node> getNonTextNodesIgnoringValue(final Node node) {
-    final List<Node> nonTextNodes = getNonTextNodes(node);
-    nonTextNodes.removeIf(node1 -> ((Element) node1).getTagName().equals("value"));
-    return nonTextNodes;
-  }
-
-  private static List<Node> getNonTextNodes(final Node node) {
-    final NodeList children = node.getChildNodes();
-    return IntStream.range(0, children.getLength())
-        .mapToObj(children::item)
-        .filter(current -> !(current.getNodeType() == Node.TEXT_NODE))
-        .collect(Collectors.toList());
+  private static List<XmlElement> getChildrenIgnoringValue(final XmlElement node) {
+    final List<XmlElement> children = new ArrayList<>(node.getChildren());
+    children.removeIf(child -> child.getNodeName().equals("value"));
+    return children;
   }
 
-  private void parseInfo(final Node info) {
-    final String gameName = ((Element) info).getAttribute("name");
+  private void parseInfo(final XmlElement info) {
+    final String gameName = info.getAttribute("name");
     data.setGameName(gameName);
-    final String version = ((Element) info).getAttribute("version");
+    final String version = info.getAttribute("version");
     data.setGameVersion(new Version(version));
   }
 
-  private void parseMap(final Node map) throws GameParseException {
-    final List<Element> grids = getChildren("grid", map);
+  private void parseMap(final XmlElement map) throws GameParseException {
+    final List<XmlElement> grids = getChildren("grid", map);
     parseGrids(grids);
     // get the Territories
-    final List<Element> territories = getChildren("territory", map);
+    final List<XmlElement> territories = getChildren("territory", map);
     parseTerritories(territories);
-    final List<Element> connections = getChildren("connection", map);
+    final List<XmlElement> connections = getChildren("connection", map);
     parseConnections(connections);
   }
 
-  private void parseGrids(final List<Element> grids) throws GameParseException {
-    for (final Element current : grids) {
+  private void parseGrids(final List<XmlElement> grids) throws GameParseException {
+    for (final XmlElement current : grids) {
       final String gridType = current.getAttribute("type");
       final String name = current.getAttribute("name");
       final String xs = current.getAttribute("x");
       final String ys = current.getAttribute("y");
-      final List<Element> waterNodes = getChildren("water", current);
+      final List<XmlElement> waterNodes = getChildren("water", current);
       final Set<String> water = parseGridWater(waterNodes);
       final String horizontalConnections = current.getAttribute("horizontal-connections");
       final String verticalConnections = current.getAttribute("vertical-connections");
@@ -689,9 +684,9 @@ public final class GameParser {
     }
   }
 
-  private static Set<String> parseGridWater(final List<Element> waterNodes) {
+  private static Set<String> parseGridWater(final List<XmlElement> waterNodes) {
     final Set<String> set = new HashSet<>();
-    for (final Element current : waterNodes) {
+    for (final XmlElement current : waterNodes) {
       final int x = Integer.parseInt(current.getAttribute("x"));
       final int y = Integer.parseInt(current.getAttribute("y"));
       set.add(x + "-" + y);
@@ -699,9 +694,9 @@ public final class GameParser {
     return set;
   }
 
-  private void parseTerritories(final List<Element> territories) {
+  private void parseTerritories(final List<XmlElement> territories) {
     final GameMap map = data.getMap();
-    for (final Element current : territories) {
+    for (final XmlElement current : territories) {
       final boolean water = current.getAttribute("water").trim().equalsIgnoreCase("true");
       final String name = current.getAttribute("name");
       final Territory newTerritory = new Territory(name, water, data);
@@ -709,17 +704,17 @@ public final class GameParser {
     }
   }
 
-  private void parseConnections(final List<Element> connections) throws GameParseException {
+  private void parseConnections(final List<XmlElement> connections) throws GameParseException {
     final GameMap map = data.getMap();
-    for (final Element current : connections) {
+    for (final XmlElement current : connections) {
       final Territory t1 = getTerritory(current, "t1");
       final Territory t2 = getTerritory(current, "t2");
       map.addConnection(t1, t2);
     }
   }
 
-  private void parseResources(final Element root) throws GameParseException {
-    for (final Element element : getChildren("resource", root)) {
+  private void parseResources(final XmlElement root) throws GameParseException {
+    for (final XmlElement element : getChildren("resource", root)) {
       final String name = element.getAttribute("name");
       final String isDisplayedFor = element.getAttribute("isDisplayedFor");
       if (isDisplayedFor.isEmpty()) {
@@ -748,29 +743,29 @@ public final class GameParser {
     return players;
   }
 
-  private void parseRelationshipTypes(final Element root) {
+  private void parseRelationshipTypes(final XmlElement root) {
     getChildren("relationshipType", root).stream()
         .map(e -> e.getAttribute("name"))
         .map(name -> new RelationshipType(name, data))
         .forEach(data.getRelationshipTypeList()::addRelationshipType);
   }
 
-  private void parseTerritoryEffects(final Element root) {
+  private void parseTerritoryEffects(final XmlElement root) {
     getChildren("territoryEffect", root).stream()
         .map(e -> e.getAttribute("name"))
         .forEach(name -> data.getTerritoryEffectList().put(name, new TerritoryEffect(name, data)));
   }
 
-  private void parseUnits(final Element root) {
+  private void parseUnits(final XmlElement root) {
     getChildren("unit", root).stream()
         .map(e -> e.getAttribute("name"))
         .map(name -> new UnitType(name, data))
         .forEach(data.getUnitTypeList()::addUnitType);
   }
 
-  private void parsePlayerList(final Element root) {
+  private void parsePlayerList(final XmlElement root) {
     final PlayerList playerList = data.getPlayerList();
-    for (final Element current : getChildren("player", root)) {
+    for (final XmlElement current : getChildren("player", root)) {
       final String name = current.getAttribute("name");
       final boolean isOptional = current.getAttribute("optional").equals("true");
       final boolean canBeDisabled = current.getAttribute("canBeDisabled").equals("true");
@@ -782,10 +777,10 @@ public final class GameParser {
     }
   }
 
-  private void parseAlliances(final Element root) throws GameParseException {
+  private void parseAlliances(final XmlElement root) throws GameParseException {
     final AllianceTracker allianceTracker = data.getAllianceTracker();
     final Collection<GamePlayer> players = data.getPlayerList().getPlayers();
-    for (final Element current : getChildren("alliance", root)) {
+    for (final XmlElement current : getChildren("alliance", root)) {
       final GamePlayer p1 = getPlayerId(current, "player", true);
       final String alliance = current.getAttribute("alliance");
       allianceTracker.addToAlliance(p1, alliance);
@@ -820,10 +815,10 @@ public final class GameParser {
     }
   }
 
-  private void parseRelationInitialize(final List<Element> relations) throws GameParseException {
+  private void parseRelationInitialize(final List<XmlElement> relations) throws GameParseException {
     if (!relations.isEmpty()) {
       final RelationshipTracker tracker = data.getRelationshipTracker();
-      for (final Element current : relations) {
+      for (final XmlElement current : relations) {
         final GamePlayer p1 = getPlayerId(current, "player1", true);
         final GamePlayer p2 = getPlayerId(current, "player2", true);
         final RelationshipType r = getRelationshipType(current, "type");
@@ -833,22 +828,22 @@ public final class GameParser {
     }
   }
 
-  private void parseGamePlay(final Element root) throws GameParseException {
+  private void parseGamePlay(final XmlElement root) throws GameParseException {
     parseDelegates(getChildren("delegate", root));
     parseSequence(getSingleChild("sequence", root));
     parseOffset(getSingleChild("offset", root, true));
   }
 
-  private void parseProperties(final Node root) throws GameParseException {
+  private void parseProperties(final XmlElement root) throws GameParseException {
     final GameProperties properties = data.getProperties();
-    for (final Element current : getChildren("property", root)) {
+    for (final XmlElement current : getChildren("property", root)) {
       final String editable = current.getAttribute("editable");
       final String property = current.getAttribute("name");
       String value = current.getAttribute("value");
       if (value == null || value.length() == 0) {
-        final List<Element> valueChildren = getChildren("value", current);
+        final List<XmlElement> valueChildren = getChildren("value", current);
         if (!valueChildren.isEmpty()) {
-          final Element valueNode = valueChildren.get(0);
+          final XmlElement valueNode = valueChildren.get(0);
           if (valueNode != null) {
             value = valueNode.getTextContent();
           }
@@ -857,7 +852,7 @@ public final class GameParser {
       if (editable != null && editable.equalsIgnoreCase("true")) {
         parseEditableProperty(current, property, value);
       } else {
-        final List<Node> children2 = getNonTextNodesIgnoringValue(current);
+        final List<XmlElement> children2 = getChildrenIgnoringValue(current);
         if (children2.isEmpty()) {
           // we don't know what type this property is!!, it appears like only numbers and string may
           // be represented without proper type definition
@@ -917,10 +912,10 @@ public final class GameParser {
   }
 
   private void parseEditableProperty(
-      final Element property, final String name, final String defaultValue)
+      final XmlElement property, final String name, final String defaultValue)
       throws GameParseException {
     // what type
-    final List<Node> children = getNonTextNodes(property);
+    final List<XmlElement> children = property.getChildren();
     if (children.size() != 1) {
       throw newGameParseException(
           "Editable properties must have exactly 1 child specifying the type. "
@@ -929,7 +924,7 @@ public final class GameParser {
               + " for node:"
               + property.getNodeName());
     }
-    final Element child = (Element) children.get(0);
+    final XmlElement child = children.get(0);
     final String childName = child.getNodeName();
     final IEditableProperty<?> editableProperty;
     switch (childName) {
@@ -956,16 +951,16 @@ public final class GameParser {
     data.getProperties().addEditableProperty(editableProperty);
   }
 
-  private void parseOffset(final Node offsetAttributes) {
+  private void parseOffset(final XmlElement offsetAttributes) {
     if (offsetAttributes == null) {
       return;
     }
-    final int roundOffset = Integer.parseInt(((Element) offsetAttributes).getAttribute("round"));
+    final int roundOffset = Integer.parseInt(offsetAttributes.getAttribute("round"));
     data.getSequence().setRoundOffset(roundOffset);
   }
 
-  private void parseDelegates(final List<Element> delegateList) throws GameParseException {
-    for (final Element current : delegateList) {
+  private void parseDelegates(final List<XmlElement> delegateList) throws GameParseException {
+    for (final XmlElement current : delegateList) {
       // load the class
       final String className = current.getAttribute("javaClass");
       final IDelegate delegate =
@@ -983,17 +978,17 @@ public final class GameParser {
     }
   }
 
-  private void parseSequence(final Node sequence) throws GameParseException {
+  private void parseSequence(final XmlElement sequence) throws GameParseException {
     parseSteps(getChildren("step", sequence));
   }
 
-  private void parseSteps(final List<Element> stepList) throws GameParseException {
-    for (final Element current : stepList) {
+  private void parseSteps(final List<XmlElement> stepList) throws GameParseException {
+    for (final XmlElement current : stepList) {
       final IDelegate delegate = getDelegate(current);
       final GamePlayer player = getPlayerId(current, "player", false);
       final String name = current.getAttribute("name");
       String displayName = null;
-      final List<Element> propertyElements = getChildren("stepProperty", current);
+      final List<XmlElement> propertyElements = getChildren("stepProperty", current);
       final Properties stepProperties = parseStepProperties(propertyElements);
       if (current.hasAttribute("display")) {
         displayName = current.getAttribute("display");
@@ -1010,9 +1005,9 @@ public final class GameParser {
     }
   }
 
-  private static Properties parseStepProperties(final List<Element> properties) {
+  private static Properties parseStepProperties(final List<XmlElement> properties) {
     final Properties stepProperties = new Properties();
-    for (final Element stepProperty : properties) {
+    for (final XmlElement stepProperty : properties) {
       final String name = stepProperty.getAttribute("name");
       final String value = stepProperty.getAttribute("value");
       stepProperties.setProperty(name, value);
@@ -1020,7 +1015,7 @@ public final class GameParser {
     return stepProperties;
   }
 
-  private void parseProduction(final Node root) throws GameParseException {
+  private void parseProduction(final XmlElement root) throws GameParseException {
     parseProductionRules(getChildren("productionRule", root));
     parseProductionFrontiers(getChildren("productionFrontier", root));
     parsePlayerProduction(getChildren("playerProduction", root));
@@ -1029,13 +1024,13 @@ public final class GameParser {
     parsePlayerRepair(getChildren("playerRepair", root));
   }
 
-  private void parseTechnology(final Node root) throws GameParseException {
+  private void parseTechnology(final XmlElement root) throws GameParseException {
     parseTechnologies(getSingleChild("technologies", root, true));
     parsePlayerTech(getChildren("playerTech", root));
   }
 
-  private void parseProductionRules(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parseProductionRules(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final String name = current.getAttribute("name");
       final ProductionRule rule = new ProductionRule(name, data);
       parseCosts(rule, getChildren("cost", current));
@@ -1044,8 +1039,8 @@ public final class GameParser {
     }
   }
 
-  private void parseRepairRules(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parseRepairRules(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final String name = current.getAttribute("name");
       final RepairRule rule = new RepairRule(name, data);
       parseRepairCosts(rule, getChildren("cost", current));
@@ -1054,36 +1049,36 @@ public final class GameParser {
     }
   }
 
-  private void parseCosts(final ProductionRule rule, final List<Element> elements)
+  private void parseCosts(final ProductionRule rule, final List<XmlElement> elements)
       throws GameParseException {
     if (elements.isEmpty()) {
       throw newGameParseException("no costs  for rule:" + rule.getName());
     }
-    for (final Element current : elements) {
+    for (final XmlElement current : elements) {
       final Resource resource = getResource(current, "resource", true);
       final int quantity = Integer.parseInt(current.getAttribute("quantity"));
       rule.addCost(resource, quantity);
     }
   }
 
-  private void parseRepairCosts(final RepairRule rule, final List<Element> elements)
+  private void parseRepairCosts(final RepairRule rule, final List<XmlElement> elements)
       throws GameParseException {
     if (elements.isEmpty()) {
       throw newGameParseException("no costs  for rule:" + rule.getName());
     }
-    for (final Element current : elements) {
+    for (final XmlElement current : elements) {
       final Resource resource = getResource(current, "resource", true);
       final int quantity = Integer.parseInt(current.getAttribute("quantity"));
       rule.addCost(resource, quantity);
     }
   }
 
-  private void parseResults(final ProductionRule rule, final List<Element> elements)
+  private void parseResults(final ProductionRule rule, final List<XmlElement> elements)
       throws GameParseException {
     if (elements.isEmpty()) {
       throw newGameParseException("no results  for rule:" + rule.getName());
     }
-    for (final Element current : elements) {
+    for (final XmlElement current : elements) {
       // must find either a resource or a unit with the given name
       NamedAttachable result = getResource(current, "resourceOrUnit", false);
       if (result == null) {
@@ -1098,12 +1093,12 @@ public final class GameParser {
     }
   }
 
-  private void parseRepairResults(final RepairRule rule, final List<Element> elements)
+  private void parseRepairResults(final RepairRule rule, final List<XmlElement> elements)
       throws GameParseException {
     if (elements.isEmpty()) {
       throw newGameParseException("no results  for rule:" + rule.getName());
     }
-    for (final Element current : elements) {
+    for (final XmlElement current : elements) {
       // must find either a resource or a unit with the given name
       NamedAttachable result = getResource(current, "resourceOrUnit", false);
       if (result == null) {
@@ -1118,9 +1113,9 @@ public final class GameParser {
     }
   }
 
-  private void parseProductionFrontiers(final List<Element> elements) throws GameParseException {
+  private void parseProductionFrontiers(final List<XmlElement> elements) throws GameParseException {
     final ProductionFrontierList frontiers = data.getProductionFrontierList();
-    for (final Element current : elements) {
+    for (final XmlElement current : elements) {
       final String name = current.getAttribute("name");
       final ProductionFrontier frontier = new ProductionFrontier(name, data);
       parseFrontierRules(getChildren("frontierRules", current), frontier);
@@ -1128,7 +1123,7 @@ public final class GameParser {
     }
   }
 
-  private void parseTechnologies(final Node element) {
+  private void parseTechnologies(final XmlElement element) {
     if (element == null) {
       return;
     }
@@ -1136,8 +1131,8 @@ public final class GameParser {
     parseTechs(getChildren("techname", element), allTechs);
   }
 
-  private void parsePlayerTech(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parsePlayerTech(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final GamePlayer player = getPlayerId(current, "player", true);
       final TechnologyFrontierList categories = player.getTechnologyFrontierList();
       parseCategories(getChildren("category", current), categories);
@@ -1145,18 +1140,18 @@ public final class GameParser {
   }
 
   private void parseCategories(
-      final List<Element> elements, final TechnologyFrontierList categories)
+      final List<XmlElement> elements, final TechnologyFrontierList categories)
       throws GameParseException {
-    for (final Element current : elements) {
+    for (final XmlElement current : elements) {
       final TechnologyFrontier tf = new TechnologyFrontier(current.getAttribute("name"), data);
       parseCategoryTechs(getChildren("tech", current), tf);
       categories.addTechnologyFrontier(tf);
     }
   }
 
-  private void parseRepairFrontiers(final List<Element> elements) throws GameParseException {
+  private void parseRepairFrontiers(final List<XmlElement> elements) throws GameParseException {
     final RepairFrontierList frontiers = data.getRepairFrontierList();
-    for (final Element current : elements) {
+    for (final XmlElement current : elements) {
       final String name = current.getAttribute("name");
       final RepairFrontier frontier = new RepairFrontier(name, data);
       parseRepairFrontierRules(getChildren("repairRules", current), frontier);
@@ -1164,31 +1159,33 @@ public final class GameParser {
     }
   }
 
-  private void parsePlayerProduction(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parsePlayerProduction(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final GamePlayer player = getPlayerId(current, "player", true);
       final ProductionFrontier frontier = getProductionFrontier(current);
       player.setProductionFrontier(frontier);
     }
   }
 
-  private void parsePlayerRepair(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parsePlayerRepair(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final GamePlayer player = getPlayerId(current, "player", true);
       final RepairFrontier repairFrontier = getRepairFrontier(current);
       player.setRepairFrontier(repairFrontier);
     }
   }
 
-  private void parseFrontierRules(final List<Element> elements, final ProductionFrontier frontier)
+  private void parseFrontierRules(
+      final List<XmlElement> elements, final ProductionFrontier frontier)
       throws GameParseException {
-    for (final Element element : elements) {
+    for (final XmlElement element : elements) {
       frontier.addRule(getProductionRule(element));
     }
   }
 
-  private void parseTechs(final List<Element> elements, final TechnologyFrontier allTechsFrontier) {
-    for (final Element current : elements) {
+  private void parseTechs(
+      final List<XmlElement> elements, final TechnologyFrontier allTechsFrontier) {
+    for (final XmlElement current : elements) {
       final String name = current.getAttribute("name");
       final String tech = current.getAttribute("tech");
       TechAdvance ta;
@@ -1207,9 +1204,10 @@ public final class GameParser {
     }
   }
 
-  private void parseCategoryTechs(final List<Element> elements, final TechnologyFrontier frontier)
+  private void parseCategoryTechs(
+      final List<XmlElement> elements, final TechnologyFrontier frontier)
       throws GameParseException {
-    for (final Element current : elements) {
+    for (final XmlElement current : elements) {
       TechAdvance ta =
           data.getTechnologyFrontier().getAdvanceByProperty(current.getAttribute("name"));
       if (ta == null) {
@@ -1222,19 +1220,23 @@ public final class GameParser {
     }
   }
 
-  private void parseRepairFrontierRules(final List<Element> elements, final RepairFrontier frontier)
+  private void parseRepairFrontierRules(
+      final List<XmlElement> elements, final RepairFrontier frontier)
       throws GameParseException {
-    for (final Element element : elements) {
+    for (final XmlElement element : elements) {
       frontier.addRule(getRepairRule(element));
     }
   }
 
-  private void parseAttachments(final Element root, final Map<String, List<String>> variables)
+  private void parseAttachments(final XmlElement root, final Map<String, List<String>> variables)
       throws GameParseException {
-    for (final Element current : getChildren("attachment", root)) {
+    // the values of each variable as used in option values, joined once for all attachments
+    final Map<String, String> variableValues = new LinkedHashMap<>();
+    variables.forEach((name, values) -> variableValues.put(name, String.join(":", values)));
+    for (final XmlElement current : getChildren("attachment", root)) {
       final String foreach = current.getAttribute("foreach");
       if (foreach.isEmpty()) {
-        parseAttachment(current, variables, Map.of());
+        parseAttachment(current, variableValues, Map.of());
       } else {
         final List<String> nestedForeach = Splitter.on("^").splitToList(foreach);
         if (nestedForeach.isEmpty() || nestedForeach.size() > 2) {
@@ -1254,14 +1256,14 @@ public final class GameParser {
           final Map<String, String> foreachMap1 =
               createForeachVariablesMap(foreachVariables1, i, variables);
           if (foreachVariables2.isEmpty()) {
-            parseAttachment(current, variables, foreachMap1);
+            parseAttachment(current, variableValues, foreachMap1);
           } else {
             final int length2 = variables.get(foreachVariables2.get(0)).size();
             for (int j = 0; j < length2; j++) {
               final Map<String, String> foreachMap2 =
                   createForeachVariablesMap(foreachVariables2, j, variables);
               foreachMap2.putAll(foreachMap1);
-              parseAttachment(current, variables, foreachMap2);
+              parseAttachment(current, variableValues, foreachMap2);
             }
           }
         }
@@ -1303,8 +1305,8 @@ public final class GameParser {
   }
 
   private void parseAttachment(
-      final Element current,
-      final Map<String, List<String>> variables,
+      final XmlElement current,
+      final Map<String, String> variableValues,
       final Map<String, String> foreach)
       throws GameParseException {
     final String className = current.getAttribute("javaClass");
@@ -1318,15 +1320,15 @@ public final class GameParser {
                     newGameParseException(
                         "Attachment of type " + className + " could not be instantiated"));
     attachable.addAttachment(name, attachment);
-    final List<Element> options = getChildren("option", current);
+    final List<XmlElement> options = getChildren("option", current);
     final List<Tuple<String, String>> attachmentOptionValues =
-        setOptions(attachment, options, foreach, variables);
+        setOptions(attachment, options, foreach, variableValues);
     // keep a list of attachment references in the order they were added
     data.addToAttachmentOrderAndValues(Tuple.of(attachment, attachmentOptionValues));
   }
 
   private Attachable findAttachment(
-      final Element element, final String type, final Map<String, String> foreach)
+      final XmlElement element, final String type, final Map<String, String> foreach)
       throws GameParseException {
     final String attachTo = replaceForeachVariables(element.getAttribute("attachTo"), foreach);
     switch (type) {
@@ -1351,12 +1353,12 @@ public final class GameParser {
 
   private List<Tuple<String, String>> setOptions(
       final IAttachment attachment,
-      final List<Element> options,
+      final List<XmlElement> options,
       final Map<String, String> foreach,
-      final Map<String, List<String>> variables)
+      final Map<String, String> variableValues)
       throws GameParseException {
     final List<Tuple<String, String>> results = new ArrayList<>();
-    for (final Element option : options) {
+    for (final XmlElement option : options) {
       // decapitalize the property name for backwards compatibility
       final String name = decapitalize(option.getAttribute("name"));
       if (name.isEmpty()) {
@@ -1370,7 +1372,7 @@ public final class GameParser {
         continue; // Skip adding option if contains empty foreach variable
       }
       final String valueWithForeach = replaceForeachVariables(countAndValue, foreach);
-      final String finalValue = replaceVariables(valueWithForeach, variables);
+      final String finalValue = replaceVariables(valueWithForeach, variableValues);
       try {
         attachment
             .getProperty(name)
@@ -1394,6 +1396,9 @@ public final class GameParser {
   }
 
   private String replaceForeachVariables(final String s, final Map<String, String> foreach) {
+    if (s.indexOf('@') < 0) {
+      return s;
+    }
     String result = s;
     for (final Entry<String, String> entry : foreach.entrySet()) {
       result = result.replace(entry.getKey(), entry.getValue());
@@ -1410,10 +1415,13 @@ public final class GameParser {
     return false;
   }
 
-  private String replaceVariables(final String s, final Map<String, List<String>> variables) {
+  private String replaceVariables(final String s, final Map<String, String> variableValues) {
+    if (s.indexOf('$') < 0) {
+      return s;
+    }
     String result = s;
-    for (final Entry<String, List<String>> entry : variables.entrySet()) {
-      result = result.replace(entry.getKey(), String.join(":", entry.getValue()));
+    for (final Entry<String, String> entry : variableValues.entrySet()) {
+      result = result.replace(entry.getKey(), entry.getValue());
     }
     return result;
   }
@@ -1424,32 +1432,32 @@ public final class GameParser {
         + ((value.length() > 1) ? value.substring(1) : "");
   }
 
-  private void parseInitialization(final Node root) throws GameParseException {
+  private void parseInitialization(final XmlElement root) throws GameParseException {
     // parse territory owners
-    final Node owner = getSingleChild("ownerInitialize", root, true);
+    final XmlElement owner = getSingleChild("ownerInitialize", root, true);
     if (owner != null) {
       parseOwner(getChildren("territoryOwner", owner));
     }
     // parse initial unit placement
-    final Node unit = getSingleChild("unitInitialize", root, true);
+    final XmlElement unit = getSingleChild("unitInitialize", root, true);
     if (unit != null) {
       parseUnitPlacement(getChildren("unitPlacement", unit));
       parseHeldUnits(getChildren("heldUnits", unit));
     }
     // parse resources given
-    final Node resource = getSingleChild("resourceInitialize", root, true);
+    final XmlElement resource = getSingleChild("resourceInitialize", root, true);
     if (resource != null) {
       parseResourceInitialization(getChildren("resourceGiven", resource));
     }
     // parse relationships
-    final Node relationInitialize = getSingleChild("relationshipInitialize", root, true);
+    final XmlElement relationInitialize = getSingleChild("relationshipInitialize", root, true);
     if (relationInitialize != null) {
       parseRelationInitialize(getChildren("relationship", relationInitialize));
     }
   }
 
-  private void parseOwner(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parseOwner(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final Territory territory = getTerritory(current, "territory");
       final GamePlayer owner = getPlayerId(current, "owner", true);
       territory.setOwner(owner);
@@ -1479,8 +1487,8 @@ public final class GameParser {
     }
   }
 
-  private void parseUnitPlacement(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parseUnitPlacement(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final Territory territory = getTerritory(current, "territory");
       final UnitType type = getUnitType(current, "unitType", true);
       final String ownerString = current.getAttribute("owner");
@@ -1516,8 +1524,8 @@ public final class GameParser {
     }
   }
 
-  private void parseHeldUnits(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parseHeldUnits(final List<XmlElement> elements) throws GameParseException {
+    for (final XmlElement current : elements) {
       final GamePlayer player = getPlayerId(current, "player", true);
       final UnitType type = getUnitType(current, "unitType", true);
       final int quantity = Integer.parseInt(current.getAttribute("quantity"));
@@ -1525,8 +1533,9 @@ public final class GameParser {
     }
   }
 
-  private void parseResourceInitialization(final List<Element> elements) throws GameParseException {
-    for (final Element current : elements) {
+  private void parseResourceInitialization(final List<XmlElement> elements)
+      throws GameParseException {
+    for (final XmlElement current : elements) {
       final GamePlayer player = getPlayerId(current, "player", true);
       final Resource resource = getResource(current, "resource", true);
       final int quantity = Integer.parseInt(current.getAttribute("quantity"));
@@ -52,6 +52,23 @@ public class GameSequence extends GameDataComponent implements Iterable<GameStep
     }
   }
 
+  /**
+   * Returns the current round, not including the round offset. This is the value to pass to {@link
+   * #restorePosition(int, int)}.
+   */
+  public int getRoundWithoutOffset() {
+    return round;
+  }
+
+  /**
+   * Moves the sequence to the given round (not including the round offset) and step index. Used to
+   * restore the position of the sequence when replaying an auto-save journal.
+   */
+  public synchronized void restorePosition(final int round, final int stepIndex) {
+    setStepIndex(stepIndex);
+    this.round = round;
+  }
+
   public void addStep(final GameStep step) {
     steps.add(step);
   }
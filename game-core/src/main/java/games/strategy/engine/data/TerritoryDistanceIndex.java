@@ -0,0 +1,138 @@
+package games.strategy.engine.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * An immutable, integer-indexed copy of the connections of a {@link GameMap} that answers distance
+ * queries with array lookups.
+ *
+ * <p>Territories are assigned dense ids and their connections are stored in compressed sparse row
+ * form. Distances from a territory are computed with a single breadth-first search the first time
+ * they are needed and cached for the lifetime of the index. Only conditions that never change
+ * during a game are supported (see {@link Mode}), so cached distances only become stale when the
+ * connections themselves change.
+ */
+@ThreadSafe
+final class TerritoryDistanceIndex {
+  static final int UNREACHABLE = -1;
+
+  /** The fixed conditions that territories covered by a route must match. */
+  enum Mode {
+    ALL(t -> true),
+    LAND(t -> !t.isWater()),
+    WATER(Territory::isWater);
+
+    private final Predicate<Territory> condition;
+
+    Mode(final Predicate<Territory> condition) {
+      this.condition = condition;
+    }
+  }
+
+  private final List<Territory> territories;
+  private final Map<Territory, Integer> ids;
+  // neighbors of the territory with id i are neighbors[offsets[i]] to neighbors[offsets[i + 1] - 1]
+  private final int[] offsets;
+  private final int[] neighbors;
+  private final Map<Mode, boolean[]> allowed = new EnumMap<>(Mode.class);
+  private final Map<Mode, AtomicReferenceArray<int[]>> distances = new EnumMap<>(Mode.class);
+
+  TerritoryDistanceIndex(
+      final List<Territory> territories, final Map<Territory, Set<Territory>> connections) {
+    this.territories = new ArrayList<>(territories);
+    ids = new HashMap<>(territories.size() * 2);
+    for (int i = 0; i < territories.size(); i++) {
+      ids.put(territories.get(i), i);
+    }
+    offsets = new int[territories.size() + 1];
+    final int connectionCount = connections.values().stream().mapToInt(Collection::size).sum();
+    neighbors = new int[connectionCount];
+    int next = 0;
+    for (int i = 0; i < territories.size(); i++) {
+      offsets[i] = next;
+      for (final Territory neighbor : connections.get(territories.get(i))) {
+        neighbors[next++] = ids.get(neighbor);
+      }
+    }
+    offsets[territories.size()] = next;
+    for (final Mode mode : Mode.values()) {
+      final boolean[] allowedForMode = new boolean[territories.size()];
+      for (int i = 0; i < territories.size(); i++) {
+        allowedForMode[i] = mode.condition.test(territories.get(i));
+      }
+      allowed.put(mode, allowedForMode);
+      distances.put(mode, new AtomicReferenceArray<>(territories.size()));
+    }
+  }
+
+  boolean contains(final Territory territory) {
+    return ids.containsKey(territory);
+  }
+
+  /**
+   * Returns the distance between two territories where all territories after the start match the
+   * condition of the mode, or {@link #UNREACHABLE} if they are not connected.
+   */
+  int getDistance(final Territory from, final Territory to, final Mode mode) {
+    return getDistances(ids.get(from), mode)[ids.get(to)];
+  }
+
+  /**
+   * Returns all territories within the specified distance of the start where all territories after
+   * the start match the condition of the mode. Does NOT include the start territory.
+   */
+  Set<Territory> getNeighbors(final Territory territory, final int distance, final Mode mode) {
+    final int[] distancesFrom = getDistances(ids.get(territory), mode);
+    final Set<Territory> result = new HashSet<>();
+    for (int i = 0; i < distancesFrom.length; i++) {
+      if (distancesFrom[i] > 0 && distancesFrom[i] <= distance) {
+        result.add(territories.get(i));
+      }
+    }
+    return result;
+  }
+
+  private int[] getDistances(final int from, final Mode mode) {
+    final AtomicReferenceArray<int[]> distancesForMode = distances.get(mode);
+    int[] result = distancesForMode.get(from);
+    if (result == null) {
+      // concurrent callers may compute the same row twice, both results are equal
+      result = breadthFirstSearch(from, allowed.get(mode));
+      distancesForMode.set(from, result);
+    }
+    return result;
+  }
+
+  private int[] breadthFirstSearch(final int from, final boolean[] allowedForMode) {
+    final int[] result = new int[territories.size()];
+    Arrays.fill(result, UNREACHABLE);
+    final int[] queue = new int[territories.size()];
+    int head = 0;
+    int tail = 0;
+    result[from] = 0;
+    queue[tail++] = from;
+    while (head < tail) {
+      final int current = queue[head++];
+      final int nextDistance = result[current] + 1;
+      for (int i = offsets[current]; i < offsets[current + 1]; i++) {
+        final int neighbor = neighbors[i];
+        if (result[neighbor] == UNREACHABLE && allowedForMode[neighbor]) {
+          result[neighbor] = nextDistance;
+          queue[tail++] = neighbor;
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,115 @@
+package games.strategy.engine.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nullable;
+import org.xml.sax.Attributes;
+
+/**
+ * An element of a game XML file. Unlike a W3C DOM element it only holds the name, attributes, child
+ * elements and text of the element, which keeps large game files small in memory.
+ */
+final class XmlElement {
+  private static final String[] NO_ATTRIBUTES = new String[0];
+
+  private final String name;
+  // the names and values of the attributes, alternating
+  private final String[] attributes;
+  private final List<XmlElement> children;
+  private final String text;
+
+  private XmlElement(
+      final String name,
+      final String[] attributes,
+      final List<XmlElement> children,
+      final String text) {
+    this.name = name;
+    this.attributes = attributes;
+    this.children = children;
+    this.text = text;
+  }
+
+  String getNodeName() {
+    return name;
+  }
+
+  /** Returns the value of the given attribute, or an empty string if there is no such attribute. */
+  String getAttribute(final String attributeName) {
+    for (int i = 0; i < attributes.length; i += 2) {
+      if (attributes[i].equals(attributeName)) {
+        return attributes[i + 1];
+      }
+    }
+    return "";
+  }
+
+  boolean hasAttribute(final String attributeName) {
+    for (int i = 0; i < attributes.length; i += 2) {
+      if (attributes[i].equals(attributeName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Returns the child elements in document order. */
+  List<XmlElement> getChildren() {
+    return children;
+  }
+
+  /**
+   * Returns the text within this element, or an empty string if it has child elements. Game files
+   * only hold text in elements without children, such as property values.
+   */
+  String getTextContent() {
+    return text;
+  }
+
+  /** Builds an element from the events of a streaming parser. */
+  static final class Builder {
+    private final String name;
+    private final String[] attributes;
+    @Nullable private List<XmlElement> children;
+    @Nullable private StringBuilder text;
+
+    Builder(final String name, final Attributes attributes) {
+      this.name = name;
+      if (attributes.getLength() == 0) {
+        this.attributes = NO_ATTRIBUTES;
+      } else {
+        this.attributes = new String[attributes.getLength() * 2];
+        for (int i = 0; i < attributes.getLength(); i++) {
+          this.attributes[2 * i] = attributes.getQName(i);
+          this.attributes[2 * i + 1] = attributes.getValue(i);
+        }
+      }
+    }
+
+    void addChild(final XmlElement child) {
+      if (children == null) {
+        children = new ArrayList<>();
+        text = null;
+      }
+      children.add(child);
+    }
+
+    void addText(final char[] characters, final int start, final int length) {
+      if (children != null) {
+        // the text between child elements is whitespace and not kept
+        return;
+      }
+      if (text == null) {
+        text = new StringBuilder();
+      }
+      text.append(characters, start, length);
+    }
+
+    XmlElement build() {
+      if (children == null) {
+        return new XmlElement(name, attributes, List.of(), text == null ? "" : text.toString());
+      }
+      ((ArrayList<XmlElement>) children).trimToSize();
+      return new XmlElement(name, attributes, children, "");
+    }
+  }
+}
@@ -1,44 +1,73 @@
 package games.strategy.engine.data;
 
+import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.function.Predicate;
 import javax.xml.XMLConstants;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.xml.sax.ErrorHandler;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
+import org.xml.sax.helpers.DefaultHandler;
 
-/** Utility class to read an XML file. */
+/**
+ * Utility class to read an XML file. The file is read in one pass by a streaming parser which
+ * builds the {@link XmlElement}s directly, without building a W3C DOM first.
+ */
 public final class XmlReader {
 
   public static final String DTD_FILE_NAME = "game.dtd";
 
   private XmlReader() {}
 
-  static Element parseDom(
+  /**
+   * Reads the XML document in the given stream and returns its root element. Errors reported while
+   * validating the document against the game DTD are added to the given collection.
+   */
+  static XmlElement parse(
       final String mapName, final InputStream stream, final Collection<SAXParseException> errorsSax)
       throws GameParseException {
+    return parse(mapName, stream, errorsSax, name -> true);
+  }
+
+  /**
+   * Reads the XML document in the given stream and returns its root element, leaving out the child
+   * elements of the root not accepted by the given filter. The whole document is still validated.
+   */
+  static XmlElement parse(
+      final String mapName,
+      final InputStream stream,
+      final Collection<SAXParseException> errorsSax,
+      final Predicate<String> rootChildFilter)
+      throws GameParseException {
     try {
-      return getDocument(mapName, stream, errorsSax).getDocumentElement();
+      final ElementHandler handler = new ElementHandler(errorsSax, rootChildFilter);
+      newParser().parse(newInputSource(mapName, stream), handler);
+      return handler.root;
     } catch (final SAXException | IOException | ParserConfigurationException e) {
       throw new GameParseException("failed to parse XML document", e);
     }
   }
 
-  private static Document getDocument(
-      final String mapName, final InputStream input, final Collection<SAXParseException> errorsSax)
-      throws IOException, SAXException, ParserConfigurationException {
-    final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+  private static SAXParser newParser() throws SAXException, ParserConfigurationException {
+    final SAXParserFactory factory = SAXParserFactory.newInstance();
     factory.setValidating(true);
     // Not mandatory, but better than relying on the default implementation to prevent XXE
     factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-    factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "file");
+    final SAXParser parser = factory.newSAXParser();
+    parser.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "file");
+    return parser;
+  }
+
+  private static InputSource newInputSource(final String mapName, final InputStream input) {
     // get the dtd location
     final String dtdFile = "/games/strategy/engine/xml/" + DTD_FILE_NAME;
     final URL url = GameParser.class.getResource(dtdFile);
@@ -46,26 +75,71 @@ public final class XmlReader {
       throw new RuntimeException(
           String.format("Map: %s, Could not find in classpath %s", mapName, dtdFile));
     }
-    final DocumentBuilder builder = factory.newDocumentBuilder();
-    builder.setErrorHandler(
-        new ErrorHandler() {
-          @Override
-          public void fatalError(final SAXParseException exception) {
-            errorsSax.add(exception);
-          }
-
-          @Override
-          public void error(final SAXParseException exception) {
-            errorsSax.add(exception);
-          }
-
-          @Override
-          public void warning(final SAXParseException exception) {
-            errorsSax.add(exception);
-          }
-        });
     final String dtdSystem = url.toExternalForm();
-    final String system = dtdSystem.substring(0, dtdSystem.length() - DTD_FILE_NAME.length());
-    return builder.parse(input, system);
+    final InputSource inputSource = new InputSource(input);
+    inputSource.setSystemId(dtdSystem.substring(0, dtdSystem.length() - DTD_FILE_NAME.length()));
+    return inputSource;
+  }
+
+  @VisibleForTesting
+  static final class ElementHandler extends DefaultHandler {
+    private final Collection<SAXParseException> errorsSax;
+    private final Predicate<String> rootChildFilter;
+    private final Deque<XmlElement.Builder> openElements = new ArrayDeque<>();
+    // the depth within a child of the root that is left out, 0 if none is
+    private int skippedDepth = 0;
+    private XmlElement root;
+
+    ElementHandler(
+        final Collection<SAXParseException> errorsSax, final Predicate<String> rootChildFilter) {
+      this.errorsSax = errorsSax;
+      this.rootChildFilter = rootChildFilter;
+    }
+
+    @Override
+    public void startElement(
+        final String uri, final String localName, final String name, final Attributes attributes) {
+      if (skippedDepth > 0 || (openElements.size() == 1 && !rootChildFilter.test(name))) {
+        skippedDepth++;
+        return;
+      }
+      openElements.push(new XmlElement.Builder(name, attributes));
+    }
+
+    @Override
+    public void endElement(final String uri, final String localName, final String name) {
+      if (skippedDepth > 0) {
+        skippedDepth--;
+        return;
+      }
+      final XmlElement element = openElements.pop().build();
+      if (openElements.isEmpty()) {
+        root = element;
+      } else {
+        openElements.peek().addChild(element);
+      }
+    }
+
+    @Override
+    public void characters(final char[] characters, final int start, final int length) {
+      if (skippedDepth == 0 && !openElements.isEmpty()) {
+        openElements.peek().addText(characters, start, length);
+      }
+    }
+
+    @Override
+    public void fatalError(final SAXParseException exception) {
+      errorsSax.add(exception);
+    }
+
+    @Override
+    public void error(final SAXParseException exception) {
+      errorsSax.add(exception);
+    }
+
+    @Override
+    public void warning(final SAXParseException exception) {
+      errorsSax.add(exception);
+    }
   }
 }
@@ -4,6 +4,7 @@ import games.strategy.engine.data.Attachable;
 import games.strategy.engine.data.Change;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.IAttachment;
+import games.strategy.engine.data.UnitType;
 
 class AddAttachmentChange extends Change {
   private static final long serialVersionUID = -21015135248288454L;
@@ -30,6 +31,11 @@ class AddAttachmentChange extends Change {
     attachment.setAttachedTo(attachable);
   }
 
+  @Override
+  public boolean affectsUnitCosts() {
+    return attachable instanceof UnitType || originalAttachable instanceof UnitType;
+  }
+
   @Override
   public Change invert() {
     return new RemoveAttachmentChange(attachment, originalAttachable, originalAttachmentName);
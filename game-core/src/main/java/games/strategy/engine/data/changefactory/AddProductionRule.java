@@ -26,6 +26,11 @@ class AddProductionRule extends Change {
     frontier.addRule(rule);
   }
 
+  @Override
+  public boolean affectsUnitCosts() {
+    return true;
+  }
+
   @Override
   public Change invert() {
     return new RemoveProductionRule(rule, frontier);
@@ -7,14 +7,16 @@ import games.strategy.engine.data.UnitCollection;
 import games.strategy.engine.data.UnitHolder;
 import java.util.ArrayList;
 import java.util.Collection;
+import lombok.AccessLevel;
+import lombok.Getter;
 
 /** Add units. */
 public class AddUnits extends Change {
   private static final long serialVersionUID = 2694342784633196289L;
 
-  private final String name;
-  private final Collection<Unit> units;
-  private final String type;
+  @Getter(AccessLevel.PACKAGE) private final String name;
+  @Getter(AccessLevel.PACKAGE) private final Collection<Unit> units;
+  @Getter(AccessLevel.PACKAGE) private final String type;
 
   AddUnits(final UnitCollection collection, final Collection<Unit> units) {
     this.units = new ArrayList<>(units);
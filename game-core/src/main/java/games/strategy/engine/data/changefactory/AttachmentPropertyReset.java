@@ -6,6 +6,7 @@ import games.strategy.engine.data.Attachable;
 import games.strategy.engine.data.Change;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.IAttachment;
+import games.strategy.engine.data.UnitType;
 
 /** Resets the value to the default value. */
 class AttachmentPropertyReset extends Change {
@@ -42,6 +43,11 @@ class AttachmentPropertyReset extends Change {
     attachment.getPropertyOrThrow(property).resetValue();
   }
 
+  @Override
+  public boolean affectsUnitCosts() {
+    return attachedTo instanceof UnitType;
+  }
+
   @Override
   public Change invert() {
     return new AttachmentPropertyResetUndo(attachedTo, attachmentName, oldValue, property);
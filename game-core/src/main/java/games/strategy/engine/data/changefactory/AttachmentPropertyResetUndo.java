@@ -5,6 +5,7 @@ import games.strategy.engine.data.Change;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.IAttachment;
 import games.strategy.engine.data.MutableProperty;
+import games.strategy.engine.data.UnitType;
 
 class AttachmentPropertyResetUndo extends Change {
   private static final long serialVersionUID = 5943939650116851332L;
@@ -39,6 +40,11 @@ class AttachmentPropertyResetUndo extends Change {
     }
   }
 
+  @Override
+  public boolean affectsUnitCosts() {
+    return attachedTo instanceof UnitType;
+  }
+
   @Override
   public Change invert() {
     return new AttachmentPropertyReset(attachedTo, attachmentName, newValue, property);
@@ -0,0 +1,196 @@
+package games.strategy.engine.data.changefactory;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.Unit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.Value;
+
+/**
+ * Reduces a sequence of changes to an equivalent sequence that has at most one change per piece of
+ * game state it modifies, so that applying it costs in proportion to how much the game state
+ * differs rather than to how many changes were made.
+ *
+ * <p>Unit property changes, territory owner changes, resource changes and units added to or removed
+ * from unit holders are merged with earlier changes of the same unit property, territory, player
+ * resource or unit holder. Any other change is kept as is, and changes are never merged across it,
+ * because it may modify the same game state as the changes around it.
+ */
+public final class ChangeCompactor {
+  private ChangeCompactor() {}
+
+  /** Returns a change equivalent to performing the given changes in order. */
+  public static CompositeChange compact(final List<Change> changes) {
+    final List<Change> compacted = new ArrayList<>();
+    final Run run = new Run();
+    compact(changes, run, compacted);
+    run.writeTo(compacted);
+    return new CompositeChange(compacted);
+  }
+
+  private static void compact(
+      final List<Change> changes, final Run run, final List<Change> compacted) {
+    for (final Change change : changes) {
+      if (change instanceof CompositeChange) {
+        compact(((CompositeChange) change).getChanges(), run, compacted);
+      } else if (!run.add(change)) {
+        run.writeTo(compacted);
+        compacted.add(change);
+      }
+    }
+  }
+
+  /** Merged changes that all modify independent kinds of game state. */
+  private static final class Run {
+    private final Map<PropertyKey, PropertySlot> properties = new LinkedHashMap<>();
+    private final Map<String, OwnerSlot> owners = new LinkedHashMap<>();
+    private final Map<String, Map<String, Integer>> resources = new LinkedHashMap<>();
+    private final Map<HolderKey, Map<Unit, UnitSlot>> holders = new LinkedHashMap<>();
+    private long unitEvents;
+
+    /** Merges the change into this run, returns false if it is of a kind that cannot be merged. */
+    boolean add(final Change change) {
+      if (change instanceof ObjectPropertyChange) {
+        final ObjectPropertyChange propertyChange = (ObjectPropertyChange) change;
+        final PropertySlot slot =
+            properties.computeIfAbsent(
+                new PropertyKey(propertyChange.getObject(), propertyChange.getProperty()),
+                key -> new PropertySlot(propertyChange.getOldValue()));
+        slot.newValue = propertyChange.getNewValue();
+      } else if (change instanceof OwnerChange) {
+        final OwnerChange ownerChange = (OwnerChange) change;
+        final OwnerSlot slot =
+            owners.computeIfAbsent(
+                ownerChange.getTerritoryName(),
+                key -> new OwnerSlot(ownerChange.getOldOwnerName()));
+        slot.newOwnerName = ownerChange.getNewOwnerName();
+      } else if (change instanceof ChangeResourceChange) {
+        final ChangeResourceChange resourceChange = (ChangeResourceChange) change;
+        resources
+            .computeIfAbsent(resourceChange.getPlayerName(), key -> new LinkedHashMap<>())
+            .merge(resourceChange.getResourceName(), resourceChange.getQuantity(), Integer::sum);
+      } else if (change instanceof AddUnits) {
+        final AddUnits addUnits = (AddUnits) change;
+        final Map<Unit, UnitSlot> units = getHolder(addUnits.getName(), addUnits.getType());
+        for (final Unit unit : addUnits.getUnits()) {
+          final UnitSlot slot = units.computeIfAbsent(unit, key -> new UnitSlot(false));
+          slot.presentAtEnd = true;
+          slot.lastAdded = unitEvents++;
+        }
+      } else if (change instanceof RemoveUnits) {
+        final RemoveUnits removeUnits = (RemoveUnits) change;
+        final Map<Unit, UnitSlot> units = getHolder(removeUnits.getName(), removeUnits.getType());
+        for (final Unit unit : removeUnits.getUnits()) {
+          units.computeIfAbsent(unit, key -> new UnitSlot(true)).presentAtEnd = false;
+        }
+      } else {
+        return false;
+      }
+      return true;
+    }
+
+    private Map<Unit, UnitSlot> getHolder(final String name, final String type) {
+      return holders.computeIfAbsent(new HolderKey(name, type), key -> new LinkedHashMap<>());
+    }
+
+    /** Appends the merged changes to the given list and empties this run. */
+    void writeTo(final List<Change> compacted) {
+      holders.forEach(
+          (holder, units) -> {
+            // units that were removed and added back moved to the end of the holder's units, so
+            // remove all of them first, then add them back in the order they were last added
+            final List<Unit> removed =
+                units.entrySet().stream()
+                    .filter(entry -> entry.getValue().presentAtStart)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+            if (!removed.isEmpty()) {
+              compacted.add(new RemoveUnits(holder.getName(), holder.getType(), removed));
+            }
+            final List<Unit> added =
+                units.entrySet().stream()
+                    .filter(entry -> entry.getValue().presentAtEnd)
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAdded))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+            if (!added.isEmpty()) {
+              compacted.add(new AddUnits(holder.getName(), holder.getType(), added));
+            }
+          });
+      properties.forEach(
+          (key, slot) -> {
+            if (!Objects.equals(slot.oldValue, slot.newValue)) {
+              compacted.add(
+                  new ObjectPropertyChange(
+                      key.getUnit(), key.getProperty(), slot.newValue, slot.oldValue));
+            }
+          });
+      owners.forEach(
+          (territoryName, slot) -> {
+            if (!Objects.equals(slot.oldOwnerName, slot.newOwnerName)) {
+              compacted.add(new OwnerChange(territoryName, slot.newOwnerName, slot.oldOwnerName));
+            }
+          });
+      resources.forEach(
+          (playerName, quantities) ->
+              quantities.forEach(
+                  (resourceName, quantity) -> {
+                    if (quantity != 0) {
+                      compacted.add(new ChangeResourceChange(playerName, resourceName, quantity));
+                    }
+                  }));
+      holders.clear();
+      properties.clear();
+      owners.clear();
+      resources.clear();
+    }
+  }
+
+  @Value
+  private static class PropertyKey {
+    Unit unit;
+    String property;
+  }
+
+  @Value
+  private static class HolderKey {
+    String name;
+    String type;
+  }
+
+  private static final class PropertySlot {
+    private final Object oldValue;
+    private Object newValue;
+
+    PropertySlot(final Object oldValue) {
+      this.oldValue = oldValue;
+    }
+  }
+
+  private static final class OwnerSlot {
+    private final String oldOwnerName;
+    private String newOwnerName;
+
+    OwnerSlot(final String oldOwnerName) {
+      this.oldOwnerName = oldOwnerName;
+    }
+  }
+
+  /** What happened to a unit in a unit holder, a unit can only be added if it is not present. */
+  private static final class UnitSlot {
+    private final boolean presentAtStart;
+    private boolean presentAtEnd;
+    private long lastAdded;
+
+    UnitSlot(final boolean presentAtStart) {
+      this.presentAtStart = presentAtStart;
+      presentAtEnd = presentAtStart;
+    }
+  }
+}
@@ -5,14 +5,16 @@ import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.data.Resource;
 import games.strategy.engine.data.ResourceCollection;
+import lombok.AccessLevel;
+import lombok.Getter;
 
 /** Adds/removes resource from a player. */
 class ChangeResourceChange extends Change {
   private static final long serialVersionUID = -2304294240555842126L;
 
-  private final String playerName;
-  private final String resourceName;
-  private final int quantity;
+  @Getter(AccessLevel.PACKAGE) private final String playerName;
+  @Getter(AccessLevel.PACKAGE) private final String resourceName;
+  @Getter(AccessLevel.PACKAGE) private final int quantity;
 
   ChangeResourceChange(final GamePlayer player, final Resource resource, final int quantity) {
     playerName = player.getName();
@@ -20,7 +22,7 @@ class ChangeResourceChange extends Change {
     this.quantity = quantity;
   }
 
-  private ChangeResourceChange(
+  ChangeResourceChange(
       final String playerName, final String resourceName, final int quantity) {
     this.playerName = playerName;
     this.resourceName = resourceName;
@@ -6,16 +6,17 @@ import games.strategy.engine.data.MutableProperty;
 import games.strategy.engine.data.Unit;
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 /** A game data change that captures a change to an object property value. */
 public class ObjectPropertyChange extends Change {
   private static final long serialVersionUID = 4218093376094170940L;
 
-  private final Unit object;
+  @Getter(AccessLevel.PACKAGE) private final Unit object;
   @Getter private String property;
-  private final Object newValue;
-  private final Object oldValue;
+  @Getter(AccessLevel.PACKAGE) private final Object newValue;
+  @Getter(AccessLevel.PACKAGE) private final Object oldValue;
 
   ObjectPropertyChange(final Unit object, final String property, final Object newValue) {
     this.object = object;
@@ -24,7 +25,7 @@ public class ObjectPropertyChange extends Change {
     oldValue = object.getPropertyOrThrow(property).getValue();
   }
 
-  private ObjectPropertyChange(
+  ObjectPropertyChange(
       final Unit object, final String property, final Object newValue, final Object oldValue) {
     this.object = object;
     // prevent multiple copies of the property names being held in the game
@@ -4,16 +4,18 @@ import games.strategy.engine.data.Change;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.data.Territory;
+import lombok.AccessLevel;
+import lombok.Getter;
 
 /** Changes ownership of a territory. */
 class OwnerChange extends Change {
   private static final long serialVersionUID = -5938125380623744929L;
 
   /** Either new or old owner can be null. */
-  private final String oldOwnerName;
+  @Getter(AccessLevel.PACKAGE) private final String oldOwnerName;
 
-  private final String newOwnerName;
-  private final String territoryName;
+  @Getter(AccessLevel.PACKAGE) private final String newOwnerName;
+  @Getter(AccessLevel.PACKAGE) private final String territoryName;
 
   /** newOwner can be null. */
   OwnerChange(final Territory territory, final GamePlayer newOwner) {
@@ -22,7 +24,7 @@ class OwnerChange extends Change {
     oldOwnerName = getName(territory.getOwner());
   }
 
-  private OwnerChange(
+  OwnerChange(
       final String territoryName, final String newOwnerName, final String oldOwnerName) {
     this.territoryName = territoryName;
     this.newOwnerName = newOwnerName;
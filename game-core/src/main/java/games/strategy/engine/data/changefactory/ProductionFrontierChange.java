@@ -34,6 +34,11 @@ class ProductionFrontierChange extends Change {
     player.setProductionFrontier(frontier);
   }
 
+  @Override
+  public boolean affectsUnitCosts() {
+    return true;
+  }
+
   @Override
   public Change invert() {
     return new ProductionFrontierChange(endFrontierName, startFrontierName, playerName);
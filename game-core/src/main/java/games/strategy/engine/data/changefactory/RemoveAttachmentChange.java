@@ -4,6 +4,7 @@ import games.strategy.engine.data.Attachable;
 import games.strategy.engine.data.Change;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.IAttachment;
+import games.strategy.engine.data.UnitType;
 
 class RemoveAttachmentChange extends Change {
   private static final long serialVersionUID = 6365648682759047674L;
@@ -33,6 +34,11 @@ class RemoveAttachmentChange extends Change {
     }
   }
 
+  @Override
+  public boolean affectsUnitCosts() {
+    return attachable instanceof UnitType || originalAttachable instanceof UnitType;
+  }
+
   @Override
   public Change invert() {
     return new AddAttachmentChange(attachment, originalAttachable, originalAttachmentName);
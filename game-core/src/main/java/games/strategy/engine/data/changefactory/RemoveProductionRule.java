@@ -26,6 +26,11 @@ class RemoveProductionRule extends Change {
     frontier.removeRule(rule);
   }
 
+  @Override
+  public boolean affectsUnitCosts() {
+    return true;
+  }
+
   @Override
   public Change invert() {
     return new AddProductionRule(rule, frontier);
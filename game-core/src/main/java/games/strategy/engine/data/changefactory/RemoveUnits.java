@@ -7,14 +7,16 @@ import games.strategy.engine.data.UnitCollection;
 import games.strategy.engine.data.UnitHolder;
 import java.util.ArrayList;
 import java.util.Collection;
+import lombok.AccessLevel;
+import lombok.Getter;
 
 /** Change type that indicates units have been removed from the map. */
 public class RemoveUnits extends Change {
   private static final long serialVersionUID = -6410444472951010568L;
 
-  private final String name;
-  private final Collection<Unit> units;
-  private final String type;
+  @Getter(AccessLevel.PACKAGE) private final String name;
+  @Getter(AccessLevel.PACKAGE) private final Collection<Unit> units;
+  @Getter(AccessLevel.PACKAGE) private final String type;
 
   RemoveUnits(final UnitCollection collection, final Collection<Unit> units) {
     this(collection.getHolder().getName(), collection.getHolder().getType(), units);
@@ -37,6 +37,14 @@ public class AutoSaveFileUtils {
     return getAutoSaveFile(addExtension("autosave_round_even"));
   }
 
+  /**
+   * Returns the checkpoint file of the incremental auto-save, see {@code AutoSaveJournal}. It is a
+   * regular save game that has its journal applied when it is loaded.
+   */
+  public File getJournalAutoSaveFile() {
+    return getAutoSaveFile(addExtension("autosave_journal"));
+  }
+
   public File getLostConnectionAutoSaveFile(final LocalDateTime localDateTime) {
     checkNotNull(localDateTime);
 
@@ -13,6 +13,7 @@ public class CliProperties {
   public static final String LOBBY_GAME_COMMENTS = "triplea.lobby.game.comments";
   public static final String LOBBY_GAME_SUPPORT_PASSWORD = "triplea.lobby.game.supportPassword";
   public static final String MAP_FOLDER = "triplea.map.folder";
+  public static final String TRIPLEA_HEADLESS_GAMES = "triplea.headless.games";
   static final String TRIPLEA_MAP_DOWNLOAD = "triplea.map.download";
 
   private CliProperties() {}
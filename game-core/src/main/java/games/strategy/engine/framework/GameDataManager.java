@@ -6,9 +6,12 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import games.strategy.engine.ClientContext;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.delegate.IDelegate;
+import games.strategy.engine.framework.save.game.AutoSaveJournal;
 import games.strategy.triplea.UrlConstants;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -32,7 +35,8 @@ public final class GameDataManager {
   private GameDataManager() {}
 
   /**
-   * Loads game data from the specified file.
+   * Loads game data from the specified file. If the file is the checkpoint of an incremental
+   * auto-save, its journal is applied to the loaded game data.
    *
    * @param file The file from which the game data will be loaded.
    * @return The loaded game data.
@@ -42,10 +46,13 @@ public final class GameDataManager {
     checkNotNull(file);
     checkArgument(file.exists());
 
+    final GameData data;
     try (InputStream fis = new FileInputStream(file);
         InputStream is = new BufferedInputStream(fis)) {
-      return loadGame(is);
+      data = loadGame(is);
     }
+    AutoSaveJournal.replay(data, file);
+    return data;
   }
 
   /**
@@ -92,15 +99,35 @@ public final class GameDataManager {
                 UrlConstants.DOWNLOAD_WEBSITE));
       }
 
-      final GameData data = (GameData) input.readObject();
-      data.postDeSerialize();
-      loadDelegates(input, data);
-      return data;
+      return readGameData(input);
     } catch (final ClassNotFoundException cnfe) {
       throw new IOException(cnfe.getMessage());
     }
   }
 
+  /**
+   * Loads game data from a snapshot previously created by {@link #writeSnapshot(GameData,
+   * boolean)}. Snapshots are only valid within the process that created them; they are neither
+   * compressed nor versioned.
+   */
+  static GameData readSnapshot(final byte[] snapshot) throws IOException {
+    checkNotNull(snapshot);
+
+    try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(snapshot))) {
+      return readGameData(input);
+    } catch (final ClassNotFoundException cnfe) {
+      throw new IOException(cnfe.getMessage());
+    }
+  }
+
+  private static GameData readGameData(final ObjectInputStream input)
+      throws ClassNotFoundException, IOException {
+    final GameData data = (GameData) input.readObject();
+    data.postDeSerialize();
+    loadDelegates(input, data);
+    return data;
+  }
+
   private static void loadDelegates(final ObjectInputStream input, final GameData data)
       throws ClassNotFoundException, IOException {
     for (Object endMarker = input.readObject();
@@ -155,17 +182,7 @@ public final class GameDataManager {
           OutputStream zippedOutStream = new GZIPOutputStream(bufferedOutStream);
           ObjectOutputStream outStream = new ObjectOutputStream(zippedOutStream)) {
         outStream.writeObject(ClientContext.engineVersion());
-        data.acquireReadLock();
-        try {
-          outStream.writeObject(data);
-          if (saveDelegateInfo) {
-            writeDelegates(data, outStream);
-          } else {
-            outStream.writeObject(DELEGATE_LIST_END);
-          }
-        } finally {
-          data.releaseReadLock();
-        }
+        writeGameData(data, saveDelegateInfo, outStream);
       }
 
       // now write to sink (ensure sink is closed per method contract)
@@ -178,6 +195,76 @@ public final class GameDataManager {
     }
   }
 
+  /**
+   * Writes the specified game data, including the state of its delegates, in the format of a save
+   * game but without compressing it. The game data's read lock is acquired while writing. The
+   * result can be compressed to a save game later with {@link #saveGame(OutputStream, byte[])},
+   * without touching the game data again.
+   */
+  public static byte[] writeUncompressedSaveGame(final GameData data) throws IOException {
+    checkNotNull(data);
+
+    final ByteArrayOutputStream os = new ByteArrayOutputStream();
+    try (ObjectOutputStream outStream = new ObjectOutputStream(os)) {
+      outStream.writeObject(ClientContext.engineVersion());
+      writeGameData(data, true, outStream);
+    }
+    return os.toByteArray();
+  }
+
+  /**
+   * Compresses a save game written by {@link #writeUncompressedSaveGame(GameData)} to the specified
+   * stream.
+   *
+   * @param sink The stream to which the save game will be written. Note that this stream will be
+   *     closed if this method returns successfully.
+   * @param uncompressedSaveGame The uncompressed save game.
+   * @throws IOException If an error occurs while writing the save game.
+   */
+  public static void saveGame(final OutputStream sink, final byte[] uncompressedSaveGame)
+      throws IOException {
+    checkNotNull(sink);
+    checkNotNull(uncompressedSaveGame);
+
+    try (OutputStream bufferedOutStream = new BufferedOutputStream(sink);
+        OutputStream zippedOutStream = new GZIPOutputStream(bufferedOutStream)) {
+      zippedOutStream.write(uncompressedSaveGame);
+    }
+  }
+
+  /**
+   * Writes the specified game data to an in-memory snapshot suitable for creating copies of the
+   * game data within the current process. Unlike {@link #saveGame(OutputStream, GameData)}, the
+   * snapshot is neither compressed nor staged through a temporary file, so it can be captured
+   * once and read back any number of times via {@link #readSnapshot(byte[])}.
+   */
+  static byte[] writeSnapshot(final GameData data, final boolean saveDelegateInfo)
+      throws IOException {
+    checkNotNull(data);
+
+    final ByteArrayOutputStream os = new ByteArrayOutputStream();
+    try (ObjectOutputStream outStream = new ObjectOutputStream(os)) {
+      writeGameData(data, saveDelegateInfo, outStream);
+    }
+    return os.toByteArray();
+  }
+
+  private static void writeGameData(
+      final GameData data, final boolean saveDelegateInfo, final ObjectOutputStream outStream)
+      throws IOException {
+    data.acquireReadLock();
+    try {
+      outStream.writeObject(data);
+      if (saveDelegateInfo) {
+        writeDelegates(data, outStream);
+      } else {
+        outStream.writeObject(DELEGATE_LIST_END);
+      }
+    } finally {
+      data.releaseReadLock();
+    }
+  }
+
   private static void writeDelegates(final GameData data, final ObjectOutputStream out)
       throws IOException {
     for (final IDelegate delegate : data.getDelegates()) {
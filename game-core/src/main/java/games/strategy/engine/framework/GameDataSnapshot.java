@@ -0,0 +1,63 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.history.History;
+import java.io.IOException;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * An immutable, in-memory capture of a {@link GameData} instance that can be forked into any
+ * number of independent copies.
+ *
+ * <p>Capturing a snapshot requires the game data's lock only once, regardless of how many copies
+ * are later created from it. Forking does not touch the original game data at all, so copies can
+ * be created concurrently from multiple threads while the game continues.
+ */
+@Immutable
+public final class GameDataSnapshot {
+  private final byte[] bytes;
+
+  private GameDataSnapshot(final byte[] bytes) {
+    this.bytes = bytes;
+  }
+
+  /**
+   * Captures a snapshot of the specified game data. <strong>You should have the game data's read
+   * or write lock before calling this method</strong>
+   */
+  public static GameDataSnapshot capture(final GameData data, final boolean copyDelegates)
+      throws IOException {
+    checkNotNull(data);
+
+    return new GameDataSnapshot(GameDataManager.writeSnapshot(data, copyDelegates));
+  }
+
+  /**
+   * Captures a snapshot of the specified game data without history as it can get large. <strong>You
+   * should have the game data's write lock before calling this method</strong>
+   */
+  public static GameDataSnapshot captureWithoutHistory(
+      final GameData data, final boolean copyDelegates) throws IOException {
+    checkNotNull(data);
+
+    final History temp = data.getHistory();
+    data.resetHistory();
+    try {
+      return capture(data, copyDelegates);
+    } finally {
+      data.setHistory(temp);
+    }
+  }
+
+  /** Creates a new, independent deep copy of the captured game data. */
+  public GameData fork() throws IOException {
+    return GameDataManager.readSnapshot(bytes);
+  }
+
+  /** Returns the approximate number of bytes retained by this snapshot. */
+  public int size() {
+    return bytes.length;
+  }
+}
@@ -52,9 +52,7 @@ public final class GameDataUtils {
    */
   public static GameData cloneGameData(final GameData data, final boolean copyDelegates) {
     try {
-      final byte[] bytes =
-          IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, data, copyDelegates));
-      return IoUtils.readFromMemory(bytes, GameDataManager::loadGame);
+      return GameDataSnapshot.capture(data, copyDelegates).fork();
     } catch (final IOException e) {
       log.log(Level.SEVERE, "Failed to clone game data", e);
       return null;
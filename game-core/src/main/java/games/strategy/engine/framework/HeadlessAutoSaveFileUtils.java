@@ -4,12 +4,28 @@ import static games.strategy.engine.framework.CliProperties.TRIPLEA_NAME;
 import static games.strategy.engine.framework.GameDataFileUtils.addExtension;
 
 import java.io.File;
+import javax.annotation.Nullable;
 
 /** Headless variant of {@link AutoSaveFileUtils} with slightly shortened save-game names. */
 public class HeadlessAutoSaveFileUtils extends AutoSaveFileUtils {
+  @Nullable private final String hostName;
+
+  /** Creates auto-save file utilities for the host named by the {@code triplea.name} property. */
+  public HeadlessAutoSaveFileUtils() {
+    this(null);
+  }
+
+  /**
+   * Creates auto-save file utilities for the given host, so hosts running in the same process do
+   * not overwrite each other's auto-saves.
+   */
+  public HeadlessAutoSaveFileUtils(@Nullable final String hostName) {
+    this.hostName = hostName;
+  }
+
   @Override
   String getAutoSaveFileName(final String baseFileName) {
-    final String prefix = System.getProperty(TRIPLEA_NAME, "");
+    final String prefix = (hostName != null) ? hostName : System.getProperty(TRIPLEA_NAME, "");
     if (!prefix.isEmpty()) {
       return prefix + "_" + baseFileName;
     }
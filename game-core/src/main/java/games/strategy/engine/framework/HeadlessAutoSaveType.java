@@ -1,33 +1,35 @@
 package games.strategy.engine.framework;
 
 import java.io.File;
-import java.nio.file.Path;
+import java.util.function.Function;
 
 /** The types of auto-saves that can be loaded by a headless game server. */
 public enum HeadlessAutoSaveType {
-  DEFAULT(new HeadlessAutoSaveFileUtils().getHeadlessAutoSaveFile()),
+  DEFAULT(HeadlessAutoSaveFileUtils::getHeadlessAutoSaveFile),
 
-  ODD_ROUND(new HeadlessAutoSaveFileUtils().getOddRoundAutoSaveFile()),
+  ODD_ROUND(HeadlessAutoSaveFileUtils::getOddRoundAutoSaveFile),
 
-  EVEN_ROUND(new HeadlessAutoSaveFileUtils().getEvenRoundAutoSaveFile()),
+  EVEN_ROUND(HeadlessAutoSaveFileUtils::getEvenRoundAutoSaveFile),
 
-  END_TURN(new HeadlessAutoSaveFileUtils().getBeforeStepAutoSaveFile("EndTurn")),
+  END_TURN(autoSaveFileUtils -> autoSaveFileUtils.getBeforeStepAutoSaveFile("EndTurn")),
 
-  BEFORE_BATTLE(new HeadlessAutoSaveFileUtils().getBeforeStepAutoSaveFile("Battle")),
+  BEFORE_BATTLE(autoSaveFileUtils -> autoSaveFileUtils.getBeforeStepAutoSaveFile("Battle")),
 
-  AFTER_BATTLE(new HeadlessAutoSaveFileUtils().getAfterStepAutoSaveFile("Battle")),
+  AFTER_BATTLE(autoSaveFileUtils -> autoSaveFileUtils.getAfterStepAutoSaveFile("Battle")),
 
-  AFTER_COMBAT_MOVE(new HeadlessAutoSaveFileUtils().getAfterStepAutoSaveFile("CombatMove")),
+  AFTER_COMBAT_MOVE(autoSaveFileUtils -> autoSaveFileUtils.getAfterStepAutoSaveFile("CombatMove")),
 
-  AFTER_NON_COMBAT_MOVE(new HeadlessAutoSaveFileUtils().getAfterStepAutoSaveFile("NonCombatMove"));
+  AFTER_NON_COMBAT_MOVE(
+      autoSaveFileUtils -> autoSaveFileUtils.getAfterStepAutoSaveFile("NonCombatMove"));
 
-  private final Path path;
+  private final Function<HeadlessAutoSaveFileUtils, File> fileOfHost;
 
-  HeadlessAutoSaveType(final File file) {
-    path = file.toPath();
+  HeadlessAutoSaveType(final Function<HeadlessAutoSaveFileUtils, File> fileOfHost) {
+    this.fileOfHost = fileOfHost;
   }
 
-  public File getFile() {
-    return path.toFile();
+  /** Returns the auto-save file of the host the given auto-save file utilities belong to. */
+  public File getFile(final HeadlessAutoSaveFileUtils autoSaveFileUtils) {
+    return fileOfHost.apply(autoSaveFileUtils);
   }
 }
@@ -17,6 +17,8 @@ import games.strategy.engine.delegate.DelegateExecutionManager;
 import games.strategy.engine.delegate.IDelegate;
 import games.strategy.engine.delegate.IDelegateBridge;
 import games.strategy.engine.delegate.IPersistentDelegate;
+import games.strategy.engine.framework.save.game.AsyncSaveGameWriter;
+import games.strategy.engine.framework.save.game.AutoSaveJournal;
 import games.strategy.engine.framework.save.game.GameDataWriter;
 import games.strategy.engine.framework.startup.launcher.LaunchAction;
 import games.strategy.engine.framework.startup.mc.IObserverWaitingToJoin;
@@ -41,6 +43,9 @@ import games.strategy.triplea.TripleAPlayer;
 import games.strategy.triplea.delegate.DiceRoll;
 import games.strategy.triplea.settings.ClientSetting;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
@@ -48,6 +53,7 @@ import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
+import javax.annotation.Nullable;
 import lombok.extern.java.Log;
 import org.triplea.java.Interruptibles;
 import org.triplea.util.ExitStatus;
@@ -65,9 +71,12 @@ public class ServerGame extends AbstractGame {
   private IRandomSource randomSource = new PlainRandomSource();
   private IRandomSource delegateRandomSource;
   private final DelegateExecutionManager delegateExecutionManager = new DelegateExecutionManager();
+  private final AsyncSaveGameWriter saveGameWriter = new AsyncSaveGameWriter();
   private InGameLobbyWatcherWrapper inGameLobbyWatcher;
   private boolean needToInitialize = true;
   private final LaunchAction launchAction;
+  // replaces the step auto-saves if incremental auto-saving is enabled
+  @Nullable private final AutoSaveJournal autoSaveJournal;
   /**
    * When the delegate execution is stopped, we countdown on this latch to prevent the
    * startgame(...) method from returning.
@@ -84,6 +93,10 @@ public class ServerGame extends AbstractGame {
       final LaunchAction launchAction) {
     super(data, localPlayers, remotePlayerMapping, messengers);
     this.launchAction = launchAction;
+    autoSaveJournal =
+        ClientSetting.incrementalAutoSave.getValueOrThrow()
+            ? new AutoSaveJournal(launchAction.getAutoSaveFileUtils().getJournalAutoSaveFile())
+            : null;
     gameModifiedChannel =
         new IGameModifiedChannel() {
           @Override
@@ -91,6 +104,9 @@ public class ServerGame extends AbstractGame {
             assertCorrectCaller();
             gameData.performChange(change);
             gameData.getHistory().getHistoryWriter().addChange(change);
+            if (autoSaveJournal != null) {
+              autoSaveJournal.changePerformed(change);
+            }
           }
 
           private void assertCorrectCaller() {
@@ -111,6 +127,9 @@ public class ServerGame extends AbstractGame {
           public void startHistoryEvent(final String event) {
             assertCorrectCaller();
             gameData.getHistory().getHistoryWriter().startEvent(event);
+            if (autoSaveJournal != null) {
+              autoSaveJournal.historyEventStarted(event);
+            }
           }
 
           @Override
@@ -120,11 +139,17 @@ public class ServerGame extends AbstractGame {
                 .getHistory()
                 .getHistoryWriter()
                 .addChildToEvent(new EventChild(text, renderingData));
+            if (autoSaveJournal != null) {
+              autoSaveJournal.historyChildAdded(text, renderingData);
+            }
           }
 
           void setRenderingData(final Object renderingData) {
             assertCorrectCaller();
             gameData.getHistory().getHistoryWriter().setRenderingData(renderingData);
+            if (autoSaveJournal != null) {
+              autoSaveJournal.historyRenderingDataSet(renderingData);
+            }
           }
 
           @Override
@@ -143,6 +168,9 @@ public class ServerGame extends AbstractGame {
                 .getHistory()
                 .getHistoryWriter()
                 .startNextStep(stepName, delegateName, player, displayName);
+            if (autoSaveJournal != null) {
+              autoSaveJournal.historyStepStarted(stepName, delegateName, player, displayName);
+            }
           }
 
           // nothing to do, we call this
@@ -360,25 +388,53 @@ public class ServerGame extends AbstractGame {
     } finally {
       delegateExecutionManager.resumeDelegateExecution();
     }
+    // auto-saves may still be being written
+    saveGameWriter.shutDown();
     gameData.getGameLoader().shutDown();
   }
 
   private void autoSaveBefore(final IDelegate delegate) {
-    saveGame(launchAction.getAutoSaveFileUtils().getBeforeStepAutoSaveFile(delegate.getName()));
+    autoSave(launchAction.getAutoSaveFileUtils().getBeforeStepAutoSaveFile(delegate.getName()));
+  }
+
+  /** Saves a step auto-save, or only journals what changed if incremental auto-saving is on. */
+  private void autoSave(final File file) {
+    if (autoSaveJournal != null) {
+      autoSaveJournal.commit(gameData, delegateExecutionManager);
+    } else {
+      saveGameInBackground(file);
+    }
   }
 
+  /** Saves a round auto-save, which is also the checkpoint of incremental auto-saving. */
+  private void autoSaveRound(final File file) {
+    if (autoSaveJournal == null) {
+      saveGameInBackground(file);
+      return;
+    }
+    autoSaveJournal.checkpoint(gameData, delegateExecutionManager);
+    try {
+      Files.copy(
+          autoSaveJournal.getCheckpointFile().toPath(),
+          file.toPath(),
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      log.log(Level.SEVERE, "Failed to save game to file: " + file.getAbsolutePath(), e);
+    }
+  }
+
+  /** Saves the game and waits until the save game has been written. */
   @Override
   public void saveGame(final File file) {
     checkNotNull(file);
 
-    final File parentDir = file.getParentFile();
-    if (!parentDir.exists() && !parentDir.mkdirs()) {
-      log.severe(
-          "Failed to create save game directory (or one of its ancestors): "
-              + parentDir.getAbsolutePath());
-    }
+    // failures are logged by the writer
+    saveGameWriter.save(gameData, delegateExecutionManager, file).exceptionally(e -> null).join();
+  }
 
-    GameDataWriter.writeToFile(gameData, delegateExecutionManager, file);
+  /** Saves the game without waiting for the save game to be written. */
+  private void saveGameInBackground(final File file) {
+    saveGameWriter.save(gameData, delegateExecutionManager, file);
   }
 
   private void runStep(final boolean stepIsRestoredFromSavedGame) {
@@ -427,7 +483,10 @@ public class ServerGame extends AbstractGame {
     }
     if (gameData.getSequence().next()) {
       gameData.getHistory().getHistoryWriter().startNextRound(gameData.getSequence().getRound());
-      saveGame(
+      if (autoSaveJournal != null) {
+        autoSaveJournal.historyRoundStarted(gameData.getSequence().getRound());
+      }
+      autoSaveRound(
           gameData.getSequence().getRound() % 2 == 0
               ? launchAction.getAutoSaveFileUtils().getEvenRoundAutoSaveFile()
               : launchAction.getAutoSaveFileUtils().getOddRoundAutoSaveFile());
@@ -439,14 +498,14 @@ public class ServerGame extends AbstractGame {
 
   private void autoSaveAfter(final String stepName) {
     final var saveUtils = launchAction.getAutoSaveFileUtils();
-    saveGame(saveUtils.getAfterStepAutoSaveFile(saveUtils.getAutoSaveStepName(stepName)));
+    autoSave(saveUtils.getAfterStepAutoSaveFile(saveUtils.getAutoSaveStepName(stepName)));
   }
 
   private void autoSaveAfter(final IDelegate delegate) {
     final String typeName = delegate.getClass().getTypeName();
     final String stepName =
         typeName.substring(typeName.lastIndexOf('.') + 1).replaceFirst("Delegate$", "");
-    saveGame(launchAction.getAutoSaveFileUtils().getAfterStepAutoSaveFile(stepName));
+    autoSave(launchAction.getAutoSaveFileUtils().getAfterStepAutoSaveFile(stepName));
   }
 
   private void endStep() {
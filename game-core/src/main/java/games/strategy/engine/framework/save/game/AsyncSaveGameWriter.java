@@ -0,0 +1,125 @@
+package games.strategy.engine.framework.save.game;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.delegate.DelegateExecutionManager;
+import games.strategy.engine.framework.GameDataManager;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import lombok.extern.java.Log;
+import org.triplea.java.Interruptibles;
+
+/**
+ * Saves games in two parts so that the game does not wait for the disk. The caller only serializes
+ * the game data into memory, in the format of a save game but uncompressed. A single background
+ * thread then compresses those bytes and writes them to a temporary file that is renamed to the
+ * save game once complete.
+ *
+ * <p>Saves are written in the order they were requested. At most {@value #MAX_QUEUED_SAVES} saves
+ * wait to be written, a caller requesting another save waits until there is room for it, so slow
+ * disks cannot make captured saves pile up in memory. {@link #shutDown()} waits for all requested
+ * saves to be written.
+ */
+@Log
+public final class AsyncSaveGameWriter {
+  private static final int MAX_QUEUED_SAVES = 2;
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 60;
+
+  private final ExecutorService executor =
+      new ThreadPoolExecutor(
+          1,
+          1,
+          0L,
+          TimeUnit.MILLISECONDS,
+          new ArrayBlockingQueue<>(MAX_QUEUED_SAVES),
+          runnable -> {
+            final Thread thread = new Thread(runnable, "Save Game Writer");
+            thread.setDaemon(true);
+            return thread;
+          },
+          AsyncSaveGameWriter::waitForRoomInQueue);
+
+  private static void waitForRoomInQueue(
+      final Runnable runnable, final ThreadPoolExecutor executor) {
+    if (executor.isShutdown()) {
+      throw new RejectedExecutionException("Save game writer has been shut down");
+    }
+    if (!Interruptibles.await(() -> executor.getQueue().put(runnable))) {
+      throw new RejectedExecutionException("Interrupted while waiting to queue save game");
+    }
+  }
+
+  /**
+   * Captures the game data and queues it to be written to the given file. The returned future
+   * completes once the file has been written, or exceptionally if saving failed. If this writer has
+   * been shut down, the save is written before this method returns.
+   */
+  public CompletableFuture<Void> save(
+      final GameData gameData,
+      final DelegateExecutionManager delegateExecutionManager,
+      final File file) {
+    final byte[] saveGame =
+        GameDataWriter.captureSaveGame(gameData, delegateExecutionManager).orElse(null);
+    if (saveGame == null) {
+      return CompletableFuture.failedFuture(
+          new IOException("Failed to capture game data to save: " + file.getAbsolutePath()));
+    }
+    try {
+      return CompletableFuture.runAsync(() -> write(saveGame, file), executor);
+    } catch (final RejectedExecutionException e) {
+      return CompletableFuture.runAsync(() -> write(saveGame, file), Runnable::run);
+    }
+  }
+
+  private static void write(final byte[] saveGame, final File file) {
+    try {
+      final Path parentDir = file.getAbsoluteFile().toPath().getParent();
+      Files.createDirectories(parentDir);
+      final Path tempFile = Files.createTempFile(parentDir, file.getName(), null);
+      try {
+        try (OutputStream os = Files.newOutputStream(tempFile)) {
+          GameDataManager.saveGame(os, saveGame);
+        }
+        moveReplacing(tempFile, file.toPath());
+      } finally {
+        Files.deleteIfExists(tempFile);
+      }
+    } catch (final IOException e) {
+      log.log(Level.SEVERE, "Failed to save game to file: " + file.getAbsolutePath(), e);
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void moveReplacing(final Path source, final Path target) throws IOException {
+    try {
+      Files.move(
+          source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (final AtomicMoveNotSupportedException e) {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  /** Stops accepting saves and waits for all saves requested so far to be written. */
+  public void shutDown() {
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        log.severe("Timed out waiting for save games to be written");
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
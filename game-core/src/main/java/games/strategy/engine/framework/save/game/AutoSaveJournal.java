@@ -0,0 +1,419 @@
+package games.strategy.engine.framework.save.game;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameObjectOutputStream;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.GameSequence;
+import games.strategy.engine.delegate.DelegateExecutionManager;
+import games.strategy.engine.delegate.IDelegate;
+import games.strategy.engine.framework.GameDataManager;
+import games.strategy.engine.framework.GameObjectStreamFactory;
+import games.strategy.engine.history.EventChild;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.extern.java.Log;
+
+/**
+ * An auto-save made of a full checkpoint save game and a journal of everything that happened to the
+ * game since the checkpoint was written.
+ *
+ * <p>The journal records the same changes and history events that the server sends to its clients
+ * on the game modification channel. They are serialized as they happen and appended to the journal
+ * file as one segment at every auto-save point, together with the position of the game sequence
+ * and the state of the delegates at that point. Writing a segment is proportional to what happened
+ * since the previous auto-save instead of to the size of the whole game, which includes its
+ * history.
+ *
+ * <p>A new checkpoint is written periodically (at the start of every round), which compacts the
+ * journal by starting a new, empty one. The journal records a checksum of its checkpoint, so a
+ * journal that does not belong to the checkpoint next to it is ignored.
+ *
+ * <p>{@link #replay(GameData, File)} applies the journal of a checkpoint to the game data loaded
+ * from that checkpoint, which yields the game data as of the last complete segment.
+ */
+@Log
+public final class AutoSaveJournal {
+  private static final String JOURNAL_EXTENSION = ".journal";
+  private static final int MAGIC = 0x54414a31;
+
+  private final File checkpointFile;
+  private final File journalFile;
+  // entries recorded since the last segment was written, null until the first checkpoint exists
+  @Nullable private ByteArrayOutputStream pendingBytes;
+  @Nullable private ObjectOutputStream pendingEntries;
+
+  public AutoSaveJournal(final File checkpointFile) {
+    this.checkpointFile = checkNotNull(checkpointFile);
+    journalFile = getJournalFile(checkpointFile);
+  }
+
+  /** Returns the file holding the journal that belongs to the given checkpoint save game. */
+  public static File getJournalFile(final File checkpointFile) {
+    return new File(checkpointFile.getPath() + JOURNAL_EXTENSION);
+  }
+
+  public File getCheckpointFile() {
+    return checkpointFile;
+  }
+
+  /** Records a change that has been performed on the game data and added to its history. */
+  public void changePerformed(final Change change) {
+    record(new ChangeEntry(change));
+  }
+
+  /** Records a new history event. */
+  public void historyEventStarted(final String event) {
+    record(new EventEntry(event));
+  }
+
+  /** Records the rendering data set on the current history event. */
+  public void historyRenderingDataSet(final Object renderingData) {
+    record(new RenderingDataEntry(renderingData));
+  }
+
+  /** Records a child added to the current history event. */
+  public void historyChildAdded(final String text, final Object renderingData) {
+    record(new EventChildEntry(text, renderingData));
+  }
+
+  /** Records a new history step. */
+  public void historyStepStarted(
+      final String stepName,
+      final String delegateName,
+      final GamePlayer player,
+      final String displayName) {
+    record(new StepEntry(stepName, delegateName, player, displayName));
+  }
+
+  /** Records a new history round. */
+  public void historyRoundStarted(final int round) {
+    record(new RoundEntry(round));
+  }
+
+  private synchronized void record(final Entry entry) {
+    if (pendingEntries == null) {
+      // everything before the first checkpoint is part of that checkpoint
+      return;
+    }
+    try {
+      pendingEntries.writeObject(entry);
+      // serialize every entry on its own, the same way it is sent to clients
+      pendingEntries.reset();
+    } catch (final IOException e) {
+      log.log(Level.SEVERE, "Failed to record auto-save journal entry: " + entry, e);
+      pendingBytes = null;
+      pendingEntries = null;
+    }
+  }
+
+  /**
+   * Appends everything recorded since the previous auto-save point to the journal. Writes a new
+   * checkpoint instead if there is no usable checkpoint yet.
+   */
+  public void commit(final GameData data, final DelegateExecutionManager delegateExecutionManager) {
+    if (!blockDelegateExecution(delegateExecutionManager)) {
+      return;
+    }
+    try {
+      synchronized (this) {
+        if (pendingEntries == null) {
+          writeCheckpoint(data);
+          return;
+        }
+        pendingEntries.writeObject(newMarker(data));
+        pendingEntries.close();
+        try (DataOutputStream out =
+            new DataOutputStream(
+                Files.newOutputStream(journalFile.toPath(), StandardOpenOption.APPEND))) {
+          out.writeInt(pendingBytes.size());
+          pendingBytes.writeTo(out);
+        }
+        startSegment();
+      }
+    } catch (final IOException e) {
+      log.log(Level.SEVERE, "Failed to write auto-save journal: " + journalFile, e);
+      synchronized (this) {
+        pendingBytes = null;
+        pendingEntries = null;
+      }
+    } finally {
+      delegateExecutionManager.resumeDelegateExecution();
+    }
+  }
+
+  /** Writes a full checkpoint of the game and starts a new, empty journal for it. */
+  public void checkpoint(
+      final GameData data, final DelegateExecutionManager delegateExecutionManager) {
+    if (!blockDelegateExecution(delegateExecutionManager)) {
+      return;
+    }
+    try {
+      synchronized (this) {
+        writeCheckpoint(data);
+      }
+    } finally {
+      delegateExecutionManager.resumeDelegateExecution();
+    }
+  }
+
+  private void writeCheckpoint(final GameData data) {
+    pendingBytes = null;
+    pendingEntries = null;
+    try {
+      final File parentDir = checkpointFile.getAbsoluteFile().getParentFile();
+      if (!parentDir.exists() && !parentDir.mkdirs()) {
+        throw new IOException("Failed to create directory: " + parentDir.getAbsolutePath());
+      }
+      // replace the checkpoint only once it is complete, a stale journal is detected by checksum
+      final File tempFile = File.createTempFile(checkpointFile.getName(), null, parentDir);
+      try {
+        try (OutputStream out = Files.newOutputStream(tempFile.toPath())) {
+          GameDataManager.saveGame(out, data);
+        }
+        Files.move(
+            tempFile.toPath(), checkpointFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      } finally {
+        Files.deleteIfExists(tempFile.toPath());
+      }
+      try (DataOutputStream out =
+          new DataOutputStream(Files.newOutputStream(journalFile.toPath()))) {
+        out.writeInt(MAGIC);
+        out.writeLong(checksum(checkpointFile));
+      }
+      startSegment();
+    } catch (final IOException e) {
+      log.log(Level.SEVERE, "Failed to write auto-save checkpoint: " + checkpointFile, e);
+    }
+  }
+
+  private void startSegment() throws IOException {
+    pendingBytes = new ByteArrayOutputStream();
+    pendingEntries = new GameObjectOutputStream(pendingBytes);
+  }
+
+  private static boolean blockDelegateExecution(
+      final DelegateExecutionManager delegateExecutionManager) {
+    try {
+      if (!delegateExecutionManager.blockDelegateExecution(6000)) {
+        log.severe("Error auto-saving game.. could not lock delegate execution");
+        return false;
+      }
+      return true;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private static Marker newMarker(final GameData data) {
+    final GameSequence sequence = data.getSequence();
+    final int[] runCounts = new int[sequence.size()];
+    for (int i = 0; i < runCounts.length; i++) {
+      runCounts[i] = sequence.getStep(i).getRunCount();
+    }
+    final Map<String, Serializable> delegateStates = new HashMap<>();
+    for (final IDelegate delegate : data.getDelegates()) {
+      delegateStates.put(delegate.getName(), delegate.saveState());
+    }
+    return new Marker(
+        sequence.getRoundWithoutOffset(), sequence.getStepIndex(), runCounts, delegateStates);
+  }
+
+  private static long checksum(final File file) throws IOException {
+    try (InputStream fileInputStream = Files.newInputStream(file.toPath());
+        CheckedInputStream is = new CheckedInputStream(fileInputStream, new CRC32())) {
+      final byte[] buffer = new byte[8192];
+      while (is.read(buffer) >= 0) {
+        // only reading for the checksum
+      }
+      return is.getChecksum().getValue();
+    }
+  }
+
+  /**
+   * Applies the journal that belongs to the given checkpoint to the game data loaded from that
+   * checkpoint. Does nothing if there is no such journal. Segments that were not written completely
+   * are ignored.
+   */
+  public static void replay(final GameData data, final File checkpointFile) throws IOException {
+    final File journalFile = getJournalFile(checkpointFile);
+    if (!journalFile.exists()) {
+      return;
+    }
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(journalFile.toPath())))) {
+      if (in.readInt() != MAGIC || in.readLong() != checksum(checkpointFile)) {
+        log.warning("Ignoring auto-save journal that does not match its save game: " + journalFile);
+        return;
+      }
+      for (byte[] segment = readSegment(in); segment != null; segment = readSegment(in)) {
+        replaySegment(data, segment);
+      }
+    } catch (final EOFException e) {
+      log.warning("Ignoring truncated auto-save journal: " + journalFile);
+    }
+  }
+
+  @Nullable
+  private static byte[] readSegment(final DataInputStream in) throws IOException {
+    final int length;
+    try {
+      length = in.readInt();
+    } catch (final EOFException e) {
+      return null;
+    }
+    final byte[] segment = new byte[length];
+    try {
+      in.readFully(segment);
+    } catch (final EOFException e) {
+      // the game stopped while this segment was being written
+      return null;
+    }
+    return segment;
+  }
+
+  private static void replaySegment(final GameData data, final byte[] segment) throws IOException {
+    final List<Entry> entries = new ArrayList<>();
+    final GameObjectStreamFactory factory = new GameObjectStreamFactory(data);
+    try (ObjectInputStream in = factory.create(new ByteArrayInputStream(segment))) {
+      Entry entry;
+      do {
+        entry = (Entry) in.readObject();
+        entries.add(entry);
+      } while (!(entry instanceof Marker));
+    } catch (final ClassNotFoundException e) {
+      throw new IOException(e);
+    }
+    entries.forEach(e -> e.replay(data));
+  }
+
+  /** An event recorded in the journal that can be applied to the game data again. */
+  private interface Entry extends Serializable {
+    void replay(GameData data);
+  }
+
+  @AllArgsConstructor
+  private static final class ChangeEntry implements Entry {
+    private static final long serialVersionUID = 1L;
+    private final Change change;
+
+    @Override
+    public void replay(final GameData data) {
+      data.performChange(change);
+      data.getHistory().getHistoryWriter().addChange(change);
+    }
+  }
+
+  @AllArgsConstructor
+  private static final class EventEntry implements Entry {
+    private static final long serialVersionUID = 1L;
+    private final String event;
+
+    @Override
+    public void replay(final GameData data) {
+      data.getHistory().getHistoryWriter().startEvent(event);
+    }
+  }
+
+  @AllArgsConstructor
+  private static final class RenderingDataEntry implements Entry {
+    private static final long serialVersionUID = 1L;
+    private final Object renderingData;
+
+    @Override
+    public void replay(final GameData data) {
+      data.getHistory().getHistoryWriter().setRenderingData(renderingData);
+    }
+  }
+
+  @AllArgsConstructor
+  private static final class EventChildEntry implements Entry {
+    private static final long serialVersionUID = 1L;
+    private final String text;
+    private final Object renderingData;
+
+    @Override
+    public void replay(final GameData data) {
+      data.getHistory().getHistoryWriter().addChildToEvent(new EventChild(text, renderingData));
+    }
+  }
+
+  @AllArgsConstructor
+  private static final class StepEntry implements Entry {
+    private static final long serialVersionUID = 1L;
+    private final String stepName;
+    private final String delegateName;
+    private final GamePlayer player;
+    private final String displayName;
+
+    @Override
+    public void replay(final GameData data) {
+      data.getHistory()
+          .getHistoryWriter()
+          .startNextStep(stepName, delegateName, player, displayName);
+    }
+  }
+
+  @AllArgsConstructor
+  private static final class RoundEntry implements Entry {
+    private static final long serialVersionUID = 1L;
+    private final int round;
+
+    @Override
+    public void replay(final GameData data) {
+      data.getHistory().getHistoryWriter().startNextRound(round);
+    }
+  }
+
+  /** Ends a segment with the state that is not tracked by changes, as of the auto-save point. */
+  @AllArgsConstructor
+  private static final class Marker implements Entry {
+    private static final long serialVersionUID = 1L;
+    private final int round;
+    private final int stepIndex;
+    private final int[] runCounts;
+    private final Map<String, Serializable> delegateStates;
+
+    @Override
+    public void replay(final GameData data) {
+      final GameSequence sequence = data.getSequence();
+      sequence.restorePosition(round, stepIndex);
+      for (int i = 0; i < runCounts.length; i++) {
+        sequence.getStep(i).setRunCount(runCounts[i]);
+      }
+      delegateStates.forEach(
+          (name, state) -> {
+            final IDelegate delegate = data.getDelegate(name);
+            if (delegate != null) {
+              delegate.loadState(state);
+            }
+          });
+    }
+  }
+}
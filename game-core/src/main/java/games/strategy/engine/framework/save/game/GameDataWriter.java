@@ -7,6 +7,7 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Optional;
 import java.util.logging.Level;
 import lombok.experimental.UtilityClass;
 import lombok.extern.java.Log;
@@ -40,11 +41,43 @@ public class GameDataWriter {
     }
   }
 
+  /**
+   * Captures the game data, including the state of its delegates, as an uncompressed save game that
+   * can be compressed and written to a file later without holding up the game. Returns empty if
+   * delegate execution could not be blocked to capture the game data.
+   */
+  static Optional<byte[]> captureSaveGame(
+      final GameData gameData, final DelegateExecutionManager delegateExecutionManager) {
+    if (!blockDelegateExecution(delegateExecutionManager)) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(GameDataManager.writeUncompressedSaveGame(gameData));
+    } catch (final IOException e) {
+      log.log(Level.SEVERE, "Failed to capture game data", e);
+      return Optional.empty();
+    } finally {
+      delegateExecutionManager.resumeDelegateExecution();
+    }
+  }
+
   private static void writeToOutputStream(
       final GameData gameData,
       final OutputStream out,
       final DelegateExecutionManager delegateExecutionManager)
       throws IOException {
+    if (!blockDelegateExecution(delegateExecutionManager)) {
+      return;
+    }
+    try {
+      GameDataManager.saveGame(out, gameData);
+    } finally {
+      delegateExecutionManager.resumeDelegateExecution();
+    }
+  }
+
+  private static boolean blockDelegateExecution(
+      final DelegateExecutionManager delegateExecutionManager) {
     final String errorMessage = "Error saving game.. ";
 
     try {
@@ -53,18 +86,13 @@ public class GameDataWriter {
         // try again
         if (!delegateExecutionManager.blockDelegateExecution(6000)) {
           log.severe(errorMessage + " could not lock delegate execution");
-          return;
+          return false;
         }
       }
     } catch (final InterruptedException e) {
       Thread.currentThread().interrupt();
-      return;
-    }
-
-    try {
-      GameDataManager.saveGame(out, gameData);
-    } finally {
-      delegateExecutionManager.resumeDelegateExecution();
+      return false;
     }
+    return true;
   }
 }
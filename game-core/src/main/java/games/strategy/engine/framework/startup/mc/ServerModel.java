@@ -104,6 +104,8 @@ public class ServerModel extends Observable implements IConnectionChangeListener
   private final GameSelectorModel gameSelectorModel;
   @Nullable private final JFrame ui;
   private final LaunchAction launchAction;
+  // the headless game server this server belongs to, null when hosting from the UI
+  @Nullable private final HeadlessGameServer headlessGameServer;
   private ChatModel chatModel;
   private Runnable chatModelCancel;
   private ChatController chatController;
@@ -204,27 +206,25 @@ public class ServerModel extends Observable implements IConnectionChangeListener
 
         @Override
         public Set<String> getAvailableGames() {
-          final HeadlessGameServer headless = HeadlessGameServer.getInstance();
-          if (headless == null) {
+          if (headlessGameServer == null) {
             return null;
           }
-          return headless.getAvailableGames();
+          return headlessGameServer.getAvailableGames();
         }
 
         @Override
         public void changeServerGameTo(final String gameName) {
-          final HeadlessGameServer headless = HeadlessGameServer.getInstance();
-          if (headless == null) {
+          if (headlessGameServer == null) {
             return;
           }
-          headless.setGameMapTo(gameName);
+          headlessGameServer.setGameMapTo(gameName);
         }
 
         @Override
         public void changeToLatestAutosave(final HeadlessAutoSaveType autoSaveType) {
-          final @Nullable HeadlessGameServer headlessGameServer = HeadlessGameServer.getInstance();
           if (headlessGameServer != null) {
-            headlessGameServer.loadGameSave(autoSaveType.getFile());
+            headlessGameServer.loadGameSave(
+                autoSaveType.getFile(headlessGameServer.getAutoSaveFileUtils()));
           }
         }
 
@@ -233,8 +233,7 @@ public class ServerModel extends Observable implements IConnectionChangeListener
           // TODO: change to a string message return, so we can tell the user/requestor if it was
           // successful or not, and why
           // if not.
-          final HeadlessGameServer headless = HeadlessGameServer.getInstance();
-          if (headless == null || bytes == null) {
+          if (headlessGameServer == null || bytes == null) {
             return;
           }
           try {
@@ -242,7 +241,7 @@ public class ServerModel extends Observable implements IConnectionChangeListener
                 bytes,
                 is -> {
                   try (InputStream inputStream = new BufferedInputStream(is)) {
-                    headless.loadGameSave(inputStream, fileName);
+                    headlessGameServer.loadGameSave(inputStream, fileName);
                   }
                 });
           } catch (final Exception e) {
@@ -255,12 +254,11 @@ public class ServerModel extends Observable implements IConnectionChangeListener
           // TODO: change to a string message return, so we can tell the user/requestor if it was
           // successful or not, and why
           // if not.
-          final HeadlessGameServer headless = HeadlessGameServer.getInstance();
-          if (headless == null || bytes == null) {
+          if (headlessGameServer == null || bytes == null) {
             return;
           }
           try {
-            headless.loadGameOptions(bytes);
+            headlessGameServer.loadGameOptions(bytes);
           } catch (final Exception e) {
             log.log(Level.SEVERE, "Failed to load game options", e);
           }
@@ -273,11 +271,26 @@ public class ServerModel extends Observable implements IConnectionChangeListener
       @Nullable final JFrame ui,
       final LaunchAction launchAction,
       final Consumer<String> errorHandler) {
+    this(gameSelectorModel, serverSetupModel, ui, launchAction, errorHandler, null);
+  }
+
+  /**
+   * Creates a server for the given headless game server. A process may host several headless game
+   * servers, so remote requests to change the game are passed on to the given one.
+   */
+  public ServerModel(
+      final GameSelectorModel gameSelectorModel,
+      final ServerSetupModel serverSetupModel,
+      @Nullable final JFrame ui,
+      final LaunchAction launchAction,
+      final Consumer<String> errorHandler,
+      @Nullable final HeadlessGameServer headlessGameServer) {
     this.gameSelectorModel = Preconditions.checkNotNull(gameSelectorModel);
     this.serverSetupModel = Preconditions.checkNotNull(serverSetupModel);
     this.gameSelectorModel.addObserver(gameSelectorObserver);
     this.ui = ui;
     this.launchAction = launchAction;
+    this.headlessGameServer = headlessGameServer;
     getServerProps().ifPresent(props -> this.createServerMessenger(props, errorHandler));
   }
 
@@ -344,6 +357,14 @@ public class ServerModel extends Observable implements IConnectionChangeListener
   }
 
   private Optional<ServerConnectionProps> getServerProps() {
+    if (headlessGameServer != null) {
+      return Optional.of(
+          ServerConnectionProps.builder()
+              .name(headlessGameServer.getName())
+              .port(headlessGameServer.getPort())
+              .password(System.getProperty(SERVER_PASSWORD))
+              .build());
+    }
     if (System.getProperty(TRIPLEA_SERVER, "false").equals("true") && GameState.notStarted()) {
       GameState.setStarted();
       return Optional.of(
@@ -12,6 +12,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.logging.Level;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import lombok.extern.java.Log;
 import org.triplea.java.UrlStreams;
 
@@ -24,8 +25,21 @@ final class DefaultGameChooserEntry implements GameChooserEntry {
 
   DefaultGameChooserEntry(final URI uri)
       throws IOException, GameParseException, EngineVersionException {
+    this(uri, null);
+  }
+
+  DefaultGameChooserEntry(final URI uri, @Nullable final MapCatalog mapCatalog)
+      throws IOException, GameParseException, EngineVersionException {
     url = uri;
 
+    final Optional<GameData> catalogedGameData =
+        Optional.ofNullable(mapCatalog).flatMap(catalog -> catalog.getGameData(uri, false));
+    if (catalogedGameData.isPresent()) {
+      gameData = catalogedGameData.get();
+      gameNameAndMapNameProperty = getGameName() + ":" + getMapNameProperty();
+      return;
+    }
+
     final Optional<InputStream> inputStream = UrlStreams.openStream(uri);
     if (inputStream.isEmpty()) {
       gameNameAndMapNameProperty = "";
@@ -37,6 +51,9 @@ final class DefaultGameChooserEntry implements GameChooserEntry {
       gameData = GameParser.parseShallow(uri.toString(), input);
       gameNameAndMapNameProperty = getGameName() + ":" + getMapNameProperty();
     }
+    if (mapCatalog != null) {
+      mapCatalog.putGameData(uri, gameData, false);
+    }
   }
 
   @Override
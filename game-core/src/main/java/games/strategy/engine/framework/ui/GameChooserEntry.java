@@ -37,4 +37,13 @@ public interface GameChooserEntry extends Comparable<GameChooserEntry> {
       throws IOException, GameParseException, EngineVersionException {
     return new DefaultGameChooserEntry(uri);
   }
+
+  /**
+   * Creates an entry for the game at the given URI, taking its game data from the given catalog if
+   * the game did not change since it was cataloged, and adding it to the catalog otherwise.
+   */
+  static GameChooserEntry newInstance(final URI uri, final MapCatalog mapCatalog)
+      throws IOException, GameParseException, EngineVersionException {
+    return new DefaultGameChooserEntry(uri, mapCatalog);
+  }
 }
@@ -54,21 +54,29 @@ public final class GameChooserModel extends DefaultListModel<GameChooserEntry> {
     return super.get(i);
   }
 
+  /**
+   * Finds all games installed in the user's maps folder. Only games that changed since they were
+   * last found are parsed, the others are taken from the {@link MapCatalog}.
+   */
   public static Set<GameChooserEntry> parseMapFiles() {
-    return FileUtils.listFiles(ClientFileSystemHelper.getUserMapsFolder())
-        .parallelStream()
-        .flatMap(
-            map -> {
-              if (map.isDirectory()) {
-                return getDirectoryUris(map);
-              } else if (map.isFile() && map.getName().toLowerCase().endsWith(".zip")) {
-                return getZipUris(map);
-              }
-              return Stream.empty();
-            })
-        .map(GameChooserModel::newGameChooserEntry)
-        .flatMap(Optional::stream)
-        .collect(Collectors.toUnmodifiableSet());
+    final MapCatalog mapCatalog = MapCatalog.load();
+    final Set<GameChooserEntry> gameChooserEntries =
+        FileUtils.listFiles(ClientFileSystemHelper.getUserMapsFolder())
+            .parallelStream()
+            .flatMap(
+                map -> {
+                  if (map.isDirectory()) {
+                    return getDirectoryUris(map);
+                  } else if (map.isFile() && map.getName().toLowerCase().endsWith(".zip")) {
+                    return getZipUris(map);
+                  }
+                  return Stream.empty();
+                })
+            .map(uri -> newGameChooserEntry(uri, mapCatalog))
+            .flatMap(Optional::stream)
+            .collect(Collectors.toUnmodifiableSet());
+    mapCatalog.save();
+    return gameChooserEntries;
   }
 
   private static Stream<URI> getZipUris(final File map) {
@@ -139,10 +147,12 @@ public final class GameChooserModel extends DefaultListModel<GameChooserEntry> {
    * From a given URI, creates a GameChooserEntry and adds to the given entries list.
    *
    * @param uri URI of the new entry
+   * @param mapCatalog The catalog to take the game data of the entry from, if it is up to date.
    */
-  private static Optional<GameChooserEntry> newGameChooserEntry(final URI uri) {
+  private static Optional<GameChooserEntry> newGameChooserEntry(
+      final URI uri, final MapCatalog mapCatalog) {
     try {
-      return Optional.of(GameChooserEntry.newInstance(uri));
+      return Optional.of(GameChooserEntry.newInstance(uri, mapCatalog));
     } catch (final EngineVersionException e) {
       // suppress any maps that have version problems (map requires a min version
       // not compatible with current version). Returning empty here should
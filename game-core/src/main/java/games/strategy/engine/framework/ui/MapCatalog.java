@@ -0,0 +1,244 @@
+package games.strategy.engine.framework.ui;
+
+import com.google.common.annotations.VisibleForTesting;
+import games.strategy.engine.ClientContext;
+import games.strategy.engine.ClientFileSystemHelper;
+import games.strategy.engine.data.GameData;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.net.JarURLConnection;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarFile;
+import java.util.logging.Level;
+import java.util.zip.CRC32;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import lombok.extern.java.Log;
+
+/**
+ * An on-disk catalog of the games in the user's maps folder, so game files do not have to be
+ * parsed again every time the available games are listed. For every game file the catalog stores
+ * the shallow game data (name, version, players and properties such as the notes), keyed by the
+ * URI of the game file and stamped with its size, modification time and checksum. Game data is
+ * only taken from the catalog if the stamp of the game file did not change.
+ *
+ * <p>A catalog written by another engine version or for another maps folder is discarded. Entries
+ * that were neither looked up nor added since the catalog was loaded are dropped when it is saved,
+ * so the catalog does not keep maps that were removed. This class is thread-safe.
+ */
+@Log
+public final class MapCatalog {
+  private static final String FILE_NAME = "mapCatalog";
+
+  private final File file;
+  private final String header;
+  private final Map<String, Entry> loadedEntries;
+  private final Map<String, Entry> usedEntries = new ConcurrentHashMap<>();
+  // the stamps of game files not found in the catalog, taken before they are parsed
+  private final Map<String, Stamp> missedStamps = new ConcurrentHashMap<>();
+
+  /** The size, modification time and checksum of a game file when it was parsed. */
+  @Value
+  @VisibleForTesting
+  static class Stamp implements Serializable {
+    private static final long serialVersionUID = -2453781532906317652L;
+
+    long size;
+    long lastModified;
+    long checksum;
+  }
+
+  @AllArgsConstructor
+  private static final class Entry implements Serializable {
+    private static final long serialVersionUID = 6312452473329125937L;
+
+    private final Stamp stamp;
+    // the serialized game data, so an entry that can't be read does not discard the whole catalog
+    private final byte[] gameData;
+    // whether the game file could be parsed completely, not only shallow
+    private final boolean verified;
+  }
+
+  private MapCatalog(final File file, final String header, final Map<String, Entry> entries) {
+    this.file = file;
+    this.header = header;
+    loadedEntries = entries;
+  }
+
+  /**
+   * Loads the catalog of the user's maps folder. Returns an empty catalog if there is none or it
+   * can't be read.
+   */
+  public static MapCatalog load() {
+    return load(
+        new File(ClientFileSystemHelper.getUserRootFolder(), FILE_NAME),
+        ClientContext.engineVersion() + "|" + ClientFileSystemHelper.getUserMapsFolder());
+  }
+
+  /**
+   * Loads the catalog stored in the given file. Returns an empty catalog if there is none, it
+   * can't be read or it was written with another header.
+   */
+  @VisibleForTesting
+  @SuppressWarnings("unchecked")
+  static MapCatalog load(final File file, final String header) {
+    if (file.exists()) {
+      try (InputStream is = new FileInputStream(file);
+          ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(is))) {
+        if (header.equals(in.readObject())) {
+          return new MapCatalog(file, header, (Map<String, Entry>) in.readObject());
+        }
+      } catch (final IOException | ClassNotFoundException | ClassCastException e) {
+        log.log(Level.INFO, "Discarding unreadable map catalog: " + file.getAbsolutePath(), e);
+      }
+    }
+    return new MapCatalog(file, header, Map.of());
+  }
+
+  /**
+   * Returns the shallow game data of the game file at the given URI if the file did not change
+   * since its game data was added to the catalog.
+   *
+   * @param uri The URI of the game file.
+   * @param verified Whether only game data of game files that could be parsed completely is to be
+   *     returned.
+   */
+  public Optional<GameData> getGameData(final URI uri, final boolean verified) {
+    final Optional<Stamp> stamp = newStamp(uri);
+    if (stamp.isEmpty()) {
+      return Optional.empty();
+    }
+    final String key = uri.toString();
+    final Entry entry = usedEntries.getOrDefault(key, loadedEntries.get(key));
+    if (entry != null && entry.stamp.equals(stamp.get())) {
+      // keep entries that are still valid, even if they are not verified as asked for
+      usedEntries.put(key, entry);
+      if (entry.verified || !verified) {
+        try (ObjectInputStream in =
+            new ObjectInputStream(new ByteArrayInputStream(entry.gameData))) {
+          final GameData gameData = (GameData) in.readObject();
+          gameData.postDeSerialize();
+          return Optional.of(gameData);
+        } catch (final IOException | ClassNotFoundException | ClassCastException e) {
+          log.log(Level.FINE, "Failed to read cataloged game data: " + key, e);
+          usedEntries.remove(key);
+        }
+      }
+    }
+    missedStamps.put(key, stamp.get());
+    return Optional.empty();
+  }
+
+  /**
+   * Adds the shallow game data of the game file at the given URI to the catalog. The game file is
+   * stamped when it was not found in the catalog, before it was parsed, so a game file changed
+   * while it was parsed is parsed again next time.
+   *
+   * @param uri The URI of the game file.
+   * @param gameData The shallow game data of the game file.
+   * @param verified Whether the game file could be parsed completely.
+   */
+  public void putGameData(final URI uri, final GameData gameData, final boolean verified) {
+    final String key = uri.toString();
+    final Optional<Stamp> stamp =
+        Optional.ofNullable(missedStamps.remove(key)).or(() -> newStamp(uri));
+    if (stamp.isEmpty()) {
+      return;
+    }
+    final ByteArrayOutputStream os = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(os)) {
+      out.writeObject(gameData);
+    } catch (final IOException e) {
+      log.log(Level.WARNING, "Failed to catalog game data: " + key, e);
+      return;
+    }
+    usedEntries.put(key, new Entry(stamp.get(), os.toByteArray(), verified));
+  }
+
+  /**
+   * Writes the entries looked up or added since the catalog was loaded to its file, unless they
+   * are the entries loaded. The catalog is written to a temporary file that then replaces the
+   * catalog file, so a process reading the catalog meanwhile never sees it partly written.
+   */
+  public void save() {
+    final Map<String, Entry> entries = new HashMap<>(usedEntries);
+    if (entries.equals(loadedEntries)) {
+      return;
+    }
+    try {
+      final Path parentDir = file.getAbsoluteFile().toPath().getParent();
+      Files.createDirectories(parentDir);
+      final Path tempFile = Files.createTempFile(parentDir, file.getName(), null);
+      try {
+        try (OutputStream os = Files.newOutputStream(tempFile);
+            ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(os))) {
+          out.writeObject(header);
+          out.writeObject(entries);
+        }
+        moveReplacing(tempFile, file.toPath());
+      } finally {
+        Files.deleteIfExists(tempFile);
+      }
+    } catch (final IOException e) {
+      log.log(Level.WARNING, "Failed to write map catalog: " + file.getAbsolutePath(), e);
+    }
+  }
+
+  private static void moveReplacing(final Path source, final Path target) throws IOException {
+    try {
+      Files.move(
+          source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (final AtomicMoveNotSupportedException e) {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  /**
+   * Returns the stamp of the game file at the given URI, a file in a map folder or an entry of a
+   * map zip, or empty if the game file can't be read.
+   */
+  @VisibleForTesting
+  static Optional<Stamp> newStamp(final URI uri) {
+    try {
+      if ("file".equals(uri.getScheme())) {
+        final File gameFile = new File(uri);
+        final CRC32 checksum = new CRC32();
+        checksum.update(Files.readAllBytes(gameFile.toPath()));
+        return Optional.of(
+            new Stamp(gameFile.length(), gameFile.lastModified(), checksum.getValue()));
+      } else if ("jar".equals(uri.getScheme())) {
+        final JarURLConnection connection = (JarURLConnection) uri.toURL().openConnection();
+        // a cached zip file would stay open, which prevents deleting the map on windows
+        connection.setUseCaches(false);
+        try (JarFile zipFile = connection.getJarFile()) {
+          final File mapFile = new File(connection.getJarFileURL().toURI());
+          return Optional.of(
+              new Stamp(
+                  mapFile.length(), mapFile.lastModified(), connection.getJarEntry().getCrc()));
+        }
+      }
+    } catch (final IOException | URISyntaxException | IllegalArgumentException e) {
+      log.log(Level.FINE, "Failed to stamp game file: " + uri, e);
+    }
+    return Optional.empty();
+  }
+}
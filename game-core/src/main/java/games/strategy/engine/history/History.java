@@ -1,7 +1,6 @@
 package games.strategy.engine.history;
 
 import games.strategy.engine.data.Change;
-import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.triplea.ui.history.HistoryPanel;
@@ -23,6 +22,8 @@ public class History extends DefaultTreeModel {
 
   private final HistoryWriter writer = new HistoryWriter(this);
   private final List<Change> changes = new ArrayList<>();
+  // built on first use, so it is there however the history was created, also when deserialized
+  private transient HistoryKeyframes keyframes;
   private final GameData gameData;
   private HistoryNode currentNode;
   private HistoryPanel panel = null;
@@ -64,6 +65,11 @@ public class History extends DefaultTreeModel {
     return getLastChildInternal((HistoryNode) getRoot());
   }
 
+  /** Returns true if the game data is not showing a point in the history before the last node. */
+  boolean isAtLastNode() {
+    return currentNode == null || currentNode == getLastNode();
+  }
+
   private HistoryNode getLastChildInternal(final HistoryNode node) {
     if (node.getChildCount() == 0) {
       return node;
@@ -94,13 +100,7 @@ public class History extends DefaultTreeModel {
     assertCorrectThread();
     final int firstChange = getLastChange(start);
     final int lastChange = getLastChange(end);
-    if (firstChange == lastChange) {
-      return null;
-    }
-    final List<Change> deltaChanges =
-        changes.subList(Math.min(firstChange, lastChange), Math.max(firstChange, lastChange));
-    final Change compositeChange = new CompositeChange(deltaChanges);
-    return (lastChange >= firstChange) ? compositeChange : compositeChange.invert();
+    return getKeyframes().getDelta(firstChange, lastChange);
   }
 
   /** Changes the game state to reflect the historical state at {@code node}. */
@@ -134,6 +134,7 @@ public class History extends DefaultTreeModel {
       while (changes.size() > lastChange) {
         changes.remove(lastChange);
       }
+      getKeyframes().truncate(changes.size());
       final Enumeration<?> enumeration =
           ((DefaultMutableTreeNode) this.getRoot()).preorderEnumeration();
       enumeration.nextElement();
@@ -169,6 +170,13 @@ public class History extends DefaultTreeModel {
     }
   }
 
+  private synchronized HistoryKeyframes getKeyframes() {
+    if (keyframes == null) {
+      keyframes = new HistoryKeyframes(changes);
+    }
+    return keyframes;
+  }
+
   private Object writeReplace() {
     return new SerializedHistory(this, gameData, changes);
   }
@@ -0,0 +1,138 @@
+package games.strategy.engine.history;
+
+import com.google.common.annotations.VisibleForTesting;
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.changefactory.ChangeCompactor;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keyframes of a {@link History} that make moving the game data to any point in the history cost
+ * about as much as the game state differs between the two points, rather than as much as the number
+ * of changes made in between.
+ *
+ * <p>Keyframes are taken every {@code interval} changes. The keyframe at change index {@code i} is
+ * the compacted equivalent of all changes before {@code i} (see {@link ChangeCompactor}), so the
+ * game data can be moved from one keyframe to another by inverting the first keyframe and applying
+ * the second, and from any change index to its nearest keyframe with at most half an interval of
+ * changes. Keyframes are built on demand while navigating. When the keyframes together hold more
+ * than {@link #MAX_KEYFRAME_CHANGES} changes, every second keyframe is dropped and the interval is
+ * doubled once the delta being navigated has been built.
+ */
+final class HistoryKeyframes {
+  private static final int INITIAL_INTERVAL = 256;
+  private static final int MAX_KEYFRAME_CHANGES = 1 << 20;
+
+  private final List<Change> changes;
+  private final long maxKeyframeChanges;
+  private int interval;
+  // keyframes.get(k) is the compacted equivalent of the first (k + 1) * interval changes
+  private final List<List<Change>> keyframes = new ArrayList<>();
+  private long keyframeChanges;
+
+  HistoryKeyframes(final List<Change> changes) {
+    this(changes, INITIAL_INTERVAL, MAX_KEYFRAME_CHANGES);
+  }
+
+  @VisibleForTesting
+  HistoryKeyframes(
+      final List<Change> changes, final int initialInterval, final long maxKeyframeChanges) {
+    this.changes = changes;
+    this.interval = initialInterval;
+    this.maxKeyframeChanges = maxKeyframeChanges;
+  }
+
+  /**
+   * Returns the change that moves the game data from the state after the first {@code from}
+   * changes to the state after the first {@code to} changes, or null if the two are the same.
+   */
+  Change getDelta(final int from, final int to) {
+    if (from == to) {
+      return null;
+    }
+    if (Math.abs(to - from) <= interval) {
+      return getChangesBetween(from, to);
+    }
+    // keyframe indices depend on the interval, so only compact once the delta is built
+    final Change delta = getDeltaThroughKeyframes(from, to);
+    if (keyframeChanges > maxKeyframeChanges) {
+      dropEverySecondKeyframe();
+    }
+    return delta;
+  }
+
+  private Change getDeltaThroughKeyframes(final int from, final int to) {
+    final int fromKeyframe = nearestKeyframe(from);
+    final int toKeyframe = nearestKeyframe(to);
+    final List<Change> fromChanges = getKeyframe(fromKeyframe);
+    final List<Change> toChanges = getKeyframe(toKeyframe);
+    if (Math.abs(from - fromKeyframe)
+            + fromChanges.size()
+            + toChanges.size()
+            + Math.abs(to - toKeyframe)
+        >= Math.abs(to - from)) {
+      return getChangesBetween(from, to);
+    }
+    final List<Change> delta = new ArrayList<>();
+    delta.add(getChangesBetween(from, fromKeyframe));
+    delta.add(new CompositeChange(fromChanges).invert());
+    delta.addAll(toChanges);
+    delta.add(getChangesBetween(toKeyframe, to));
+    return ChangeCompactor.compact(delta);
+  }
+
+  private CompositeChange getChangesBetween(final int from, final int to) {
+    final CompositeChange compositeChange =
+        new CompositeChange(changes.subList(Math.min(from, to), Math.max(from, to)));
+    return (to >= from) ? compositeChange : (CompositeChange) compositeChange.invert();
+  }
+
+  /** Returns the change index of the keyframe closest to the given change index. */
+  private int nearestKeyframe(final int index) {
+    final int keyframe = Math.round((float) index / interval) * interval;
+    return keyframe > changes.size() ? keyframe - interval : keyframe;
+  }
+
+  /** Returns the changes of the keyframe at the given change index, building it if needed. */
+  private List<Change> getKeyframe(final int index) {
+    if (index == 0) {
+      return List.of();
+    }
+    final int keyframe = index / interval - 1;
+    while (keyframes.size() <= keyframe) {
+      final int start = keyframes.size() * interval;
+      final List<Change> previous = keyframes.isEmpty() ? List.of() : last(keyframes);
+      final List<Change> next = new ArrayList<>(previous);
+      next.addAll(changes.subList(start, start + interval));
+      final List<Change> compacted = ChangeCompactor.compact(next).getChanges();
+      keyframes.add(compacted);
+      keyframeChanges += compacted.size();
+    }
+    return keyframes.get(keyframe);
+  }
+
+  private static <T> T last(final List<T> list) {
+    return list.get(list.size() - 1);
+  }
+
+  private void dropEverySecondKeyframe() {
+    final List<List<Change>> kept = new ArrayList<>();
+    keyframeChanges = 0;
+    for (int i = 1; i < keyframes.size(); i += 2) {
+      kept.add(keyframes.get(i));
+      keyframeChanges += keyframes.get(i).size();
+    }
+    keyframes.clear();
+    keyframes.addAll(kept);
+    interval *= 2;
+  }
+
+  /** Forgets the keyframes that include changes at or after the given change index. */
+  void truncate(final int changeCount) {
+    while (!keyframes.isEmpty() && keyframes.size() * interval > changeCount) {
+      keyframeChanges -= last(keyframes).size();
+      keyframes.remove(keyframes.size() - 1);
+    }
+  }
+}
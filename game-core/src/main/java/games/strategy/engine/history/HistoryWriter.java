@@ -60,7 +60,19 @@ public class HistoryWriter implements Serializable {
    * before beginning the new round.
    */
   public void startNextRound(final int round) {
+    startNextRound(round, true);
+  }
+
+  /**
+   * Prepares to write a new round. If {@code recordStatistics} is true, the game data is at the
+   * start of the round and its statistics are recorded for the round, unless the game data is
+   * currently showing an earlier point in the history.
+   */
+  void startNextRound(final int round, final boolean recordStatistics) {
     assertCorrectThread();
+    if (recordStatistics && history.isAtLastNode()) {
+      history.getGameData().getRoundStatistics().record(round, history.getGameData());
+    }
     if (isCurrentEvent()) {
       closeCurrent();
     }
@@ -11,6 +11,7 @@ class RoundHistorySerializer implements SerializationWriter {
 
   @Override
   public void write(final HistoryWriter writer) {
-    writer.startNextRound(roundNo);
+    // the game data is not at the start of the round while the history is being restored
+    writer.startNextRound(roundNo, false);
   }
 }
@@ -0,0 +1,91 @@
+package games.strategy.engine.random;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.SplittableRandom;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A fast source of random numbers for simulations such as the battle calculator and the AI, that
+ * only ever roll dice nobody sees.
+ *
+ * <p>Each source is split from a shared master generator when it is created and then generates its
+ * numbers without any locking, so an instance must only be used by one thread at a time, typically
+ * by giving each simulation worker its own instance. The master generator can be seeded with {@link
+ * #setMasterSeed(long)}, then sources created in the same order generate the same numbers. So
+ * seeding only makes a simulation repeat its results if it creates its sources in a fixed order,
+ * independent of how its threads are scheduled, and each thread uses its numbers in a fixed order.
+ */
+@NotThreadSafe
+public final class SimulationRandomSource implements IRandomSource {
+  private static final long UNSIGNED_INT_MASK = 0xFFFFFFFFL;
+  private static final Object MASTER_LOCK = new Object();
+
+  @GuardedBy("MASTER_LOCK")
+  private static SplittableRandom master = new SplittableRandom();
+
+  private final SplittableRandom random;
+
+  public SimulationRandomSource() {
+    synchronized (MASTER_LOCK) {
+      random = master.split();
+    }
+  }
+
+  /** Seeds the generator all sources created from now on are split from. */
+  public static void setMasterSeed(final long seed) {
+    synchronized (MASTER_LOCK) {
+      master = new SplittableRandom(seed);
+    }
+  }
+
+  /** Makes the sources created from now on generate unpredictable numbers again. */
+  public static void resetMasterSeed() {
+    synchronized (MASTER_LOCK) {
+      master = new SplittableRandom();
+    }
+  }
+
+  @Override
+  public int[] getRandom(final int max, final int count, final String annotation) {
+    checkArgument(max > 0, "max must be > 0 (%s)", annotation);
+    checkArgument(count > 0, "count must be > 0 (%s)", annotation);
+
+    // every generated long provides two 32 bit values
+    final int[] numbers = new int[count];
+    int i = 0;
+    while (i < count) {
+      final long bits = random.nextLong();
+      numbers[i] = toRange(bits >>> 32, max);
+      i++;
+      if (i < count) {
+        numbers[i] = toRange(bits & UNSIGNED_INT_MASK, max);
+        i++;
+      }
+    }
+    return numbers;
+  }
+
+  @Override
+  public int getRandom(final int max, final String annotation) {
+    checkArgument(max > 0, "max must be > 0 (%s)", annotation);
+
+    return toRange(random.nextInt() & UNSIGNED_INT_MASK, max);
+  }
+
+  /**
+   * Maps a uniformly distributed unsigned 32 bit value to a uniformly distributed value in [0, max)
+   * by multiplying and shifting, drawing new values for the few that would make the result biased.
+   */
+  private int toRange(final long unsignedInt, final int max) {
+    long product = unsignedInt * max;
+    if ((product & UNSIGNED_INT_MASK) < max) {
+      final long threshold = (UNSIGNED_INT_MASK + 1 - max) % max;
+      while ((product & UNSIGNED_INT_MASK) < threshold) {
+        product = (random.nextInt() & UNSIGNED_INT_MASK) * max;
+      }
+    }
+    return (int) (product >>> 32);
+  }
+}
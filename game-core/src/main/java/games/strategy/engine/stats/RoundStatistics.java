@@ -0,0 +1,106 @@
+package games.strategy.engine.stats;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+/**
+ * The over time statistics of a game, recorded at the start of each round while the game is
+ * played, so that they do not have to be computed by replaying the game's history.
+ *
+ * <p>Values are stored in columns, one per statistic and player or alliance, holding one value per
+ * recorded round. Instances are saved with the game data.
+ */
+public final class RoundStatistics implements Serializable {
+  private static final long serialVersionUID = -4212795203592532458L;
+  private static final int INITIAL_CAPACITY = 16;
+
+  private int[] rounds = new int[INITIAL_CAPACITY];
+  private int rowCount;
+  // statistic name -> player or alliance name -> value per row
+  private final Map<String, Map<String, double[]>> columns = new HashMap<>();
+
+  /**
+   * Records the statistics of the given game data as those at the start of the given round.
+   * Statistics previously recorded for this or later rounds are discarded.
+   */
+  public synchronized void record(final int round, final GameData data) {
+    final Map<OverTimeStatisticType, IStat> sources;
+    final List<GamePlayer> players;
+    final List<String> alliances;
+    final Map<String, Map<String, Double>> values = new HashMap<>();
+    data.acquireReadLock();
+    try {
+      sources =
+          StatisticsAggregator.createOverTimeStatisticsMapping(
+              data.getResourceList().getResources());
+      players = data.getPlayerList().getPlayers();
+      alliances = new ArrayList<>(data.getAllianceTracker().getAlliances());
+      sources.forEach(
+          (type, source) -> {
+            final Map<String, Double> statisticValues =
+                values.computeIfAbsent(type.getName(), key -> new HashMap<>());
+            players.forEach(
+                player -> statisticValues.put(player.getName(), source.getValue(player, data)));
+            alliances.forEach(
+                alliance -> statisticValues.put(alliance, source.getValue(alliance, data)));
+          });
+    } finally {
+      data.releaseReadLock();
+    }
+    while (rowCount > 0 && rounds[rowCount - 1] >= round) {
+      rowCount--;
+    }
+    if (rowCount == rounds.length) {
+      rounds = Arrays.copyOf(rounds, rounds.length * 2);
+    }
+    final int row = rowCount++;
+    rounds[row] = round;
+    values.forEach(
+        (statistic, seriesValues) ->
+            seriesValues.forEach((series, value) -> getColumn(statistic, series)[row] = value));
+  }
+
+  private double[] getColumn(final String statistic, final String series) {
+    final Map<String, double[]> statisticColumns =
+        columns.computeIfAbsent(statistic, key -> new HashMap<>());
+    double[] column = statisticColumns.get(series);
+    if (column == null || column.length < rounds.length) {
+      final int oldLength = (column == null) ? 0 : column.length;
+      column = (column == null) ? new double[rounds.length] : Arrays.copyOf(column, rounds.length);
+      Arrays.fill(column, oldLength, column.length, Double.NaN);
+      statisticColumns.put(series, column);
+    }
+    return column;
+  }
+
+  /** Returns true if statistics have been recorded for the given round. */
+  public synchronized boolean hasRound(final int round) {
+    return findRow(round) != -1;
+  }
+
+  /**
+   * Returns the value of the given statistic for the given player or alliance at the start of the
+   * given round, if it has been recorded.
+   */
+  public synchronized OptionalDouble getValue(
+      final OverTimeStatisticType type, final String series, final int round) {
+    final int row = findRow(round);
+    final double[] column = columns.getOrDefault(type.getName(), Map.of()).get(series);
+    if (row == -1 || column == null || row >= column.length || Double.isNaN(column[row])) {
+      return OptionalDouble.empty();
+    }
+    return OptionalDouble.of(column[row]);
+  }
+
+  private int findRow(final int round) {
+    final int row = Arrays.binarySearch(rounds, 0, rowCount, round);
+    return (row < 0) ? -1 : row;
+  }
+}
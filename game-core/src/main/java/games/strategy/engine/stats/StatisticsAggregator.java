@@ -1,6 +1,7 @@
 package games.strategy.engine.stats;
 
 import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.Table;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.data.Resource;
@@ -17,6 +18,10 @@ import lombok.extern.java.Log;
 
 /**
  * Analyzes a game's history and aggregates interesting statistics in a {@link Statistics} object.
+ *
+ * <p>Statistics of rounds recorded in the game's {@link RoundStatistics} are read from there, only
+ * rounds without recorded statistics, such as those of games saved before statistics were
+ * recorded, are computed by going back to them in the game's history.
  */
 @Log
 @RequiredArgsConstructor
@@ -30,7 +35,7 @@ public class StatisticsAggregator {
   private final Statistics underConstruction = new Statistics();
   private final GameData game;
 
-  private static Map<OverTimeStatisticType, IStat> createOverTimeStatisticsMapping(
+  static Map<OverTimeStatisticType, IStat> createOverTimeStatisticsMapping(
       final List<Resource> resources) {
     final Map<OverTimeStatisticType, IStat> statisticsMapping =
         new HashMap<>(defaultStatisticsMapping);
@@ -59,9 +64,34 @@ public class StatisticsAggregator {
 
     final List<GamePlayer> players = game.getPlayerList().getPlayers();
     final List<String> alliances = new ArrayList<>(game.getAllianceTracker().getAlliances());
+    final RoundStatistics roundStatistics = game.getRoundStatistics();
     for (final Round round : getRounds()) {
-      game.getHistory().gotoNode(round);
-      collectOverTimeStatisticsForRound(overTimeStatisticSources, players, alliances, round);
+      if (roundStatistics.hasRound(round.getRoundNo())) {
+        collectRecordedStatisticsForRound(
+            roundStatistics, overTimeStatisticSources, players, alliances, round);
+      } else {
+        game.getHistory().gotoNode(round);
+        collectOverTimeStatisticsForRound(overTimeStatisticSources, players, alliances, round);
+      }
+    }
+  }
+
+  private void collectRecordedStatisticsForRound(
+      final RoundStatistics roundStatistics,
+      final Map<OverTimeStatisticType, IStat> overTimeStatisticSources,
+      final List<GamePlayer> players,
+      final List<String> alliances,
+      final Round round) {
+    final List<String> series = new ArrayList<>(alliances);
+    players.forEach(player -> series.add(player.getName()));
+    for (final OverTimeStatisticType type : overTimeStatisticSources.keySet()) {
+      final Table<String, Round, Double> table =
+          underConstruction.getOverTimeStatistics().get(type);
+      for (final String name : series) {
+        roundStatistics
+            .getValue(type, name, round.getRoundNo())
+            .ifPresent(value -> table.put(name, round, value));
+      }
     }
   }
 
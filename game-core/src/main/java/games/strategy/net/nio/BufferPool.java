@@ -0,0 +1,102 @@
+package games.strategy.net.nio;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A pool of direct byte buffers shared by the threads reading and writing packets, so that a
+ * packet does not need newly allocated buffers.
+ *
+ * <p>Buffers are grouped into size classes that are powers of two. A request is served with a
+ * buffer of the smallest class that fits, with its limit set to the requested size. Requests larger
+ * than the largest class get a heap buffer that is not pooled. Each class keeps a bounded number of
+ * idle buffers, buffers released beyond that are left to the garbage collector.
+ */
+@ThreadSafe
+final class BufferPool {
+  private static final int MIN_CLASS_SHIFT = 8;
+  private static final int MAX_CLASS_SHIFT = 20;
+  private static final int MAX_IDLE_BYTES_PER_CLASS = 1 << 21;
+  private static final int MIN_IDLE_BUFFERS_PER_CLASS = 2;
+
+  private final Queue<ByteBuffer>[] idleBuffers;
+  private final AtomicInteger[] idleCounts;
+
+  @SuppressWarnings("unchecked")
+  BufferPool() {
+    final int classCount = MAX_CLASS_SHIFT - MIN_CLASS_SHIFT + 1;
+    idleBuffers = new Queue[classCount];
+    idleCounts = new AtomicInteger[classCount];
+    for (int i = 0; i < classCount; i++) {
+      idleBuffers[i] = new ConcurrentLinkedQueue<>();
+      idleCounts[i] = new AtomicInteger();
+    }
+  }
+
+  /**
+   * Returns a cleared buffer whose limit is the requested size. The buffer should be handed back
+   * with {@link #release(ByteBuffer)} once it is no longer used.
+   */
+  ByteBuffer acquire(final int size) {
+    checkArgument(size >= 0, "Invalid buffer size: " + size);
+    final int sizeClass = sizeClass(size);
+    if (sizeClass < 0) {
+      return ByteBuffer.allocate(size);
+    }
+    ByteBuffer buffer = idleBuffers[sizeClass].poll();
+    if (buffer == null) {
+      buffer = ByteBuffer.allocateDirect(classCapacity(sizeClass));
+    } else {
+      idleCounts[sizeClass].decrementAndGet();
+    }
+    buffer.clear().limit(size);
+    return buffer;
+  }
+
+  /**
+   * Hands a buffer obtained from {@link #acquire(int)} back to the pool. The buffer must not be
+   * used by the caller afterwards.
+   */
+  void release(final ByteBuffer buffer) {
+    final int sizeClass = sizeClass(buffer.capacity());
+    if (!buffer.isDirect() || sizeClass < 0 || classCapacity(sizeClass) != buffer.capacity()) {
+      return;
+    }
+    if (idleCounts[sizeClass].incrementAndGet() > maxIdleBuffers(sizeClass)) {
+      idleCounts[sizeClass].decrementAndGet();
+      return;
+    }
+    idleBuffers[sizeClass].offer(buffer);
+  }
+
+  int getIdleBufferCount() {
+    int count = 0;
+    for (final AtomicInteger idleCount : idleCounts) {
+      count += idleCount.get();
+    }
+    return count;
+  }
+
+  /** Returns the index of the smallest size class holding the given size, or -1 if none does. */
+  private static int sizeClass(final int size) {
+    if (size > 1 << MAX_CLASS_SHIFT) {
+      return -1;
+    }
+    final int shift = 32 - Integer.numberOfLeadingZeros(Math.max(size, 1) - 1);
+    return Math.max(MIN_CLASS_SHIFT, shift) - MIN_CLASS_SHIFT;
+  }
+
+  private static int classCapacity(final int sizeClass) {
+    return 1 << (sizeClass + MIN_CLASS_SHIFT);
+  }
+
+  private static int maxIdleBuffers(final int sizeClass) {
+    return Math.max(
+        MIN_IDLE_BUFFERS_PER_CLASS, MAX_IDLE_BYTES_PER_CLASS / classCapacity(sizeClass));
+  }
+}
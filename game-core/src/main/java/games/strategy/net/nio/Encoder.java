@@ -5,34 +5,58 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import com.google.common.base.Preconditions;
 import games.strategy.net.IObjectStreamFactory;
 import games.strategy.net.MessageHeader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.nio.channels.SocketChannel;
 import java.util.logging.Level;
 import lombok.AllArgsConstructor;
 import lombok.extern.java.Log;
-import org.triplea.io.IoUtils;
 
 /** Encodes data to be written by a writer. */
 @Log
 @AllArgsConstructor
 class Encoder {
+  // serialization buffers that grew beyond this size are not kept for reuse
+  private static final int MAX_RETAINED_BUFFER_SIZE = 1 << 20;
+  private static final ThreadLocal<ReusableByteArrayOutputStream> outputBuffers =
+      ThreadLocal.withInitial(ReusableByteArrayOutputStream::new);
+
   private final NioWriter writer;
   private final IObjectStreamFactory objectStreamFactory;
+  private final BufferPool bufferPool;
+
+  /** A byte array output stream whose backing array can be read without copying it. */
+  private static final class ReusableByteArrayOutputStream extends ByteArrayOutputStream {
+    byte[] getBuffer() {
+      return buf;
+    }
+
+    int capacity() {
+      return buf.length;
+    }
+  }
 
   void write(final SocketChannel to, final MessageHeader header) {
     checkNotNull(to);
     if (header.getFrom() == null) {
       throw new IllegalArgumentException("No from node");
     }
+    // messages are serialized into a buffer owned by the calling thread, then copied into a pooled
+    // buffer that is handed to the writer
+    final ReusableByteArrayOutputStream os = outputBuffers.get();
+    os.reset();
     try {
-      final byte[] bytes =
-          IoUtils.writeToMemory(os -> write(header, objectStreamFactory.create(os)));
-      final SocketWriteData data = new SocketWriteData(bytes, bytes.length);
+      write(header, objectStreamFactory.create(os));
+      final SocketWriteData data = new SocketWriteData(bufferPool, os.getBuffer(), os.size());
       writer.enque(data, to);
     } catch (final IOException e) {
       // we aren't doing any I/O, just writing in memory so something is very wrong
       log.log(Level.SEVERE, "Error writing object:" + header, e);
+    } finally {
+      if (os.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+        outputBuffers.remove();
+      }
     }
   }
 
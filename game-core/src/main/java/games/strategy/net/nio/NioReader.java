@@ -27,12 +27,14 @@ class NioReader {
   private volatile boolean running = true;
   private final Map<SocketChannel, SocketReadData> reading = new ConcurrentHashMap<>();
   private final ErrorReporter errorReporter;
+  private final BufferPool bufferPool;
   private final Selector selector;
   private final Object socketsToAddMutex = new Object();
   private final List<SocketChannel> socketsToAdd = new ArrayList<>();
 
-  NioReader(final ErrorReporter reporter) {
+  NioReader(final ErrorReporter reporter, final BufferPool bufferPool) {
     errorReporter = reporter;
+    this.bufferPool = bufferPool;
     try {
       selector = Selector.open();
     } catch (final IOException e) {
@@ -125,7 +127,7 @@ class NioReader {
     if (reading.containsKey(channel)) {
       return reading.get(channel);
     }
-    final SocketReadData packet = new SocketReadData(channel);
+    final SocketReadData packet = new SocketReadData(channel, bufferPool);
     reading.put(channel, packet);
     return packet;
   }
@@ -27,10 +27,11 @@ public class NioSocket implements ErrorReporter {
 
   public NioSocket(final IObjectStreamFactory factory, final NioSocketListener listener) {
     this.listener = listener;
+    final BufferPool bufferPool = new BufferPool();
     writer = new NioWriter(this);
-    reader = new NioReader(this);
+    reader = new NioReader(this, bufferPool);
     decoder = new Decoder(this, reader, this, factory);
-    encoder = new Encoder(writer, factory);
+    encoder = new Encoder(writer, factory, bufferPool);
   }
 
   INode getLocalNode() {
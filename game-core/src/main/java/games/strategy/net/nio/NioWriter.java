@@ -1,6 +1,7 @@
 package games.strategy.net.nio;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
@@ -20,10 +21,17 @@ import lombok.extern.java.Log;
  */
 @Log
 class NioWriter {
+  // maximum number of queued packets handed to a single gathering write
+  private static final int MAX_PACKETS_PER_WRITE = 64;
+
   private final Selector selector;
   private final ErrorReporter errorReporter;
   // this is the data we are writing
   private final Map<SocketChannel, List<SocketWriteData>> writing = new HashMap<>();
+  // the queue of the channel the writer thread is writing to and how many of its leading packets
+  // it is writing, so removing the channel does not release buffers while they are being written
+  private List<SocketWriteData> queueBeingWritten;
+  private int packetsBeingWritten;
   // these are the sockets we arent selecting on, but should now
   private List<SocketChannel> socketsToWake = new ArrayList<>();
   // the writing thread and threads adding data to write synchronize on this lock
@@ -43,6 +51,11 @@ class NioWriter {
 
   void shutDown() {
     running = false;
+    final List<SocketChannel> channels;
+    synchronized (mutex) {
+      channels = new ArrayList<>(writing.keySet());
+    }
+    channels.forEach(this::removeAll);
     try {
       selector.close();
     } catch (final IOException e) {
@@ -85,23 +98,22 @@ class NioWriter {
           iter.remove();
           if (key.isValid() && key.isWritable()) {
             final SocketChannel channel = (SocketChannel) key.channel();
-            final SocketWriteData packet = getData(channel);
-            if (packet != null) {
+            final List<SocketWriteData> packets = getData(channel);
+            if (!packets.isEmpty()) {
               try {
                 log.finest(
                     () ->
-                        "writing packet:"
-                            + packet
+                        "writing packets:"
+                            + packets
                             + " to:"
                             + channel.socket().getRemoteSocketAddress());
-                final boolean done = packet.write(channel);
-                if (done) {
-                  removeLast(channel);
-                }
+                write(channel, packets);
               } catch (final Exception e) {
                 log.log(Level.FINER, "exception writing", e);
                 errorReporter.error(channel, e);
                 key.cancel();
+              } finally {
+                removeWritten(channel, packets);
               }
             } else {
               // nothing to write
@@ -118,48 +130,89 @@ class NioWriter {
     }
   }
 
+  /** Writes as much of the given packets as the channel accepts with a single gathering write. */
+  private static void write(final SocketChannel channel, final List<SocketWriteData> packets)
+      throws IOException {
+    final ByteBuffer[] buffers = new ByteBuffer[packets.size()];
+    for (int i = 0; i < buffers.length; i++) {
+      buffers[i] = packets.get(i).getBuffer();
+    }
+    channel.write(buffers);
+  }
+
   /** Remove the data for this channel. */
   void close(final SocketChannel channel) {
     removeAll(channel);
   }
 
+  /**
+   * Removes the packets queued for the channel and returns their buffers to the pool. The buffers
+   * of packets the writer thread is writing are returned by the writer thread once it is done.
+   */
   private void removeAll(final SocketChannel to) {
+    final List<SocketWriteData> removed;
     synchronized (mutex) {
-      writing.remove(to);
+      final List<SocketWriteData> values = writing.remove(to);
+      if (values == null) {
+        return;
+      }
+      removed =
+          (values == queueBeingWritten)
+              ? values.subList(packetsBeingWritten, values.size())
+              : values;
     }
+    removed.forEach(SocketWriteData::release);
   }
 
-  private void removeLast(final SocketChannel to) {
+  /**
+   * Removes the leading packets of the channel that have been written completely and returns their
+   * buffers to the pool. If the channel was removed while the packets were written, all of them
+   * are returned.
+   */
+  private void removeWritten(final SocketChannel to, final List<SocketWriteData> packets) {
+    int written = 0;
+    while (written < packets.size() && packets.get(written).isWritten()) {
+      written++;
+    }
+    final List<SocketWriteData> released;
     synchronized (mutex) {
-      final List<SocketWriteData> values = writing.get(to);
-      if (values == null) {
-        log.severe("NO socket data to:" + to);
-        return;
-      }
-      values.remove(0);
-      // remove empty lists, so we can detect that we need to wake up the socket
-      if (values.isEmpty()) {
-        writing.remove(to);
+      final List<SocketWriteData> values = queueBeingWritten;
+      queueBeingWritten = null;
+      packetsBeingWritten = 0;
+      if (writing.get(to) != values) {
+        released = packets;
+      } else {
+        values.subList(0, written).clear();
+        // remove empty lists, so we can detect that we need to wake up the socket
+        if (values.isEmpty()) {
+          writing.remove(to);
+        }
+        released = packets.subList(0, written);
       }
     }
+    released.forEach(SocketWriteData::release);
   }
 
-  private SocketWriteData getData(final SocketChannel to) {
+  /**
+   * Returns a copy of the first packets queued for the channel, at most one batch of them. The
+   * writer thread must pass them to {@link #removeWritten(SocketChannel, List)} once it wrote them.
+   */
+  private List<SocketWriteData> getData(final SocketChannel to) {
     synchronized (mutex) {
-      if (!writing.containsKey(to)) {
-        return null;
-      }
       final List<SocketWriteData> values = writing.get(to);
-      if (values.isEmpty()) {
-        return null;
+      if (values == null || values.isEmpty()) {
+        return List.of();
       }
-      return values.get(0);
+      queueBeingWritten = values;
+      packetsBeingWritten = Math.min(values.size(), MAX_PACKETS_PER_WRITE);
+      return new ArrayList<>(values.subList(0, packetsBeingWritten));
     }
   }
 
   void enque(final SocketWriteData data, final SocketChannel channel) {
     synchronized (mutex) {
       if (!running) {
+        data.release();
         return;
       }
       if (writing.containsKey(channel)) {
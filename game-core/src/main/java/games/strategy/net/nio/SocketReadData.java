@@ -10,7 +10,7 @@ import lombok.extern.java.Log;
  * A packet of data being read over the network.
  *
  * <p>A Packet does not correspond to a network packet, rather it is the bytes for 1 serialized java
- * object.
+ * object. The bytes are read into buffers taken from a {@link BufferPool}.
  */
 @Log
 class SocketReadData {
@@ -25,10 +25,12 @@ class SocketReadData {
   // we read into here after knowing out size
   private ByteBuffer contentBuffer;
   @Getter private final SocketChannel channel;
+  private final BufferPool bufferPool;
   @Getter private int readCalls;
 
-  SocketReadData(final SocketChannel channel) {
+  SocketReadData(final SocketChannel channel, final BufferPool bufferPool) {
     this.channel = channel;
+    this.bufferPool = bufferPool;
   }
 
   /**
@@ -43,7 +45,7 @@ class SocketReadData {
       // our first read
       // find out how big this packet is
       if (sizeBuffer == null) {
-        sizeBuffer = ByteBuffer.allocate(4);
+        sizeBuffer = bufferPool.acquire(4);
       }
       final int size = channel.read(sizeBuffer);
       log.finest(() -> "read size_buffer bytes:" + size);
@@ -54,6 +56,8 @@ class SocketReadData {
       if (!sizeBuffer.hasRemaining()) {
         sizeBuffer.flip();
         targetSize = sizeBuffer.getInt();
+        bufferPool.release(sizeBuffer);
+        sizeBuffer = null;
         if ((targetSize & 0xFF000000) != MAGIC) {
           throw new IOException("Did not write magic!");
         }
@@ -62,8 +66,7 @@ class SocketReadData {
         if (targetSize <= 0 || targetSize > MAX_MESSAGE_SIZE) {
           throw new IOException("Invalid triplea packet size:" + targetSize);
         }
-        contentBuffer = ByteBuffer.allocate(targetSize);
-        sizeBuffer = null;
+        contentBuffer = bufferPool.acquire(targetSize);
       } else {
         // we didn't read all 4 bytes, return
         return false;
@@ -77,11 +80,15 @@ class SocketReadData {
     return !contentBuffer.hasRemaining();
   }
 
-  /** Get the data as a byte[]. This method can only be called once. */
+  /**
+   * Get the data as a byte[]. This method can only be called once, it returns the buffer the data
+   * was read into to the pool.
+   */
   public byte[] getData() {
-    final byte[] data = new byte[contentBuffer.capacity()];
+    final byte[] data = new byte[targetSize];
     contentBuffer.flip();
     contentBuffer.get(data);
+    bufferPool.release(contentBuffer);
     contentBuffer = null;
     return data;
   }
@@ -1,10 +1,7 @@
 package games.strategy.net.nio;
 
-import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.channels.SocketChannel;
 import java.util.concurrent.atomic.AtomicInteger;
-import lombok.extern.java.Log;
 
 /**
  * A packet of data to be written over the network.
@@ -12,65 +9,47 @@ import lombok.extern.java.Log;
  * <p>Packets do not correspond to ip packets. A packet is just the data for one serialized object.
  *
  * <p>The packet is written over the network as 32 bits indicating the size in bytes, then the data
- * itself.
+ * itself. Both are held in a single buffer taken from a {@link BufferPool}, so that several packets
+ * can be written to a channel with one gathering write.
  */
-@Log
 class SocketWriteData {
   private static final AtomicInteger counter = new AtomicInteger();
-  private final ByteBuffer size;
-  private final ByteBuffer content;
+  private final BufferPool bufferPool;
+  private final ByteBuffer buffer;
   private final int number = counter.incrementAndGet();
-  // how many times we called write before we finished writing ourselves
-  private int writeCalls = 0;
 
-  SocketWriteData(final byte[] data, final int count) {
-    content = ByteBuffer.allocate(count);
-    content.put(data, 0, count);
-    size = ByteBuffer.allocate(4);
+  SocketWriteData(final BufferPool bufferPool, final byte[] data, final int count) {
     if (count < 0 || count > SocketReadData.MAX_MESSAGE_SIZE) {
       throw new IllegalStateException("Invalid message size:" + count);
     }
-    size.putInt(count ^ SocketReadData.MAGIC);
-    size.flip();
-    content.flip();
+    this.bufferPool = bufferPool;
+    buffer = bufferPool.acquire(4 + count);
+    buffer.putInt(count ^ SocketReadData.MAGIC);
+    buffer.put(data, 0, count);
+    buffer.flip();
   }
 
   int size() {
-    return size.capacity() + content.capacity();
+    return buffer.limit();
   }
 
-  int getWriteCalls() {
-    return writeCalls;
+  /** Returns the buffer holding the data that remains to be written. */
+  ByteBuffer getBuffer() {
+    return buffer;
   }
 
-  /**
-   * Writes any pending data to the specified channel.
-   *
-   * @return true if the write has written the entire message.
-   */
-  boolean write(final SocketChannel channel) throws IOException {
-    writeCalls++;
-    if (size.hasRemaining()) {
-      final int count = channel.write(size);
-      if (count == -1) {
-        throw new IOException("triplea: end of stream detected");
-      }
-      log.finest(() -> "wrote size_buffer bytes:" + count);
-      // we could not write everything
-      if (size.hasRemaining()) {
-        return false;
-      }
-    }
-    final int count = channel.write(content);
-    if (count == -1) {
-      throw new IOException("triplea: end of stream detected");
-    }
-    log.finest(() -> "wrote content bytes:" + count);
-    return !content.hasRemaining();
+  /** Returns true if the entire packet has been written. */
+  boolean isWritten() {
+    return !buffer.hasRemaining();
+  }
+
+  /** Returns the buffer of this packet to the pool, after which the packet must not be used. */
+  void release() {
+    bufferPool.release(buffer);
   }
 
   @Override
   public String toString() {
-    return "<id:" + number + " size:" + content.capacity() + ">";
+    return "<id:" + number + " size:" + (buffer.limit() - 4) + ">";
   }
 }
@@ -108,6 +108,7 @@ public abstract class AbstractProAi extends AbstractAi {
   }
 
   private void initializeData() {
+    calc.clearCache();
     proData.initialize(this);
   }
 
@@ -1,24 +1,104 @@
 package games.strategy.triplea.ai.pro;
 
 import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.TerritoryEffect;
+import games.strategy.engine.data.Unit;
 import games.strategy.engine.framework.startup.ui.PlayerType;
 import games.strategy.triplea.ai.pro.logging.ProLogUi;
+import games.strategy.triplea.odds.calculator.AggregateResults;
+import games.strategy.triplea.odds.calculator.CalculationPrecision;
 import games.strategy.triplea.odds.calculator.ConcurrentBattleCalculator;
+import games.strategy.triplea.odds.calculator.IBattleCalculator;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ProAi extends AbstractProAi {
-  // Odds calculator
-  private static final ConcurrentBattleCalculator concurrentCalc = new ConcurrentBattleCalculator();
+  // Odds calculator of each game hosted by this process. The AIs of a game take turns, so they
+  // share one, but the AIs of other games must not reset it.
+  private static final Map<GameData, ConcurrentBattleCalculator> calculators =
+      new ConcurrentHashMap<>();
+
+  private final GameBattleCalculator concurrentCalc;
+
+  /** Runs the calculations of an AI on the odds calculator of the game the AI plays. */
+  private static final class GameBattleCalculator implements IBattleCalculator {
+    private volatile ConcurrentBattleCalculator calculator;
+
+    @Override
+    public AggregateResults calculate(
+        final GamePlayer attacker,
+        final GamePlayer defender,
+        final Territory location,
+        final Collection<Unit> attacking,
+        final Collection<Unit> defending,
+        final Collection<Unit> bombarding,
+        final Collection<TerritoryEffect> territoryEffects,
+        final boolean retreatWhenOnlyAirLeft,
+        final int runCount) {
+      return calculator.calculate(
+          attacker,
+          defender,
+          location,
+          attacking,
+          defending,
+          bombarding,
+          territoryEffects,
+          retreatWhenOnlyAirLeft,
+          runCount);
+    }
+
+    @Override
+    public AggregateResults calculate(
+        final GamePlayer attacker,
+        final GamePlayer defender,
+        final Territory location,
+        final Collection<Unit> attacking,
+        final Collection<Unit> defending,
+        final Collection<Unit> bombarding,
+        final Collection<TerritoryEffect> territoryEffects,
+        final boolean retreatWhenOnlyAirLeft,
+        final CalculationPrecision precision) {
+      return calculator.calculate(
+          attacker,
+          defender,
+          location,
+          attacking,
+          defending,
+          bombarding,
+          territoryEffects,
+          retreatWhenOnlyAirLeft,
+          precision);
+    }
+  }
 
   public ProAi(final String name) {
+    this(name, new GameBattleCalculator());
+  }
+
+  private ProAi(final String name, final GameBattleCalculator concurrentCalc) {
     super(name, concurrentCalc, new ProData());
+    this.concurrentCalc = concurrentCalc;
   }
 
   public static void gameOverClearCache() {
     // Are static, clear so that we don't keep the data around after a game is exited
-    concurrentCalc.setGameData(null);
+    calculators.values().forEach(calculator -> calculator.setGameData(null));
+    calculators.clear();
     ProLogUi.clearCachedInstances();
   }
 
+  /**
+   * Returns an estimate of the memory used by the copies of the game data the AIs of the given game
+   * simulate battles on in bytes, or 0 if they have none.
+   */
+  public static long estimateCalculatorMemoryUsage(final GameData data) {
+    final ConcurrentBattleCalculator calculator = calculators.get(data);
+    return calculator == null ? 0 : calculator.estimateMemoryUsage();
+  }
+
   @Override
   public PlayerType getPlayerType() {
     return PlayerType.PRO_AI;
@@ -27,11 +107,20 @@ public class ProAi extends AbstractProAi {
   @Override
   public void stopGame() {
     super.stopGame(); // absolutely MUST call super.stopGame() first
-    concurrentCalc.cancel();
+    final ConcurrentBattleCalculator calculator = concurrentCalc.calculator;
+    // the game is stopping for all its AIs, so release the copies of the game data held by the
+    // calculator's workers
+    if (calculator != null && calculators.values().remove(calculator)) {
+      calculator.setGameData(null);
+    }
   }
 
   @Override
   protected void prepareData(final GameData data) {
-    concurrentCalc.setGameData(data);
+    // data may be a copy of the game data to simulate on, so look up the calculator by the game
+    final ConcurrentBattleCalculator calculator =
+        calculators.computeIfAbsent(getGameData(), gameData -> new ConcurrentBattleCalculator());
+    concurrentCalc.calculator = calculator;
+    calculator.setGameData(data);
   }
 }
@@ -31,6 +31,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import org.triplea.java.collections.CollectionUtils;
 import org.triplea.util.Tuple;
 
@@ -490,40 +491,46 @@ public class ProTerritoryManager {
   }
 
   private ProOtherMoveOptions findAlliedAttackOptions(final GamePlayer player) {
-    final GameData data = proData.getData();
-
-    // Get enemy players in order of turn
+    // Get allied players in order of turn
     final List<GamePlayer> alliedPlayers = ProUtils.getAlliedPlayersInTurnOrder(player);
-    final List<Map<Territory, ProTerritory>> alliedAttackMaps = new ArrayList<>();
 
-    // Loop through each enemy to determine the maximum number of enemy units that can attack each
-    // territory
-    for (final GamePlayer alliedPlayer : alliedPlayers) {
+    // Determine the maximum number of units of each ally that can attack each territory. The
+    // attack options of each ally only depend on the game data, so they are found concurrently and
+    // collected in order of turn.
+    final List<Map<Territory, ProTerritory>> alliedAttackMaps =
+        alliedPlayers.parallelStream()
+            .map(alliedPlayer -> findAlliedAttackMap(proData, alliedPlayer))
+            .collect(Collectors.toList());
+    return new ProOtherMoveOptions(proData, alliedAttackMaps, player, true);
+  }
+
+  private static Map<Territory, ProTerritory> findAlliedAttackMap(
+      final ProData proData, final GamePlayer alliedPlayer) {
+    final GameData data = proData.getData();
+    data.acquireReadLock();
+    try {
       final List<Territory> alliedUnitTerritories =
           CollectionUtils.getMatches(
               data.getMap().getTerritories(), Matches.territoryHasUnitsOwnedBy(alliedPlayer));
       final Map<Territory, ProTerritory> attackMap = new HashMap<>();
-      final Map<Unit, Set<Territory>> unitAttackMap = new HashMap<>();
-      final Map<Unit, Set<Territory>> transportAttackMap = new HashMap<>();
-      final Map<Unit, Set<Territory>> bombardMap = new HashMap<>();
-      final List<ProTransport> transportMapList = new ArrayList<>();
-      alliedAttackMaps.add(attackMap);
       findAttackOptions(
           proData,
           alliedPlayer,
           alliedUnitTerritories,
           attackMap,
-          unitAttackMap,
-          transportAttackMap,
-          bombardMap,
-          transportMapList,
+          new HashMap<>(),
+          new HashMap<>(),
+          new HashMap<>(),
+          new ArrayList<>(),
           new ArrayList<>(),
           new ArrayList<>(),
           new ArrayList<>(),
           false,
           false);
+      return attackMap;
+    } finally {
+      data.releaseReadLock();
     }
-    return new ProOtherMoveOptions(proData, alliedAttackMaps, player, true);
   }
 
   private static ProOtherMoveOptions findEnemyAttackOptions(
@@ -540,7 +547,8 @@ public class ProTerritoryManager {
     final List<Territory> enemyTerritories = new ArrayList<>(clearedTerritories);
 
     // Loop through each enemy to determine the maximum number of enemy units that can attack each
-    // territory
+    // territory. The territories each enemy can attack depend on those of the enemies before it,
+    // so they must be found one after another.
     for (final GamePlayer enemyPlayer : enemyPlayers) {
       final List<Territory> enemyUnitTerritories =
           CollectionUtils.getMatches(
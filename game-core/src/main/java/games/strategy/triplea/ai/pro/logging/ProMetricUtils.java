@@ -5,11 +5,13 @@ import org.triplea.java.collections.IntegerMap;
 
 /** Pro AI metrics. */
 public final class ProMetricUtils {
+  // the purchases of all games in this process, which may purchase at the same time
   private static final IntegerMap<ProductionRule> totalPurchaseMap = new IntegerMap<>();
 
   private ProMetricUtils() {}
 
-  public static void collectPurchaseStats(final IntegerMap<ProductionRule> purchaseMap) {
+  public static synchronized void collectPurchaseStats(
+      final IntegerMap<ProductionRule> purchaseMap) {
     totalPurchaseMap.add(purchaseMap);
     ProLogger.debug(totalPurchaseMap.toString());
   }
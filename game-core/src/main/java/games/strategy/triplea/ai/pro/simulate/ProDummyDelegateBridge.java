@@ -10,7 +10,7 @@ import games.strategy.engine.history.DelegateHistoryWriter;
 import games.strategy.engine.history.IDelegateHistoryWriter;
 import games.strategy.engine.player.Player;
 import games.strategy.engine.random.IRandomStats.DiceType;
-import games.strategy.engine.random.PlainRandomSource;
+import games.strategy.engine.random.SimulationRandomSource;
 import games.strategy.triplea.ai.pro.AbstractProAi;
 import games.strategy.triplea.ui.display.HeadlessDisplay;
 import java.util.Properties;
@@ -22,7 +22,7 @@ import org.triplea.sound.ISound;
  * changes generated during the simulation.
  */
 public class ProDummyDelegateBridge implements IDelegateBridge {
-  private final PlainRandomSource randomSource = new PlainRandomSource();
+  private final SimulationRandomSource randomSource = new SimulationRandomSource();
   private final IDisplay display = new HeadlessDisplay();
   private final ISound soundChannel = new HeadlessSoundChannel();
   private final GamePlayer player;
@@ -0,0 +1,212 @@
+package games.strategy.triplea.ai.pro.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.TerritoryEffect;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.ai.pro.data.ProBattleResult;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.Value;
+import org.triplea.java.collections.CollectionUtils;
+
+/**
+ * Caches the results of battles simulated by the {@link ProOddsCalculator}. Battles are identified
+ * by a canonical signature: the territory, its effects and owner, the number of units of each type,
+ * owner and damage on each side, and the options the battle is simulated with. So battles that only
+ * differ by which units of the same kind fight share a result.
+ *
+ * <p>The units remaining of a cached result are stored by kind as well and mapped back onto the
+ * units of the battle asked for. The cache holds a bounded number of unit entries and evicts the
+ * least recently used results first. Results are only valid as long as the rules of the game do not
+ * change, so the cache must be cleared when a new phase starts.
+ */
+class ProBattleResultCache {
+  // the maximum number of unit kind entries held by all cached results
+  private static final long MAX_WEIGHT = 100_000;
+
+  private final Cache<BattleSignature, CachedResult> cache =
+      CacheBuilder.newBuilder()
+          .maximumWeight(MAX_WEIGHT)
+          .<BattleSignature, CachedResult>weigher(
+              (signature, result) -> signature.getWeight() + result.getWeight())
+          .recordStats()
+          .build();
+
+  /** The kind of a unit, all units of the same kind fight the same way. */
+  @Value
+  static class UnitKind {
+    String type;
+    String owner;
+    int hits;
+    int unitDamage;
+    boolean wasAmphibious;
+    boolean transported;
+
+    static UnitKind of(final Unit unit) {
+      return new UnitKind(
+          unit.getType().getName(),
+          unit.getOwner().getName(),
+          unit.getHits(),
+          unit.getUnitDamage(),
+          unit.getWasAmphibious(),
+          unit.getTransportedBy() != null);
+    }
+  }
+
+  @Value
+  static class BattleSignature {
+    String territory;
+    String territoryOwner;
+    List<String> territoryEffects;
+    String attacker;
+    String defender;
+    Map<UnitKind, Integer> attackingUnits;
+    Map<UnitKind, Integer> defendingUnits;
+    Map<UnitKind, Integer> bombardingUnits;
+    boolean checkSubmerge;
+    boolean retreatWhenOnlyAirLeft;
+
+    int getWeight() {
+      return 1 + attackingUnits.size() + defendingUnits.size() + bombardingUnits.size();
+    }
+  }
+
+  @Value
+  private static class CachedResult {
+    double winPercentage;
+    double tuvSwing;
+    boolean hasLandUnitRemaining;
+    Map<UnitKind, Integer> attackersRemaining;
+    Map<UnitKind, Integer> defendersRemaining;
+    double battleRounds;
+
+    int getWeight() {
+      return 1 + attackersRemaining.size() + defendersRemaining.size();
+    }
+  }
+
+  /** Returns the signature of the given battle. */
+  static BattleSignature getSignature(
+      final Territory t,
+      final Collection<TerritoryEffect> territoryEffects,
+      final GamePlayer attacker,
+      final GamePlayer defender,
+      final Collection<Unit> attackingUnits,
+      final Collection<Unit> defendingUnits,
+      final Collection<Unit> bombardingUnits,
+      final boolean checkSubmerge,
+      final boolean retreatWhenOnlyAirLeft) {
+    return new BattleSignature(
+        t.getName(),
+        t.getOwner().getName(),
+        territoryEffects.stream()
+            .map(TerritoryEffect::getName)
+            .sorted()
+            .collect(Collectors.toList()),
+        attacker.getName(),
+        defender.getName(),
+        countKinds(attackingUnits),
+        countKinds(defendingUnits),
+        countKinds(bombardingUnits),
+        checkSubmerge,
+        retreatWhenOnlyAirLeft);
+  }
+
+  private static Map<UnitKind, Integer> countKinds(final Collection<Unit> units) {
+    final Map<UnitKind, Integer> kinds = new HashMap<>();
+    units.forEach(unit -> kinds.merge(UnitKind.of(unit), 1, Integer::sum));
+    return kinds;
+  }
+
+  /**
+   * Returns the cached result of the battle with the given signature, with the units remaining
+   * taken from the given units of the battle.
+   */
+  Optional<ProBattleResult> get(
+      final BattleSignature signature,
+      final Collection<Unit> attackingUnits,
+      final Collection<Unit> defendingUnits) {
+    final CachedResult cachedResult = cache.getIfPresent(signature);
+    if (cachedResult == null) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        new ProBattleResult(
+            cachedResult.getWinPercentage(),
+            cachedResult.getTuvSwing(),
+            cachedResult.isHasLandUnitRemaining(),
+            selectUnits(cachedResult.getAttackersRemaining(), attackingUnits),
+            selectUnits(cachedResult.getDefendersRemaining(), defendingUnits),
+            cachedResult.getBattleRounds()));
+  }
+
+  private static List<Unit> selectUnits(
+      final Map<UnitKind, Integer> kinds, final Collection<Unit> units) {
+    final Map<UnitKind, Integer> remainingKinds = new HashMap<>(kinds);
+    final List<Unit> selectedUnits = new ArrayList<>();
+    for (final Unit unit : units) {
+      final UnitKind kind = UnitKind.of(unit);
+      final int count = remainingKinds.getOrDefault(kind, 0);
+      if (count > 0) {
+        remainingKinds.put(kind, count - 1);
+        selectedUnits.add(unit);
+      }
+    }
+    return selectedUnits;
+  }
+
+  /**
+   * Caches the result of the battle with the given signature. Results whose remaining units are not
+   * all units of the battle are not cached, as they could not be mapped onto another battle.
+   */
+  void put(
+      final BattleSignature signature,
+      final Collection<Unit> attackingUnits,
+      final Collection<Unit> defendingUnits,
+      final ProBattleResult result) {
+    // the units remaining may be copies from the battle calculator's game data, so count the kinds
+    // of the battle's units equal to them
+    final List<Unit> attackersRemaining =
+        getUnitsOf(attackingUnits, result.getAverageAttackersRemaining());
+    final List<Unit> defendersRemaining =
+        getUnitsOf(defendingUnits, result.getAverageDefendersRemaining());
+    if (attackersRemaining.size() != result.getAverageAttackersRemaining().size()
+        || defendersRemaining.size() != result.getAverageDefendersRemaining().size()) {
+      return;
+    }
+    cache.put(
+        signature,
+        new CachedResult(
+            result.getWinPercentage(),
+            result.getTuvSwing(),
+            result.isHasLandUnitRemaining(),
+            countKinds(attackersRemaining),
+            countKinds(defendersRemaining),
+            result.getBattleRounds()));
+  }
+
+  private static List<Unit> getUnitsOf(
+      final Collection<Unit> units, final Collection<Unit> unitsToFind) {
+    final Set<Unit> unitSet = new HashSet<>(unitsToFind);
+    return CollectionUtils.getMatches(units, unitSet::contains);
+  }
+
+  void clear() {
+    cache.invalidateAll();
+  }
+
+  CacheStats getStats() {
+    return cache.stats();
+  }
+}
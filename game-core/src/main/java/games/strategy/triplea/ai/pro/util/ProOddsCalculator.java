@@ -1,26 +1,36 @@
 package games.strategy.triplea.ai.pro.util;
 
+import com.google.common.cache.CacheStats;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.TerritoryEffect;
 import games.strategy.engine.data.Unit;
 import games.strategy.triplea.Properties;
 import games.strategy.triplea.ai.pro.ProData;
 import games.strategy.triplea.ai.pro.data.ProBattleResult;
+import games.strategy.triplea.ai.pro.logging.ProLogger;
 import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.delegate.TerritoryEffectHelper;
 import games.strategy.triplea.odds.calculator.AggregateResults;
+import games.strategy.triplea.odds.calculator.CalculationPrecision;
 import games.strategy.triplea.odds.calculator.IBattleCalculator;
 import games.strategy.triplea.util.TuvUtils;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.triplea.java.collections.CollectionUtils;
 
 /** Pro AI odds calculator. */
 public class ProOddsCalculator {
+  private static final int MIN_RUN_COUNT = 16;
+  private static final double WIN_PERCENT_TOLERANCE = 0.05;
+  // the tolerated error of the TUV swing, relative to the TUV of all units in the battle
+  private static final double RELATIVE_TUV_SWING_TOLERANCE = 0.05;
 
   private final IBattleCalculator calc;
+  private final ProBattleResultCache resultCache = new ProBattleResultCache();
   private boolean stopped = false;
 
   public ProOddsCalculator(final IBattleCalculator calc) {
@@ -31,6 +41,27 @@ public class ProOddsCalculator {
     stopped = true;
   }
 
+  /**
+   * Discards the cached battle results. Must be called whenever the rules of the game may have
+   * changed, like at the start of each phase.
+   */
+  public void clearCache() {
+    final CacheStats stats = resultCache.getStats();
+    ProLogger.debug(
+        "Battle result cache requests="
+            + stats.requestCount()
+            + ", hitRate="
+            + stats.hitRate()
+            + ", evictions="
+            + stats.evictionCount());
+    resultCache.clear();
+  }
+
+  /** Returns the statistics of the battle result cache since this calculator was created. */
+  public CacheStats getCacheStats() {
+    return resultCache.getStats();
+  }
+
   /**
    * Simulates the specified battle. Prior to the simulation, an estimate is made of the attacker's
    * chance to win the battle. If the estimate indicates the attacker has almost no chance to win,
@@ -201,7 +232,7 @@ public class ProOddsCalculator {
         proData, t, attackingUnits, defendingUnits, bombardingUnits, checkSubmerge, false);
   }
 
-  /** Simulates the specified battle. */
+  /** Simulates the specified battle, unless the result of an equivalent battle is cached. */
   private ProBattleResult callBattleCalc(
       final ProData proData,
       final Territory t,
@@ -210,16 +241,80 @@ public class ProOddsCalculator {
       final Collection<Unit> bombardingUnits,
       final boolean checkSubmerge,
       final boolean retreatWhenOnlyAirLeft) {
-    final GameData data = t.getData();
-
     if (stopped || attackingUnits.isEmpty() || defendingUnits.isEmpty()) {
       return new ProBattleResult();
     }
 
-    final int minArmySize = Math.min(attackingUnits.size(), defendingUnits.size());
-    final int runCount = Math.max(16, 100 - minArmySize);
     final GamePlayer attacker = attackingUnits.iterator().next().getOwner();
     final GamePlayer defender = defendingUnits.iterator().next().getOwner();
+    final Collection<TerritoryEffect> territoryEffects = TerritoryEffectHelper.getEffects(t);
+    final ProBattleResultCache.BattleSignature signature =
+        ProBattleResultCache.getSignature(
+            t,
+            territoryEffects,
+            attacker,
+            defender,
+            attackingUnits,
+            defendingUnits,
+            bombardingUnits,
+            checkSubmerge,
+            retreatWhenOnlyAirLeft);
+    final Optional<ProBattleResult> cachedResult =
+        resultCache.get(signature, attackingUnits, defendingUnits);
+    if (cachedResult.isPresent()) {
+      return cachedResult.get();
+    }
+    final ProBattleResult result =
+        simulateBattle(
+            proData,
+            t,
+            attacker,
+            defender,
+            attackingUnits,
+            defendingUnits,
+            bombardingUnits,
+            territoryEffects,
+            checkSubmerge,
+            retreatWhenOnlyAirLeft);
+    // the results of cancelled simulations are incomplete
+    if (!stopped) {
+      resultCache.put(signature, attackingUnits, defendingUnits, result);
+    }
+    return result;
+  }
+
+  private ProBattleResult simulateBattle(
+      final ProData proData,
+      final Territory t,
+      final GamePlayer attacker,
+      final GamePlayer defender,
+      final Collection<Unit> attackingUnits,
+      final Collection<Unit> defendingUnits,
+      final Collection<Unit> bombardingUnits,
+      final Collection<TerritoryEffect> territoryEffects,
+      final boolean checkSubmerge,
+      final boolean retreatWhenOnlyAirLeft) {
+    final GameData data = t.getData();
+    final List<Unit> mainCombatAttackers =
+        CollectionUtils.getMatches(
+            attackingUnits, Matches.unitCanBeInBattle(true, !t.isWater(), 1, true));
+    final List<Unit> mainCombatDefenders =
+        CollectionUtils.getMatches(
+            defendingUnits, Matches.unitCanBeInBattle(false, !t.isWater(), 1, true));
+
+    // Stop simulating once the results are precise enough, lopsided battles need far fewer runs
+    final int minArmySize = Math.min(attackingUnits.size(), defendingUnits.size());
+    // the tolerance is relative to the same unit costs the calculated TUV swing is based on
+    final int battleTuv =
+        TuvUtils.getTuv(mainCombatAttackers, TuvUtils.getCostsForTuv(attacker, data))
+            + TuvUtils.getTuv(mainCombatDefenders, TuvUtils.getCostsForTuv(defender, data));
+    final CalculationPrecision precision =
+        CalculationPrecision.builder()
+            .minRunCount(MIN_RUN_COUNT)
+            .maxRunCount(Math.max(MIN_RUN_COUNT, 100 - minArmySize))
+            .winPercentTolerance(WIN_PERCENT_TOLERANCE)
+            .tuvSwingTolerance(Math.max(1, battleTuv * RELATIVE_TUV_SWING_TOLERANCE))
+            .build();
     final AggregateResults results =
         calc.calculate(
             attacker,
@@ -228,20 +323,14 @@ public class ProOddsCalculator {
             attackingUnits,
             defendingUnits,
             new ArrayList<>(bombardingUnits),
-            TerritoryEffectHelper.getEffects(t),
+            territoryEffects,
             retreatWhenOnlyAirLeft,
-            runCount);
+            precision);
 
     // Find battle result statistics
     final double winPercentage = results.getAttackerWinPercent() * 100;
     final Collection<Unit> averageAttackersRemaining = results.getAverageAttackingUnitsRemaining();
     final Collection<Unit> averageDefendersRemaining = results.getAverageDefendingUnitsRemaining();
-    final List<Unit> mainCombatAttackers =
-        CollectionUtils.getMatches(
-            attackingUnits, Matches.unitCanBeInBattle(true, !t.isWater(), 1, true));
-    final List<Unit> mainCombatDefenders =
-        CollectionUtils.getMatches(
-            defendingUnits, Matches.unitCanBeInBattle(false, !t.isWater(), 1, true));
     double tuvSwing =
         results.getAverageTuvSwing(
             attacker, mainCombatAttackers, defender, mainCombatDefenders, data);
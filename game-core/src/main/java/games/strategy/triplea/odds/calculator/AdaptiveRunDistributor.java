@@ -0,0 +1,125 @@
+package games.strategy.triplea.odds.calculator;
+
+import com.google.common.base.Preconditions;
+import games.strategy.engine.data.UnitType;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import org.triplea.java.collections.IntegerMap;
+import org.triplea.util.Tuple;
+
+/**
+ * Hands out small batches of simulation runs to workers until the combined results are as precise
+ * as requested by a {@link CalculationPrecision}.
+ *
+ * <p>The confidence interval of the attacker's chance to win is the Agresti-Coull interval over
+ * all runs. The confidence interval of the average TUV swing is estimated from the variance of the
+ * averages of full batches (the batch means method), so no per run values need to be kept.
+ */
+@ThreadSafe
+class AdaptiveRunDistributor {
+  static final int BATCH_SIZE = 8;
+  // the 97.5th percentile of the standard normal distribution, for 95% confidence intervals
+  private static final double Z = 1.96;
+
+  private final CalculationPrecision precision;
+  @Nullable private final IntegerMap<UnitType> attackerCostsForTuv;
+  @Nullable private final IntegerMap<UnitType> defenderCostsForTuv;
+
+  @GuardedBy("this")
+  private final AggregateResults results = new AggregateResults();
+
+  @GuardedBy("this")
+  private int runsHandedOut;
+
+  @GuardedBy("this")
+  private boolean stopped;
+
+  @GuardedBy("this")
+  private int fullBatches;
+
+  @GuardedBy("this")
+  private double batchTuvSum;
+
+  @GuardedBy("this")
+  private double batchTuvSquaresSum;
+
+  /**
+   * Creates a new distributor. If the costs are null, the precision of the TUV swing is not
+   * considered.
+   */
+  AdaptiveRunDistributor(
+      final CalculationPrecision precision,
+      @Nullable final IntegerMap<UnitType> attackerCostsForTuv,
+      @Nullable final IntegerMap<UnitType> defenderCostsForTuv) {
+    Preconditions.checkArgument(precision.getMaxRunCount() >= 0, "maxRunCount must be >= 0");
+    this.precision = precision;
+    this.attackerCostsForTuv = attackerCostsForTuv;
+    this.defenderCostsForTuv = defenderCostsForTuv;
+  }
+
+  /** Returns the number of runs the calling worker should run next, 0 if it should stop. */
+  synchronized int nextBatch() {
+    if (stopped) {
+      return 0;
+    }
+    final int batch = Math.min(BATCH_SIZE, precision.getMaxRunCount() - runsHandedOut);
+    runsHandedOut += batch;
+    return batch;
+  }
+
+  /** Adds the results of a batch of runs handed out by {@link #nextBatch()}. */
+  synchronized void addBatch(final AggregateResults batch) {
+    results.addResults(batch);
+    if (batch.getRollCount() == BATCH_SIZE && attackerCostsForTuv != null) {
+      final Tuple<Double, Double> tuvLeft =
+          batch.getAverageTuvOfUnitsLeftOver(attackerCostsForTuv, defenderCostsForTuv);
+      // the TUV swing of a run only differs from others by the TUV left over of both sides
+      final double tuvLeftDifference = tuvLeft.getFirst() - tuvLeft.getSecond();
+      fullBatches++;
+      batchTuvSum += tuvLeftDifference;
+      batchTuvSquaresSum += tuvLeftDifference * tuvLeftDifference;
+    }
+    if (batch.getRollCount() == 0 || isPreciseEnough()) {
+      stopped = true;
+    }
+  }
+
+  private boolean isPreciseEnough() {
+    final int runs = results.getRollCount();
+    if (runs < precision.getMinRunCount()) {
+      return false;
+    }
+    final double adjustedRuns = runs + Z * Z;
+    final double adjustedWinPercent =
+        (results.getAttackerWinPercent() * runs + Z * Z / 2) / adjustedRuns;
+    final double winPercentError =
+        Z * Math.sqrt(adjustedWinPercent * (1 - adjustedWinPercent) / adjustedRuns);
+    if (winPercentError > precision.getWinPercentTolerance()) {
+      return false;
+    }
+    if (attackerCostsForTuv == null
+        || precision.getTuvSwingTolerance() == Double.POSITIVE_INFINITY) {
+      return true;
+    }
+    if (fullBatches < 2) {
+      return false;
+    }
+    final double mean = batchTuvSum / fullBatches;
+    final double variance =
+        Math.max(0, (batchTuvSquaresSum - fullBatches * mean * mean) / (fullBatches - 1));
+    return Z * Math.sqrt(variance / fullBatches) <= precision.getTuvSwingTolerance();
+  }
+
+  /** Stops handing out runs. */
+  synchronized void stop() {
+    stopped = true;
+  }
+
+  /** Returns the combined results of all batches added so far. */
+  synchronized AggregateResults getResults() {
+    final AggregateResults combined = new AggregateResults();
+    combined.addResults(results);
+    return combined;
+  }
+}
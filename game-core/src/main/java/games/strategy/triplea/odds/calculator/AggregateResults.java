@@ -9,49 +9,106 @@ import games.strategy.triplea.util.TuvUtils;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.Getter;
 import lombok.Setter;
 import org.triplea.java.collections.IntegerMap;
 import org.triplea.util.Tuple;
 
-/** A container for the results of multiple battle simulation runs. */
+/**
+ * A container for the results of multiple battle simulation runs.
+ *
+ * <p>Results are not kept, each result is folded into running totals as it is added: win, loss and
+ * draw counts, the number of battle rounds fought, the number of remaining units per unit type and
+ * one sample result per distinct number of remaining attacking and defending units. So the memory
+ * used does not grow with the number of runs, and results of several calculations can be combined
+ * with {@link #addResults(AggregateResults)}.
+ */
 public class AggregateResults {
-  private final List<BattleResults> results;
+  private int rollCount;
+  private int attackerWins;
+  private int defenderWins;
+  private int draws;
+  private long battleRoundsFought;
+  private long attackingUnitsLeft;
+  private long defendingUnitsLeft;
+  private long attackingUnitsLeftWhenAttackerWon;
+  private long defendingUnitsLeftWhenDefenderWon;
+  private final IntegerMap<UnitType> attackingUnitTypesLeft = new IntegerMap<>();
+  private final IntegerMap<UnitType> defendingUnitTypesLeft = new IntegerMap<>();
+  // the first result with a given number of remaining attacking and defending units
+  private final Map<Long, BattleResults> samplesByUnitsLeft = new LinkedHashMap<>();
   @Getter @Setter private long time;
 
-  public AggregateResults(final int expectedCount) {
-    results = new ArrayList<>(expectedCount);
-  }
-
-  AggregateResults(final List<BattleResults> results) {
-    this.results = new ArrayList<>(results);
-  }
-
+  /** Folds the given result into these results. */
   public void addResult(final BattleResults result) {
-    results.add(result);
+    final Collection<Unit> attackingUnits = result.getRemainingAttackingUnits();
+    final Collection<Unit> defendingUnits = result.getRemainingDefendingUnits();
+    rollCount++;
+    battleRoundsFought += result.getBattleRoundsFought();
+    attackingUnitsLeft += attackingUnits.size();
+    defendingUnitsLeft += defendingUnits.size();
+    if (result.attackerWon()) {
+      attackerWins++;
+      attackingUnitsLeftWhenAttackerWon += attackingUnits.size();
+    } else if (result.defenderWon()) {
+      defenderWins++;
+      defendingUnitsLeftWhenDefenderWon += defendingUnits.size();
+    } else {
+      draws++;
+    }
+    attackingUnits.forEach(unit -> attackingUnitTypesLeft.add(unit.getType(), 1));
+    defendingUnits.forEach(unit -> defendingUnitTypesLeft.add(unit.getType(), 1));
+    samplesByUnitsLeft.putIfAbsent(
+        getUnitsLeftKey(attackingUnits.size(), defendingUnits.size()), result);
+  }
+
+  private static long getUnitsLeftKey(final int attackingUnitsLeft, final int defendingUnitsLeft) {
+    return ((long) attackingUnitsLeft << 32) | defendingUnitsLeft;
   }
 
   public void addResults(final Collection<BattleResults> results) {
-    this.results.addAll(results);
+    results.forEach(this::addResult);
   }
 
+  /** Adds the results folded into the given results to these results. */
+  public void addResults(final AggregateResults results) {
+    rollCount += results.rollCount;
+    attackerWins += results.attackerWins;
+    defenderWins += results.defenderWins;
+    draws += results.draws;
+    battleRoundsFought += results.battleRoundsFought;
+    attackingUnitsLeft += results.attackingUnitsLeft;
+    defendingUnitsLeft += results.defendingUnitsLeft;
+    attackingUnitsLeftWhenAttackerWon += results.attackingUnitsLeftWhenAttackerWon;
+    defendingUnitsLeftWhenDefenderWon += results.defendingUnitsLeftWhenDefenderWon;
+    attackingUnitTypesLeft.add(results.attackingUnitTypesLeft);
+    defendingUnitTypesLeft.add(results.defendingUnitTypesLeft);
+    results.samplesByUnitsLeft.forEach(samplesByUnitsLeft::putIfAbsent);
+  }
+
+  /**
+   * Returns a sample of the results, one result for each distinct number of remaining attacking and
+   * defending units.
+   */
   public List<BattleResults> getResults() {
-    return results;
+    return new ArrayList<>(samplesByUnitsLeft.values());
   }
 
   private Optional<BattleResults> getBattleResultsClosestToAverage() {
-    return results.stream()
+    final double averageAttackingUnitsLeft = getAverageAttackingUnitsLeft();
+    final double averageDefendingUnitsLeft = getAverageDefendingUnitsLeft();
+    return samplesByUnitsLeft.values().stream()
         .min(
             Comparator.comparingDouble(
                 result ->
-                    Math.abs(
-                            result.getRemainingAttackingUnits().size()
-                                - getAverageAttackingUnitsLeft())
+                    Math.abs(result.getRemainingAttackingUnits().size() - averageAttackingUnitsLeft)
                         + Math.abs(
                             result.getRemainingDefendingUnits().size()
-                                - getAverageDefendingUnitsLeft())));
+                                - averageDefendingUnitsLeft)));
   }
 
   public Collection<Unit> getAverageAttackingUnitsRemaining() {
@@ -67,30 +124,31 @@ public class AggregateResults {
   }
 
   double getAverageAttackingUnitsLeft() {
-    if (results.isEmpty()) {
+    if (rollCount == 0) {
       return 0.0;
     }
-    return results.stream()
-            .map(BattleResults::getRemainingAttackingUnits)
-            .mapToDouble(Collection::size)
-            .sum()
-        / results.size();
+    return attackingUnitsLeft / (double) rollCount;
   }
 
   /** First is Attacker, Second is Defender. */
   public Tuple<Double, Double> getAverageTuvOfUnitsLeftOver(
       final IntegerMap<UnitType> attackerCostsForTuv,
       final IntegerMap<UnitType> defenderCostsForTuv) {
-    if (results.isEmpty()) {
+    if (rollCount == 0) {
       return Tuple.of(0.0, 0.0);
     }
-    double attackerTuv = 0;
-    double defenderTuv = 0;
-    for (final BattleResults result : results) {
-      attackerTuv += TuvUtils.getTuv(result.getRemainingAttackingUnits(), attackerCostsForTuv);
-      defenderTuv += TuvUtils.getTuv(result.getRemainingDefendingUnits(), defenderCostsForTuv);
+    return Tuple.of(
+        getTuv(attackingUnitTypesLeft, attackerCostsForTuv) / rollCount,
+        getTuv(defendingUnitTypesLeft, defenderCostsForTuv) / rollCount);
+  }
+
+  private static double getTuv(
+      final IntegerMap<UnitType> unitTypes, final IntegerMap<UnitType> costsForTuv) {
+    double tuv = 0;
+    for (final UnitType unitType : unitTypes.keySet()) {
+      tuv += (double) unitTypes.getInt(unitType) * costsForTuv.getInt(unitType);
     }
-    return Tuple.of(attackerTuv / results.size(), defenderTuv / results.size());
+    return tuv;
   }
 
   /**
@@ -107,7 +165,7 @@ public class AggregateResults {
       final GamePlayer defender,
       final Collection<Unit> defenders,
       final GameData data) {
-    if (results.isEmpty()) {
+    if (rollCount == 0) {
       return 0.0;
     }
     final IntegerMap<UnitType> attackerCostsForTuv = TuvUtils.getCostsForTuv(attacker, data);
@@ -124,87 +182,60 @@ public class AggregateResults {
   }
 
   double getAverageAttackingUnitsLeftWhenAttackerWon() {
-    if (results.isEmpty()) {
+    if (attackerWins == 0) {
       return 0.0;
     }
-    double count = 0;
-    double total = 0;
-    for (final BattleResults result : results) {
-      if (result.attackerWon()) {
-        count += result.getRemainingAttackingUnits().size();
-        total += 1;
-      }
-    }
-    if (total <= 0) {
-      return 0;
-    }
-    return count / total;
+    return attackingUnitsLeftWhenAttackerWon / (double) attackerWins;
   }
 
   double getAverageDefendingUnitsLeft() {
-    if (results.isEmpty()) {
+    if (rollCount == 0) {
       return 0.0;
     }
-    return results.stream()
-            .map(BattleResults::getRemainingDefendingUnits)
-            .mapToDouble(Collection::size)
-            .sum()
-        / results.size();
+    return defendingUnitsLeft / (double) rollCount;
   }
 
   double getAverageDefendingUnitsLeftWhenDefenderWon() {
-    if (results.isEmpty()) {
+    if (defenderWins == 0) {
       return 0.0;
     }
-    double count = 0;
-    double total = 0;
-    for (final BattleResults result : results) {
-      if (result.defenderWon()) {
-        count += result.getRemainingDefendingUnits().size();
-        total += 1;
-      }
-    }
-    if (total <= 0) {
-      return 0;
-    }
-    return count / total;
+    return defendingUnitsLeftWhenDefenderWon / (double) defenderWins;
   }
 
   public double getAttackerWinPercent() {
-    if (results.isEmpty()) {
+    if (rollCount == 0) {
       return 0.0;
     }
-    return results.stream().filter(BattleResults::attackerWon).count() / (double) results.size();
+    return attackerWins / (double) rollCount;
   }
 
   double getDefenderWinPercent() {
-    if (results.isEmpty()) {
+    if (rollCount == 0) {
       return 0.0;
     }
-    return results.stream().filter(BattleResults::defenderWon).count() / (double) results.size();
+    return defenderWins / (double) rollCount;
   }
 
   /** Returns the average number of rounds fought across all simulations of the battle. */
   public double getAverageBattleRoundsFought() {
-    if (results.isEmpty()) {
+    if (rollCount == 0) {
       return 0.0;
     }
-    final long count = results.stream().mapToInt(BattleResults::getBattleRoundsFought).sum();
-    if (count == 0) {
+    if (battleRoundsFought == 0) {
       // If this is a 'fake' aggregate result, return 1.0
       return 1.0;
     }
-    return count / (double) results.size();
+    return battleRoundsFought / (double) rollCount;
   }
 
   double getDrawPercent() {
-    if (results.isEmpty()) {
+    if (rollCount == 0) {
       return 0.0;
     }
-    return results.stream().filter(BattleResults::draw).count() / (double) results.size();
+    return draws / (double) rollCount;
   }
 
   public int getRollCount() {
-    return results.size();
+    return rollCount;
   }
 }
@@ -9,11 +9,11 @@ import games.strategy.engine.data.TerritoryEffect;
 import games.strategy.engine.data.Unit;
 import games.strategy.engine.data.changefactory.ChangeFactory;
 import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.engine.random.SimulationRandomSource;
 import games.strategy.triplea.delegate.GameDelegateBridge;
 import games.strategy.triplea.delegate.battle.BattleResults;
 import games.strategy.triplea.delegate.battle.BattleTracker;
 import games.strategy.triplea.delegate.battle.MustFightBattle;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -28,6 +28,7 @@ class BattleCalculator implements IBattleCalculator {
   @Setter private int retreatAfterXUnitsLeft = -1;
   @Setter private String attackerOrderOfLosses = null;
   @Setter private String defenderOrderOfLosses = null;
+  @Setter private SimulationRandomSource randomSource = new SimulationRandomSource();
   private volatile boolean cancelled = false;
   private final AtomicBoolean isRunning = new AtomicBoolean(false);
 
@@ -48,6 +49,38 @@ class BattleCalculator implements IBattleCalculator {
       final Collection<TerritoryEffect> territoryEffects,
       final boolean retreatWhenOnlyAirLeft,
       final int runCount) {
+    final AdaptiveRunDistributor runDistributor =
+        new AdaptiveRunDistributor(CalculationPrecision.ofRunCount(runCount), null, null);
+    final long start = System.currentTimeMillis();
+    calculate(
+        attacker,
+        defender,
+        location,
+        attacking,
+        defending,
+        bombarding,
+        territoryEffects,
+        retreatWhenOnlyAirLeft,
+        runDistributor);
+    final AggregateResults aggregateResults = runDistributor.getResults();
+    aggregateResults.setTime(System.currentTimeMillis() - start);
+    return aggregateResults;
+  }
+
+  /**
+   * Runs the batches of simulations handed out by the given distributor until it stops handing out
+   * runs or this calculator is cancelled, and adds their results to the distributor.
+   */
+  void calculate(
+      final GamePlayer attacker,
+      final GamePlayer defender,
+      final Territory location,
+      final Collection<Unit> attacking,
+      final Collection<Unit> defending,
+      final Collection<Unit> bombarding,
+      final Collection<TerritoryEffect> territoryEffects,
+      final boolean retreatWhenOnlyAirLeft,
+      final AdaptiveRunDistributor runDistributor) {
     Preconditions.checkState(
         !isRunning.getAndSet(true), "Can't calculate while operation is still running!");
     try {
@@ -73,8 +106,6 @@ class BattleCalculator implements IBattleCalculator {
       gameData.performChange(ChangeFactory.removeUnits(location2, location2.getUnits()));
       gameData.performChange(ChangeFactory.addUnits(location2, attackingUnits));
       gameData.performChange(ChangeFactory.addUnits(location2, defendingUnits));
-      final long start = System.currentTimeMillis();
-      final AggregateResults aggregateResults = new AggregateResults(runCount);
       final BattleTracker battleTracker = new BattleTracker();
       // CasualtySortingCaching can cause issues if there is more than 1 one battle being calculated
       // at the same time (like if the AI and a human are both using the calc)
@@ -86,41 +117,48 @@ class BattleCalculator implements IBattleCalculator {
       final List<Unit> defenderOrderOfLosses =
           OrderOfLossesInputPanel.getUnitListByOrderOfLoss(
               this.defenderOrderOfLosses, defendingUnits, gameData);
-      for (int i = 0; i < runCount && !cancelled; i++) {
-        final CompositeChange allChanges = new CompositeChange();
-        final DummyDelegateBridge bridge1 =
-            new DummyDelegateBridge(
-                attacker2,
-                gameData,
-                allChanges,
-                attackerOrderOfLosses,
-                defenderOrderOfLosses,
-                keepOneAttackingLandUnit,
-                retreatAfterRound,
-                retreatAfterXUnitsLeft,
-                retreatWhenOnlyAirLeft);
-        final GameDelegateBridge bridge = new GameDelegateBridge(bridge1);
-        final MustFightBattle battle =
-            new MustFightBattle(location2, attacker2, gameData, battleTracker);
-        battle.setHeadless(true);
-        battle.setUnits(
-            defendingUnits,
-            attackingUnits,
-            bombardingUnits,
-            (amphibious ? attackingUnits : new ArrayList<>()),
-            defender2,
-            territoryEffects2);
-        bridge1.setBattle(battle);
-        battle.fight(bridge);
-        aggregateResults.addResult(new BattleResults(battle, gameData));
-        // restore the game to its original state
-        gameData.performChange(allChanges.invert());
-        battleTracker.clear();
-        battleTracker.clearBattleRecords();
+      // the bridges are stateless between runs apart from the battle and its changes, so create
+      // them only once instead of once per run
+      final DummyDelegateBridge bridge1 =
+          new DummyDelegateBridge(
+              attacker2,
+              gameData,
+              attackerOrderOfLosses,
+              defenderOrderOfLosses,
+              keepOneAttackingLandUnit,
+              retreatAfterRound,
+              retreatAfterXUnitsLeft,
+              retreatWhenOnlyAirLeft,
+              randomSource);
+      final GameDelegateBridge bridge = new GameDelegateBridge(bridge1);
+      final Collection<Unit> amphibiousUnits = amphibious ? attackingUnits : List.of();
+      for (int batch = runDistributor.nextBatch();
+          batch > 0 && !cancelled;
+          batch = runDistributor.nextBatch()) {
+        final AggregateResults batchResults = new AggregateResults();
+        for (int i = 0; i < batch && !cancelled; i++) {
+          final CompositeChange allChanges = new CompositeChange();
+          final MustFightBattle battle =
+              new MustFightBattle(location2, attacker2, gameData, battleTracker);
+          battle.setHeadless(true);
+          battle.setUnits(
+              defendingUnits,
+              attackingUnits,
+              bombardingUnits,
+              amphibiousUnits,
+              defender2,
+              territoryEffects2);
+          bridge1.prepareForBattle(battle, allChanges);
+          battle.fight(bridge);
+          batchResults.addResult(new BattleResults(battle, gameData));
+          // restore the game to its original state
+          gameData.performChange(allChanges.invert());
+          battleTracker.clear();
+          battleTracker.clearBattleRecords();
+        }
+        runDistributor.addBatch(batchResults);
       }
-      aggregateResults.setTime(System.currentTimeMillis() - start);
       cancelled = false;
-      return aggregateResults;
     } finally {
       isRunning.set(false);
     }
@@ -0,0 +1,31 @@
+package games.strategy.triplea.odds.calculator;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * How precise the results of a battle calculation have to be. A calculation stops as soon as the
+ * 95% confidence intervals of the attacker's chance to win and of the average TUV swing are no
+ * wider than the given tolerances on either side, but runs at least {@code minRunCount} and at most
+ * {@code maxRunCount} simulations.
+ */
+@Builder
+@Value
+public class CalculationPrecision {
+  @Builder.Default int minRunCount = 16;
+  int maxRunCount;
+  /** The tolerated error of the attacker's chance to win, between 0 and 1. */
+  @Builder.Default double winPercentTolerance = 0.05;
+  /** The tolerated error of the average TUV swing. */
+  @Builder.Default double tuvSwingTolerance = Double.POSITIVE_INFINITY;
+
+  /** Returns a precision that always runs exactly the given number of simulations. */
+  public static CalculationPrecision ofRunCount(final int runCount) {
+    return CalculationPrecision.builder()
+        .minRunCount(runCount)
+        .maxRunCount(runCount)
+        .winPercentTolerance(0)
+        .tuvSwingTolerance(0)
+        .build();
+  }
+}
@@ -6,7 +6,10 @@ import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.TerritoryEffect;
 import games.strategy.engine.data.Unit;
-import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.engine.framework.GameDataSnapshot;
+import games.strategy.engine.random.SimulationRandomSource;
+import games.strategy.triplea.util.TuvUtils;
+import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -44,6 +47,10 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
   // do not let multiple calculations or setting calc data happen at same time
   private final Object mutexCalcIsRunning = new Object();
   private final Runnable dataLoadedAction;
+  // the run distributor of the adaptive calculation in progress, if any, so it can be cancelled
+  private volatile AdaptiveRunDistributor adaptiveRunDistributor;
+  // the size of the snapshot the workers' copies of the game data were forked from
+  private volatile int snapshotSize = 0;
 
   public ConcurrentBattleCalculator() {
     this(Runnables.doNothing());
@@ -121,46 +128,43 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
       final long startTime = System.currentTimeMillis();
       final long startMemory =
           Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
-      final GameData newData;
+      final GameDataSnapshot snapshot;
       try {
-        // make first copy, then release lock on it so game can continue (ie: we don't want to lock
-        // on it while we copy
-        // it 16 times, when once is enough) don't let the data change while we make the first copy
+        // capture the snapshot once, then release the lock so the game can continue (ie: we don't
+        // want to lock on it while we copy it 16 times, when once is enough) don't let the data
+        // change while we capture it
         data.acquireWriteLock();
-        newData = GameDataUtils.cloneGameDataWithoutHistory(data, false);
+        snapshot = GameDataSnapshot.captureWithoutHistory(data, false);
+      } catch (final IOException e) {
+        throw new IllegalStateException("Failed to capture game data snapshot", e);
       } finally {
         data.releaseWriteLock();
       }
+      snapshotSize = snapshot.size();
+      final GameData firstCopy = forkSnapshot(snapshot);
       final int currentThreads =
           getThreadsToUse((System.currentTimeMillis() - startTime), startMemory);
-      try {
-        // make sure all workers are using the same data
-        newData.acquireReadLock();
-        int i = 0;
-        // we are already in 1 executor thread, so we have MAX_THREADS-1 threads left to use
-        if (currentThreads <= 2 || MAX_THREADS <= 2) {
-          // if 2 or fewer threads, do not multi-thread the copying (we have already copied it once
-          // above, so at most
-          // only 1 more copy to make)
-          while (cancelCurrentOperation.get() >= 0 && i < currentThreads) {
-            // the last one will use our already copied data from above, without copying it again
-            workers.add(new BattleCalculator(newData, (currentThreads == ++i)));
-          }
-        } else {
-          // multi-thread our copying, cus why the heck not
-          // (it increases the speed of copying by about double)
-          workers.addAll(
-              IntStream.range(1, currentThreads)
-                  .parallel()
-                  .filter(j -> cancelCurrentOperation.get() >= 0)
-                  .mapToObj(j -> new BattleCalculator(newData, false))
-                  .collect(Collectors.toList()));
-          // the last one will use our already copied data from above, without copying it again
-          workers.add(new BattleCalculator(newData, true));
+      // every copy is forked from the same immutable snapshot, so all workers are guaranteed to
+      // use the same data without having to lock anything while copying
+      // we are already in 1 executor thread, so we have MAX_THREADS-1 threads left to use
+      if (currentThreads <= 2 || MAX_THREADS <= 2) {
+        // if 2 or fewer threads, do not multi-thread the copying (we have already copied it once
+        // above, so at most only 1 more copy to make)
+        for (int i = 1; cancelCurrentOperation.get() >= 0 && i < currentThreads; i++) {
+          workers.add(new BattleCalculator(forkSnapshot(snapshot), true));
         }
-      } finally {
-        newData.releaseReadLock();
+      } else {
+        // multi-thread our copying, cus why the heck not
+        // (it increases the speed of copying by about double)
+        workers.addAll(
+            IntStream.range(1, currentThreads)
+                .parallel()
+                .filter(j -> cancelCurrentOperation.get() >= 0)
+                .mapToObj(j -> new BattleCalculator(forkSnapshot(snapshot), true))
+                .collect(Collectors.toList()));
       }
+      // the last one will use our already copied data from above, without copying it again
+      workers.add(new BattleCalculator(firstCopy, true));
     }
     if (cancelCurrentOperation.get() < 0 || data == null) {
       // we could have cancelled while setting data, so clear the workers again if so
@@ -178,6 +182,14 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
     latchSetData.countDown();
   }
 
+  private static GameData forkSnapshot(final GameDataSnapshot snapshot) {
+    try {
+      return snapshot.fork();
+    } catch (final IOException e) {
+      throw new IllegalStateException("Failed to copy game data from snapshot", e);
+    }
+  }
+
   private void awaitLatch() {
     try {
       // there is a small chance calculate or setCalculateData or something could be called in
@@ -210,28 +222,90 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
       if (!isDataSet) {
         // we could have attempted to set a new game data, while the old one was still being set,
         // causing it to abort with null data
-        return new AggregateResults(0);
+        return new AggregateResults();
       }
       final var runCountDistributor = new RunCountDistributor(runCount, workers.size());
-      final AggregateResults results =
-          new AggregateResults(
-              workers
-                  .parallelStream()
-                  .map(
-                      worker ->
-                          worker.calculate(
-                              attacker,
-                              defender,
-                              location,
-                              attacking,
-                              defending,
-                              bombarding,
-                              territoryEffects,
-                              retreatWhenOnlyAirLeft,
-                              runCountDistributor.nextRunCount()))
-                  .map(AggregateResults::getResults)
-                  .flatMap(Collection::parallelStream)
-                  .collect(Collectors.toList()));
+      // hand out the run counts in worker order, so that after seeding the random sources each
+      // worker runs the same battles however the workers are scheduled
+      final int[] runCounts = new int[workers.size()];
+      for (int i = 0; i < runCounts.length; i++) {
+        runCounts[i] = runCountDistributor.nextRunCount();
+      }
+      splitRandomSources();
+      final AggregateResults results = new AggregateResults();
+      IntStream.range(0, workers.size())
+          .parallel()
+          .mapToObj(
+              i ->
+                  workers
+                      .get(i)
+                      .calculate(
+                          attacker,
+                          defender,
+                          location,
+                          attacking,
+                          defending,
+                          bombarding,
+                          territoryEffects,
+                          retreatWhenOnlyAirLeft,
+                          runCounts[i]))
+          .collect(Collectors.toList())
+          .forEach(results::addResults);
+      results.setTime(System.currentTimeMillis() - start);
+      return results;
+    }
+  }
+
+  /**
+   * Concurrently calculates odds until they are as precise as requested. Each worker sets up the
+   * battle once and then repeatedly takes a small batch of runs from a shared {@link
+   * AdaptiveRunDistributor} until it stops handing out runs, so faster workers run more batches.
+   */
+  @Override
+  public AggregateResults calculate(
+      final GamePlayer attacker,
+      final GamePlayer defender,
+      final Territory location,
+      final Collection<Unit> attacking,
+      final Collection<Unit> defending,
+      final Collection<Unit> bombarding,
+      final Collection<TerritoryEffect> territoryEffects,
+      final boolean retreatWhenOnlyAirLeft,
+      final CalculationPrecision precision) {
+    synchronized (mutexCalcIsRunning) {
+      awaitLatch();
+      final long start = System.currentTimeMillis();
+      if (!isDataSet) {
+        return new AggregateResults();
+      }
+      final boolean hasPlayers = attacker != null && defender != null;
+      final AdaptiveRunDistributor runDistributor =
+          new AdaptiveRunDistributor(
+              precision,
+              hasPlayers ? TuvUtils.getCostsForTuv(attacker, location.getData()) : null,
+              hasPlayers ? TuvUtils.getCostsForTuv(defender, location.getData()) : null);
+      adaptiveRunDistributor = runDistributor;
+      // how many batches each worker runs depends on the scheduling of the workers, so seeding the
+      // random sources does not make these results repeat
+      splitRandomSources();
+      try {
+        workers.parallelStream()
+            .forEach(
+                worker ->
+                    worker.calculate(
+                        attacker,
+                        defender,
+                        location,
+                        attacking,
+                        defending,
+                        bombarding,
+                        territoryEffects,
+                        retreatWhenOnlyAirLeft,
+                        runDistributor));
+      } finally {
+        adaptiveRunDistributor = null;
+      }
+      final AggregateResults results = runDistributor.getResults();
       results.setTime(System.currentTimeMillis() - start);
       return results;
     }
@@ -291,8 +365,31 @@ public class ConcurrentBattleCalculator implements IBattleCalculator {
     }
   }
 
+  /**
+   * Gives each worker a new random source, split from the master generator in worker order before
+   * the workers run in parallel, so the sources do not depend on the scheduling of the workers.
+   */
+  private void splitRandomSources() {
+    for (final BattleCalculator worker : workers) {
+      worker.setRandomSource(new SimulationRandomSource());
+    }
+  }
+
+  /**
+   * Returns an estimate of the memory used by the copies of the game data held by the workers in
+   * bytes: the size of the snapshot they were forked from for each worker. This does not need the
+   * lock of the game data.
+   */
+  public long estimateMemoryUsage() {
+    return (long) snapshotSize * workers.size();
+  }
+
   // not on purpose, we need to be able to cancel at any time
   public void cancel() {
+    final AdaptiveRunDistributor runDistributor = adaptiveRunDistributor;
+    if (runDistributor != null) {
+      runDistributor.stop();
+    }
     for (final BattleCalculator worker : workers) {
       worker.cancel();
     }
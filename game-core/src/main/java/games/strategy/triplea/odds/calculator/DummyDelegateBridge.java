@@ -12,7 +12,7 @@ import games.strategy.engine.history.DelegateHistoryWriter;
 import games.strategy.engine.history.IDelegateHistoryWriter;
 import games.strategy.engine.player.Player;
 import games.strategy.engine.random.IRandomStats;
-import games.strategy.engine.random.PlainRandomSource;
+import games.strategy.engine.random.SimulationRandomSource;
 import games.strategy.triplea.delegate.battle.MustFightBattle;
 import games.strategy.triplea.ui.display.HeadlessDisplay;
 import java.util.List;
@@ -22,7 +22,7 @@ import org.triplea.sound.ISound;
 
 /** Delegate bridge implementation with minimum valid behavior. */
 public class DummyDelegateBridge implements IDelegateBridge {
-  private final PlainRandomSource randomSource = new PlainRandomSource();
+  private final SimulationRandomSource randomSource;
   private final IDisplay display = new HeadlessDisplay();
   private final ISound soundChannel = new HeadlessSoundChannel();
   private final DummyPlayer attackingPlayer;
@@ -30,20 +30,43 @@ public class DummyDelegateBridge implements IDelegateBridge {
   private final GamePlayer attacker;
   private final DelegateHistoryWriter writer =
       new DelegateHistoryWriter(new DummyGameModifiedChannel());
-  private final CompositeChange allChanges;
+  private CompositeChange allChanges = new CompositeChange();
   private final GameData gameData;
   private MustFightBattle battle = null;
 
   public DummyDelegateBridge(
       final GamePlayer attacker,
       final GameData data,
-      final CompositeChange allChanges,
       final List<Unit> attackerOrderOfLosses,
       final List<Unit> defenderOrderOfLosses,
       final boolean attackerKeepOneLandUnit,
       final int retreatAfterRound,
       final int retreatAfterXUnitsLeft,
       final boolean retreatWhenOnlyAirLeft) {
+    this(
+        attacker,
+        data,
+        attackerOrderOfLosses,
+        defenderOrderOfLosses,
+        attackerKeepOneLandUnit,
+        retreatAfterRound,
+        retreatAfterXUnitsLeft,
+        retreatWhenOnlyAirLeft,
+        new SimulationRandomSource());
+  }
+
+  /** Creates a bridge that rolls the dice of its battles with the given random source. */
+  public DummyDelegateBridge(
+      final GamePlayer attacker,
+      final GameData data,
+      final List<Unit> attackerOrderOfLosses,
+      final List<Unit> defenderOrderOfLosses,
+      final boolean attackerKeepOneLandUnit,
+      final int retreatAfterRound,
+      final int retreatAfterXUnitsLeft,
+      final boolean retreatWhenOnlyAirLeft,
+      final SimulationRandomSource randomSource) {
+    this.randomSource = randomSource;
     attackingPlayer =
         new DummyPlayer(
             this,
@@ -66,7 +89,6 @@ public class DummyDelegateBridge implements IDelegateBridge {
             false);
     gameData = data;
     this.attacker = attacker;
-    this.allChanges = allChanges;
   }
 
   @Override
@@ -160,4 +182,17 @@ public class DummyDelegateBridge implements IDelegateBridge {
   public void setBattle(final MustFightBattle battle) {
     this.battle = battle;
   }
+
+  /**
+   * Prepares this bridge to simulate another battle. Changes recorded for any previous battle are
+   * no longer tracked, which allows a single bridge (and its players, random source and history
+   * writer) to be reused across many simulation runs instead of creating a new one per run.
+   *
+   * @param battle The battle that will be fought next.
+   * @param allChanges The container to which all changes made during the battle will be added.
+   */
+  void prepareForBattle(final MustFightBattle battle, final CompositeChange allChanges) {
+    this.battle = battle;
+    this.allChanges = allChanges;
+  }
 }
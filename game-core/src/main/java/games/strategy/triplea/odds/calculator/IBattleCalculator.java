@@ -21,4 +21,31 @@ public interface IBattleCalculator {
       Collection<TerritoryEffect> territoryEffects,
       boolean retreatWhenOnlyAirLeft,
       int runCount);
+
+  /**
+   * Calculates the results of the battle, running only as many simulations as needed to get
+   * results of the given precision. Implementations that cannot stop early run the maximum number
+   * of simulations.
+   */
+  default AggregateResults calculate(
+      final GamePlayer attacker,
+      final GamePlayer defender,
+      final Territory location,
+      final Collection<Unit> attacking,
+      final Collection<Unit> defending,
+      final Collection<Unit> bombarding,
+      final Collection<TerritoryEffect> territoryEffects,
+      final boolean retreatWhenOnlyAirLeft,
+      final CalculationPrecision precision) {
+    return calculate(
+        attacker,
+        defender,
+        location,
+        attacking,
+        defending,
+        bombarding,
+        territoryEffects,
+        retreatWhenOnlyAirLeft,
+        precision.getMaxRunCount());
+  }
 }
@@ -66,6 +66,8 @@ public abstract class ClientSetting<T> implements GameSetting<T> {
       new StringClientSetting("DEFAULT_GAME_URI_PREF");
   public static final ClientSetting<URI> diceRollerUri =
       new UriClientSetting("DICE_ROLLER_URI", DiceServerEditor.PRODUCTION_URI);
+  public static final ClientSetting<Boolean> incrementalAutoSave =
+      new BooleanClientSetting("INCREMENTAL_AUTO_SAVE");
   public static final ClientSetting<Integer> fasterArrowKeyScrollMultiplier =
       new IntegerClientSetting("FASTER_ARROW_KEY_SCROLL_MULTIPLIER", 2);
   public static final ClientSetting<Boolean> spaceBarConfirmsCasualties =
@@ -159,6 +159,18 @@ enum ClientSettingSwingUiBinding implements GameSettingUiBinding<JComponent> {
     }
   },
 
+  INCREMENTAL_AUTO_SAVE_BINDING(
+      "Incremental Auto-Save",
+      SettingType.GAME,
+      "When hosting, keep a single auto-save that is updated with only what happened since the\n"
+          + "previous auto-save instead of saving the whole game before and after every step.\n"
+          + "The whole game is still saved at the start of every round.") {
+    @Override
+    public SelectionComponent<JComponent> newSelectionComponent() {
+      return booleanRadioButtons(ClientSetting.incrementalAutoSave);
+    }
+  },
+
   NOTIFY_ALL_UNITS_MOVED(
       "Notify When All Units Moved",
       SettingType.GAME,
@@ -6,7 +6,6 @@ import games.strategy.engine.data.Territory;
 import games.strategy.triplea.Constants;
 import games.strategy.triplea.ResourceLoader;
 import games.strategy.triplea.image.UnitImageFactory;
-import games.strategy.ui.Util;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Image;
@@ -105,6 +104,7 @@ public class MapData {
   private Set<String> ignoreTransformingUnits;
   private final Map<String, Tuple<List<Point>, Boolean>> place = new HashMap<>();
   private final Map<String, List<Polygon>> polys = new HashMap<>();
+  private final TerritoryPolygonIndex polygonIndex;
   private final Map<String, Point> centers = new HashMap<>();
   private final Map<String, Point> vcPlace = new HashMap<>();
   private final Map<String, Point> blockadePlace = new HashMap<>();
@@ -177,6 +177,7 @@ public class MapData {
       errorImage = loader.loadImage("misc/error.gif").orElse(null);
       warningImage = loader.loadImage("misc/warning.gif").orElse(null);
     }
+    polygonIndex = new TerritoryPolygonIndex(polys);
   }
 
   private static Map<String, Point> readPointsOneToOne(
@@ -635,22 +636,7 @@ public class MapData {
 
   /** Get the territory at the x,y co-ordinates could be null. */
   public String getTerritoryAt(final double x, final double y) {
-    String seaName = null;
-    // try to find a land territory.
-    // sea zones often surround a land territory
-    for (final String name : polys.keySet()) {
-      final Collection<Polygon> polygons = polys.get(name);
-      for (final Polygon poly : polygons) {
-        if (poly.contains(x, y)) {
-          if (Util.isTerritoryNameIndicatingWater(name)) {
-            seaName = name;
-          } else {
-            return name;
-          }
-        }
-      }
-    }
-    return seaName;
+    return polygonIndex.getTerritoryAt(x, y);
   }
 
   public Dimension getMapDimensions() {
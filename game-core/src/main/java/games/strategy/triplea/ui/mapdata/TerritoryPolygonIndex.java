@@ -0,0 +1,120 @@
+package games.strategy.triplea.ui.mapdata;
+
+import games.strategy.ui.Util;
+import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+
+/**
+ * Finds the territory at a point of the map. The polygons of all territories are put into the cells
+ * of a uniform grid their bounding boxes overlap, so only the few polygons of the cell containing a
+ * point have to be checked.
+ */
+public class TerritoryPolygonIndex {
+  private static final int CELL_SIZE = 128;
+  private static final Entry[] NO_ENTRIES = new Entry[0];
+
+  private final int originX;
+  private final int originY;
+  private final int columns;
+  private final int rows;
+  // the polygons overlapping each cell by column and row, land territories first
+  private final Entry[][] cells;
+
+  @AllArgsConstructor
+  private static final class Entry {
+    private final String territoryName;
+    private final Polygon polygon;
+    private final boolean water;
+  }
+
+  public TerritoryPolygonIndex(final Map<String, List<Polygon>> polygons) {
+    int minX = Integer.MAX_VALUE;
+    int minY = Integer.MAX_VALUE;
+    int maxX = Integer.MIN_VALUE;
+    int maxY = Integer.MIN_VALUE;
+    for (final List<Polygon> territoryPolygons : polygons.values()) {
+      for (final Polygon polygon : territoryPolygons) {
+        if (polygon.npoints > 0) {
+          final Rectangle polygonBounds = polygon.getBounds();
+          minX = Math.min(minX, polygonBounds.x);
+          minY = Math.min(minY, polygonBounds.y);
+          maxX = Math.max(maxX, polygonBounds.x + polygonBounds.width);
+          maxY = Math.max(maxY, polygonBounds.y + polygonBounds.height);
+        }
+      }
+    }
+    originX = (minX <= maxX) ? minX : 0;
+    originY = (minY <= maxY) ? minY : 0;
+    columns = (minX <= maxX) ? (maxX - minX) / CELL_SIZE + 1 : 0;
+    rows = (minY <= maxY) ? (maxY - minY) / CELL_SIZE + 1 : 0;
+
+    final List<List<Entry>> cellEntries = new ArrayList<>(columns * rows);
+    for (int i = 0; i < columns * rows; i++) {
+      cellEntries.add(new ArrayList<>());
+    }
+    polygons.forEach(
+        (name, territoryPolygons) -> {
+          final boolean water = Util.isTerritoryNameIndicatingWater(name);
+          for (final Polygon polygon : territoryPolygons) {
+            if (polygon.npoints == 0) {
+              continue;
+            }
+            final Entry entry = new Entry(name, polygon, water);
+            final Rectangle polygonBounds = polygon.getBounds();
+            final int lastColumn = getColumn(polygonBounds.getMaxX());
+            final int lastRow = getRow(polygonBounds.getMaxY());
+            for (int column = getColumn(polygonBounds.x); column <= lastColumn; column++) {
+              for (int row = getRow(polygonBounds.y); row <= lastRow; row++) {
+                cellEntries.get(column * rows + row).add(entry);
+              }
+            }
+          }
+        });
+
+    // the sort is stable, so polygons of the same kind stay in the order of the map
+    final Comparator<Entry> landFirst = Comparator.comparing(entry -> entry.water);
+    cells = new Entry[columns * rows][];
+    for (int i = 0; i < cells.length; i++) {
+      final List<Entry> entries = cellEntries.get(i);
+      entries.sort(landFirst);
+      cells[i] = entries.isEmpty() ? NO_ENTRIES : entries.toArray(NO_ENTRIES);
+    }
+  }
+
+  private int getColumn(final double x) {
+    return (int) Math.floor((x - originX) / CELL_SIZE);
+  }
+
+  private int getRow(final double y) {
+    return (int) Math.floor((y - originY) / CELL_SIZE);
+  }
+
+  /**
+   * Returns the name of the territory at the given point, or null if there is none. Land
+   * territories are preferred, as sea zones often surround them.
+   */
+  @Nullable
+  public String getTerritoryAt(final double x, final double y) {
+    final int column = getColumn(x);
+    final int row = getRow(y);
+    if (column < 0 || column >= columns || row < 0 || row >= rows) {
+      return null;
+    }
+    String seaName = null;
+    for (final Entry entry : cells[column * rows + row]) {
+      if (entry.polygon.contains(x, y)) {
+        if (!entry.water) {
+          return entry.territoryName;
+        }
+        seaName = entry.territoryName;
+      }
+    }
+    return seaName;
+  }
+}
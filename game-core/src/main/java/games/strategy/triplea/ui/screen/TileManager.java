@@ -53,7 +53,8 @@ import org.triplea.util.Tuple;
 
 /** Orchestrates the rendering of all map tiles. */
 public class TileManager {
-  private List<Tile> tiles = new ArrayList<>();
+  // the tiles by their column and row, so tiles in bounds can be looked up directly
+  private Tile[][] tiles = new Tile[0][0];
   private final Object mutex = new Object();
   private final Map<String, IDrawable> territoryOverlays = new HashMap<>();
   private final Map<String, Set<IDrawable>> territoryDrawables = new HashMap<>();
@@ -120,32 +121,35 @@ public class TileManager {
     }
     synchronized (mutex) {
       final List<Tile> tilesInBounds = new ArrayList<>();
-      for (final Tile tile : tiles) {
-        final Rectangle tileBounds = tile.getBounds();
-        if (bounds.contains(tileBounds) || tileBounds.intersects(bounds)) {
-          tilesInBounds.add(tile);
-        }
-      }
+      addTilesIntersecting(bounds, tilesInBounds);
       if (boundsXshift != null) {
-        for (final Tile tile : tiles) {
-          final Rectangle tileBounds = tile.getBounds();
-          if (boundsXshift.contains(tileBounds) || tileBounds.intersects(boundsXshift)) {
-            tilesInBounds.add(tile);
-          }
-        }
+        addTilesIntersecting(boundsXshift, tilesInBounds);
       }
       if (boundsYshift != null) {
-        for (final Tile tile : tiles) {
-          final Rectangle tileBounds = tile.getBounds();
-          if (boundsYshift.contains(tileBounds) || tileBounds.intersects(boundsYshift)) {
-            tilesInBounds.add(tile);
-          }
-        }
+        addTilesIntersecting(boundsYshift, tilesInBounds);
       }
       return tilesInBounds;
     }
   }
 
+  private void addTilesIntersecting(final Rectangle2D bounds, final List<Tile> tilesInBounds) {
+    if (bounds.isEmpty() || tiles.length == 0) {
+      return;
+    }
+    // a tile intersects the bounds if it starts before their end and ends after their start
+    final int firstColumn = Math.max(0, (int) Math.floor(bounds.getMinX() / TILE_SIZE));
+    final int lastColumn =
+        Math.min(tiles.length - 1, (int) Math.ceil(bounds.getMaxX() / TILE_SIZE) - 1);
+    final int firstRow = Math.max(0, (int) Math.floor(bounds.getMinY() / TILE_SIZE));
+    final int lastRow =
+        Math.min(tiles[0].length - 1, (int) Math.ceil(bounds.getMaxY() / TILE_SIZE) - 1);
+    for (int x = firstColumn; x <= lastColumn; x++) {
+      for (int y = firstRow; y <= lastRow; y++) {
+        tilesInBounds.add(tiles[x][y]);
+      }
+    }
+  }
+
   Collection<UnitsDrawer> getUnitDrawables() {
     synchronized (mutex) {
       return new ArrayList<>(allUnitDrawables);
@@ -156,10 +160,13 @@ public class TileManager {
   public void createTiles(final Rectangle bounds) {
     synchronized (mutex) {
       // create our tiles
-      tiles = new ArrayList<>();
-      for (int x = 0; x * TILE_SIZE < bounds.width; x++) {
-        for (int y = 0; y * TILE_SIZE < bounds.height; y++) {
-          tiles.add(new Tile(new Rectangle(x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE, TILE_SIZE)));
+      final int columns = Math.max(0, (bounds.width + TILE_SIZE - 1) / TILE_SIZE);
+      final int rows = Math.max(0, (bounds.height + TILE_SIZE - 1) / TILE_SIZE);
+      tiles = new Tile[columns][rows];
+      for (int x = 0; x < columns; x++) {
+        for (int y = 0; y < rows; y++) {
+          tiles[x][y] =
+              new Tile(new Rectangle(x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE, TILE_SIZE));
         }
       }
     }
@@ -170,12 +177,13 @@ public class TileManager {
     data.acquireReadLock();
     try {
       synchronized (mutex) {
-        for (final Tile tile : tiles) {
-          tile.clear();
-          final int x = tile.getBounds().x / TILE_SIZE;
-          final int y = tile.getBounds().y / TILE_SIZE;
-          tile.addDrawable(new BaseMapDrawable(x, y, uiContext));
-          tile.addDrawable(new ReliefMapDrawable(x, y, uiContext));
+        for (int x = 0; x < tiles.length; x++) {
+          for (int y = 0; y < tiles[x].length; y++) {
+            final Tile tile = tiles[x][y];
+            tile.clear();
+            tile.addDrawable(new BaseMapDrawable(x, y, uiContext));
+            tile.addDrawable(new ReliefMapDrawable(x, y, uiContext));
+          }
         }
         for (final Territory territory : data.getMap().getTerritories()) {
           clearTerritory(territory);
@@ -0,0 +1,40 @@
+package games.strategy.triplea.util;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.UnitType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.triplea.java.collections.IntegerMap;
+
+/**
+ * The unit costs of a game data computed by {@link TuvUtils#getCostsForTuv}, per player. The costs
+ * are kept until a change that may modify them is performed on the game data, see {@link
+ * Change#affectsUnitCosts()}.
+ *
+ * <p>Cached costs are never modified, callers get a copy of them. Instances are safe to use from
+ * multiple threads.
+ */
+public final class TuvCostsCache {
+  private volatile Map<GamePlayer, IntegerMap<UnitType>> costs = new ConcurrentHashMap<>();
+
+  IntegerMap<UnitType> getCosts(
+      final GamePlayer player, final Function<GamePlayer, IntegerMap<UnitType>> computeCosts) {
+    // costs computed while a change is performed are put into the map the change discards
+    final Map<GamePlayer, IntegerMap<UnitType>> currentCosts = costs;
+    IntegerMap<UnitType> playerCosts = currentCosts.get(player);
+    if (playerCosts == null) {
+      playerCosts = computeCosts.apply(player);
+      currentCosts.putIfAbsent(player, playerCosts);
+    }
+    return new IntegerMap<>(playerCosts);
+  }
+
+  /** Discards the cached costs if the given change that was performed may have modified them. */
+  public void changePerformed(final Change change) {
+    if (change.affectsUnitCosts()) {
+      costs = new ConcurrentHashMap<>();
+    }
+  }
+}
@@ -36,11 +36,19 @@ public class TuvUtils {
    * per unit basis (so NWO artillery will become 4). Therefore, this map should NOT be used for
    * Purchasing information!
    *
+   * <p>The costs are cached per game data, see {@link TuvCostsCache}.
+   *
    * @param player The player to get costs schedule for
    * @param data The game data.
    * @return a map of unit types to PU cost
    */
   public static IntegerMap<UnitType> getCostsForTuv(final GamePlayer player, final GameData data) {
+    return data.getTuvCostsCache()
+        .getCosts(player, costsPlayer -> computeCostsForTuv(costsPlayer, data));
+  }
+
+  private static IntegerMap<UnitType> computeCostsForTuv(
+      final GamePlayer player, final GameData data) {
     data.acquireReadLock();
     final Resource pus;
     try {
@@ -3,6 +3,7 @@ package org.triplea.game.server;
 import games.strategy.engine.ClientFileSystemHelper;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameParser;
+import games.strategy.engine.framework.ui.MapCatalog;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -29,7 +30,8 @@ import org.triplea.java.UrlStreams;
 
 /**
  * A list of all available games. We make sure we can parse them all, but we don't keep them in
- * memory.
+ * memory. Games that were parsed successfully before and did not change since are taken from the
+ * {@link MapCatalog} instead of being parsed again.
  */
 @Log
 @Immutable
@@ -53,6 +55,7 @@ final class AvailableGames {
 
   private static GameRepository newGameRepository() {
     final GameRepository gameRepository = new GameRepository();
+    final MapCatalog mapCatalog = MapCatalog.load();
     FileUtils.listFiles(ClientFileSystemHelper.getUserMapsFolder())
         .parallelStream()
         .forEach(
@@ -61,25 +64,29 @@ final class AvailableGames {
                 populateFromDirectory(
                     map,
                     gameRepository.availableGames,
-                    gameRepository.availableMapFolderOrZipNames);
+                    gameRepository.availableMapFolderOrZipNames,
+                    mapCatalog);
               } else if (map.isFile() && map.getName().toLowerCase().endsWith(ZIP_EXTENSION)) {
                 populateFromZip(
                     map,
                     gameRepository.availableGames,
-                    gameRepository.availableMapFolderOrZipNames);
+                    gameRepository.availableMapFolderOrZipNames,
+                    mapCatalog);
               }
             });
+    mapCatalog.save();
     return gameRepository;
   }
 
   private static void populateFromDirectory(
       final File mapDir,
       final Map<String, URI> availableGames,
-      final Set<String> availableMapFolderOrZipNames) {
+      final Set<String> availableMapFolderOrZipNames,
+      final MapCatalog mapCatalog) {
     final File games = new File(mapDir, "games");
     for (final File game : FileUtils.listFiles(games)) {
       if (game.isFile() && game.getName().toLowerCase().endsWith("xml")) {
-        final boolean added = addToAvailableGames(game.toURI(), availableGames);
+        final boolean added = addToAvailableGames(game.toURI(), availableGames, mapCatalog);
         if (added) {
           availableMapFolderOrZipNames.add(mapDir.getName());
         }
@@ -90,7 +97,8 @@ final class AvailableGames {
   private static void populateFromZip(
       final File map,
       final Map<String, URI> availableGames,
-      final Set<String> availableMapFolderOrZipNames) {
+      final Set<String> availableMapFolderOrZipNames,
+      final MapCatalog mapCatalog) {
     try (InputStream fis = new FileInputStream(map);
         ZipInputStream zis = new ZipInputStream(fis);
         URLClassLoader loader = new URLClassLoader(new URL[] {map.toURI().toURL()})) {
@@ -100,7 +108,8 @@ final class AvailableGames {
           final URL url = loader.getResource(entry.getName());
           if (url != null) {
             final boolean added =
-                addToAvailableGames(URI.create(url.toString().replace(" ", "%20")), availableGames);
+                addToAvailableGames(
+                    URI.create(url.toString().replace(" ", "%20")), availableGames, mapCatalog);
             if (added && map.getName().length() > 4) {
               availableMapFolderOrZipNames.add(
                   map.getName().substring(0, map.getName().length() - ZIP_EXTENSION.length()));
@@ -117,21 +126,39 @@ final class AvailableGames {
   }
 
   private static boolean addToAvailableGames(
-      @Nonnull final URI uri, @Nonnull final Map<String, URI> availableGames) {
-    final Optional<InputStream> inputStream = UrlStreams.openStream(uri);
-    if (inputStream.isPresent()) {
-      try (InputStream input = inputStream.get()) {
-        final GameData data = GameParser.parse(uri.toString(), input);
-        final String name = data.getGameName();
-        if (!availableGames.containsKey(name)) {
-          availableGames.put(name, uri);
-          return true;
+      @Nonnull final URI uri,
+      @Nonnull final Map<String, URI> availableGames,
+      @Nonnull final MapCatalog mapCatalog) {
+    final Optional<String> name =
+        mapCatalog
+            .getGameData(uri, true)
+            .map(GameData::getGameName)
+            .or(() -> parseGameName(uri, mapCatalog));
+    if (name.isPresent() && !availableGames.containsKey(name.get())) {
+      availableGames.put(name.get(), uri);
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Parses the game at the given URI completely to make sure it can be played and returns its
+   * name. Games that can be parsed are added to the catalog, which only keeps their shallow game
+   * data.
+   */
+  private static Optional<String> parseGameName(final URI uri, final MapCatalog mapCatalog) {
+    final Optional<String> name = parse(uri).map(GameData::getGameName);
+    if (name.isPresent()) {
+      final Optional<InputStream> inputStream = UrlStreams.openStream(uri);
+      if (inputStream.isPresent()) {
+        try (InputStream input = inputStream.get()) {
+          mapCatalog.putGameData(uri, GameParser.parseShallow(uri.toString(), input), true);
+        } catch (final Exception e) {
+          log.log(Level.WARNING, "Failed to catalog: " + uri.toString(), e);
         }
-      } catch (final Exception e) {
-        log.log(Level.SEVERE, "Exception while parsing: " + uri.toString(), e);
       }
     }
-    return false;
+    return name;
   }
 
   Set<String> getGameNames() {
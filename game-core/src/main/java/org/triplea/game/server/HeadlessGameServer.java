@@ -5,6 +5,7 @@ import static games.strategy.engine.framework.CliProperties.LOBBY_GAME_SUPPORT_P
 import static games.strategy.engine.framework.CliProperties.LOBBY_URI;
 import static games.strategy.engine.framework.CliProperties.MAP_FOLDER;
 import static games.strategy.engine.framework.CliProperties.TRIPLEA_GAME;
+import static games.strategy.engine.framework.CliProperties.TRIPLEA_HEADLESS_GAMES;
 import static games.strategy.engine.framework.CliProperties.TRIPLEA_NAME;
 import static games.strategy.engine.framework.CliProperties.TRIPLEA_PORT;
 import static games.strategy.engine.framework.CliProperties.TRIPLEA_SERVER;
@@ -15,40 +16,61 @@ import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.properties.GameProperties;
 import games.strategy.engine.framework.ArgParser;
 import games.strategy.engine.framework.GameRunner;
+import games.strategy.engine.framework.HeadlessAutoSaveFileUtils;
 import games.strategy.engine.framework.ServerGame;
 import games.strategy.engine.framework.startup.mc.ServerModel;
 import games.strategy.engine.framework.startup.ui.panels.main.game.selector.GameSelectorModel;
 import games.strategy.triplea.Constants;
+import games.strategy.triplea.ai.pro.ProAi;
 import games.strategy.triplea.settings.ClientSetting;
 import java.io.File;
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
+import lombok.Getter;
 import lombok.extern.java.Log;
 import org.triplea.game.startup.SetupModel;
 import org.triplea.java.Interruptibles;
 import org.triplea.util.ExitStatus;
 
-/** A way of hosting a game, but headless. */
+/**
+ * A way of hosting a game, but headless. A process may run several headless game servers, each
+ * hosting its own game on its own port. They share the listing of available games, which is
+ * expensive to create.
+ */
 @Log
 public class HeadlessGameServer {
   public static final String BOT_GAME_HOST_COMMENT = "automated_host";
   public static final String BOT_GAME_HOST_NAME_PREFIX = "Bot";
-  private static HeadlessGameServer instance = null;
-
-  private final AvailableGames availableGames = new AvailableGames();
+  // the interval in which the status of the games is logged when hosting more than one game
+  private static final long STATUS_LOG_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+  private static final Set<HeadlessGameServer> instances = new CopyOnWriteArraySet<>();
+  // the server whose game the current thread works for, passed on to the threads it starts
+  private static final InheritableThreadLocal<HeadlessGameServer> currentThreadServer =
+      new InheritableThreadLocal<>();
+
+  @Getter private final String name;
+  @Getter private final int port;
+  @Getter private final HeadlessAutoSaveFileUtils autoSaveFileUtils;
+  private final AvailableGames availableGames;
   private final GameSelectorModel gameSelectorModel = new GameSelectorModel();
-  private final HeadlessServerSetupPanelModel setupPanelModel =
-      new HeadlessServerSetupPanelModel(gameSelectorModel);
-  private ServerGame game = null;
-  private boolean shutDown = false;
-
-  private HeadlessGameServer() {
-    if (instance != null) {
-      throw new IllegalStateException("Instance already exists");
-    }
-    instance = this;
+  private final HeadlessServerSetupPanelModel setupPanelModel;
+  private volatile ServerGame game = null;
+  private volatile boolean shutDown = false;
+
+  private HeadlessGameServer(
+      final String name, final int port, final AvailableGames availableGames) {
+    this.name = name;
+    this.port = port;
+    this.availableGames = availableGames;
+    autoSaveFileUtils = new HeadlessAutoSaveFileUtils(name);
+    setupPanelModel = new HeadlessServerSetupPanelModel(gameSelectorModel, this);
+    instances.add(this);
 
     Runtime.getRuntime()
         .addShutdownHook(
@@ -63,23 +85,33 @@ public class HeadlessGameServer {
 
     new Thread(
             () -> {
-              log.info("Headless Start");
+              currentThreadServer.set(this);
+              log.info("Headless Start: " + name);
               setupPanelModel.showSelectType();
               log.info("Waiting for users to connect.");
               waitForUsersHeadless();
             },
-            "Initialize Headless Server Setup Model")
+            "Initialize Headless Server Setup Model " + name)
         .start();
 
-    log.info("Game Server initialized");
+    log.info("Game Server initialized: " + name + " on port " + port);
   }
 
-  public static synchronized HeadlessGameServer getInstance() {
-    return instance;
+  /**
+   * Returns the headless game servers the current thread works for. That is the server whose
+   * threads started the current thread, or all servers of this process if the current thread
+   * cannot be told apart, such as threads of shared pools.
+   */
+  public static Collection<HeadlessGameServer> getServersOfCurrentThread() {
+    final HeadlessGameServer server = currentThreadServer.get();
+    // pool threads inherit the server of whichever thread happened to start them
+    return (server == null || Thread.currentThread() instanceof ForkJoinWorkerThread)
+        ? instances
+        : Set.of(server);
   }
 
-  public static synchronized boolean headless() {
-    return instance != null
+  public static boolean headless() {
+    return !instances.isEmpty()
         || Boolean.parseBoolean(System.getProperty(GameRunner.TRIPLEA_HEADLESS, "false"));
   }
 
@@ -167,23 +199,23 @@ public class HeadlessGameServer {
     }
   }
 
-  /** Updates current 'HeadlessGameServer.game' instance to be set to the given parameter. */
-  public static synchronized void setServerGame(final ServerGame serverGame) {
-    if (instance != null) {
-      instance.game = serverGame;
-      if (serverGame != null) {
-        log.info(
-            "Game starting up: "
-                + instance.game.isGameSequenceRunning()
-                + ", GameOver: "
-                + instance.game.isGameOver()
-                + ", Players: "
-                + instance.game.getPlayerManager().toString());
-      }
+  /** Updates the game hosted by this server to be set to the given parameter. */
+  synchronized void setServerGame(final ServerGame serverGame) {
+    game = serverGame;
+    if (serverGame != null) {
+      log.info(
+          name
+              + " game starting up: "
+              + serverGame.isGameSequenceRunning()
+              + ", GameOver: "
+              + serverGame.isGameOver()
+              + ", Players: "
+              + serverGame.getPlayerManager().toString());
     }
   }
 
-  private void waitForUsersHeadless() {
+  void waitForUsersHeadless() {
+    log.info(name + " waiting for users to connect.");
     setServerGame(null);
 
     new Thread(
@@ -248,11 +280,6 @@ public class HeadlessGameServer {
     return false;
   }
 
-  public static void waitForUsersHeadlessInstance() {
-    log.info("Waiting for users to connect.");
-    instance.waitForUsersHeadless();
-  }
-
   private static ServerModel getServerModel(final HeadlessServerSetupPanelModel setupPanelModel) {
     return Optional.ofNullable(setupPanelModel)
         .map(HeadlessServerSetupPanelModel::getPanel)
@@ -282,12 +309,50 @@ public class HeadlessGameServer {
     ArgParser.handleCommandLineArgs(args);
     handleHeadlessGameServerArgs();
     try {
-      new HeadlessGameServer();
+      final String name = System.getProperty(TRIPLEA_NAME);
+      final int port = Integer.parseInt(System.getProperty(TRIPLEA_PORT));
+      final int gameCount = Integer.parseInt(System.getProperty(TRIPLEA_HEADLESS_GAMES, "1"));
+      final AvailableGames availableGames = new AvailableGames();
+      if (gameCount == 1) {
+        new HeadlessGameServer(name, port, availableGames);
+        return;
+      }
+      for (int i = 0; i < gameCount; i++) {
+        new HeadlessGameServer(name + "_" + (i + 1), port + i, availableGames);
+      }
+      startStatusLogging();
     } catch (final Exception e) {
       log.log(Level.SEVERE, "Failed to start game server", e);
     }
   }
 
+  private static void startStatusLogging() {
+    final Thread thread =
+        new Thread(
+            () -> {
+              while (Interruptibles.sleep(STATUS_LOG_INTERVAL_MILLIS)) {
+                for (final HeadlessGameServer server : instances) {
+                  final ServerGame serverGame = server.game;
+                  log.info(
+                      server.name
+                          + ": "
+                          + (serverGame == null
+                              ? "waiting"
+                              : serverGame.getData().getGameName()
+                                  + ", round "
+                                  + serverGame.getData().getSequence().getRound()
+                                  + ", estimated AI memory usage: "
+                                  + ProAi.estimateCalculatorMemoryUsage(serverGame.getData())
+                                      / 1024
+                                  + " KiB"));
+                }
+              }
+            },
+            "Headless Game Host Status");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
   private static void usage() {
     // TODO replace this method with the generated usage of commons-cli
     log.info(
@@ -309,7 +374,12 @@ public class HeadlessGameServer {
             + "=<password for remote actions, such as remote stop game>\n"
             + "   "
             + MAP_FOLDER
-            + "=<MAP_FOLDER>"
+            + "=<MAP_FOLDER>\n"
+            + "   "
+            + TRIPLEA_HEADLESS_GAMES
+            + "=<number of games to host on consecutive ports starting at "
+            + TRIPLEA_PORT
+            + ", default 1>"
             + "\n");
   }
 
@@ -331,11 +401,16 @@ public class HeadlessGameServer {
       printUsage = true;
     }
 
-    if (isInvalidPortNumber(System.getProperty(TRIPLEA_PORT, "0"))) {
+    if (isNotPositiveNumber(System.getProperty(TRIPLEA_PORT, "0"))) {
       log.warning("Invalid or missing argument: " + TRIPLEA_PORT + " must be greater than zero");
       printUsage = true;
     }
 
+    if (isNotPositiveNumber(System.getProperty(TRIPLEA_HEADLESS_GAMES, "1"))) {
+      log.warning("Invalid argument: " + TRIPLEA_HEADLESS_GAMES + " must be greater than zero");
+      printUsage = true;
+    }
+
     if (System.getProperty(LOBBY_URI, "").isEmpty()) {
       log.warning("Invalid or missing argument: " + LOBBY_URI + " must be set");
       printUsage = true;
@@ -347,7 +422,7 @@ public class HeadlessGameServer {
     }
   }
 
-  private static boolean isInvalidPortNumber(final String testValue) {
+  private static boolean isNotPositiveNumber(final String testValue) {
     try {
       return Integer.parseInt(testValue) <= 0;
     } catch (final NumberFormatException e) {
@@ -16,12 +16,17 @@ import games.strategy.triplea.ui.display.HeadlessDisplay;
 import java.io.File;
 import java.util.Set;
 import java.util.logging.Level;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.java.Log;
 import org.triplea.sound.HeadlessSoundChannel;
 import org.triplea.sound.ISound;
 
 @Log
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 public class HeadlessLaunchAction implements LaunchAction {
+  private final HeadlessGameServer headlessGameServer;
+
   @Override
   public void handleGameInterruption(
       final GameSelectorModel gameSelectorModel, final ServerModel serverModel) {
@@ -43,7 +48,7 @@ public class HeadlessLaunchAction implements LaunchAction {
   @Override
   public void onGameInterrupt() {
     // tell headless server to wait for new connections:
-    HeadlessGameServer.waitForUsersHeadlessInstance();
+    headlessGameServer.waitForUsersHeadless();
   }
 
   @Override
@@ -75,11 +80,11 @@ public class HeadlessLaunchAction implements LaunchAction {
 
   @Override
   public void onLaunch(final ServerGame serverGame) {
-    HeadlessGameServer.setServerGame(serverGame);
+    headlessGameServer.setServerGame(serverGame);
   }
 
   @Override
   public HeadlessAutoSaveFileUtils getAutoSaveFileUtils() {
-    return new HeadlessAutoSaveFileUtils();
+    return headlessGameServer.getAutoSaveFileUtils();
   }
 }
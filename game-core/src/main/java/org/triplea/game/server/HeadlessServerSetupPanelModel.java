@@ -21,11 +21,18 @@ import org.triplea.http.client.lobby.game.hosting.request.GameHostingResponse;
 public class HeadlessServerSetupPanelModel implements ServerSetupModel {
 
   private final GameSelectorModel gameSelectorModel;
+  private final HeadlessGameServer headlessGameServer;
   private HeadlessServerSetup headlessServerSetup;
 
   @Override
   public void showSelectType() {
-    new ServerModel(gameSelectorModel, this, null, new HeadlessLaunchAction(), log::severe);
+    new ServerModel(
+        gameSelectorModel,
+        this,
+        null,
+        new HeadlessLaunchAction(headlessGameServer),
+        log::severe,
+        headlessGameServer);
   }
 
   @Override
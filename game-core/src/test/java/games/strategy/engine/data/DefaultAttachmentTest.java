@@ -189,6 +189,59 @@ final class DefaultAttachmentTest {
     }
   }
 
+  @Nested
+  final class GetPropertyTest {
+    private final GameData gameData = new GameData();
+
+    private class CountingAttachment extends DefaultAttachment {
+      private static final long serialVersionUID = 1L;
+
+      private int propertyMapBuilds = 0;
+      private String value = "value";
+
+      CountingAttachment() {
+        super("attachment", null, gameData);
+      }
+
+      @Override
+      public void validate(final GameData data) {}
+
+      @Override
+      public Map<String, MutableProperty<?>> getPropertyMap() {
+        propertyMapBuilds++;
+        return Map.of(
+            "value", MutableProperty.ofString(v -> value = v, () -> value, () -> value = null));
+      }
+    }
+
+    @Test
+    void shouldBuildPropertyMapOnlyOnce() {
+      final CountingAttachment attachment = new CountingAttachment();
+
+      attachment.getPropertyOrThrow("value");
+      attachment.getPropertyOrThrow("value");
+      attachment.getProperty("unknown");
+
+      assertThat(attachment.propertyMapBuilds, is(1));
+    }
+
+    @Test
+    void shouldReturnPropertyBoundToAttachment() throws Exception {
+      final CountingAttachment attachment = new CountingAttachment();
+
+      attachment.getPropertyOrThrow("value").setValue("newValue");
+
+      assertThat(attachment.getPropertyOrThrow("value").getValue(), is("newValue"));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenPropertyIsUnknown() {
+      final CountingAttachment attachment = new CountingAttachment();
+
+      assertThrows(IllegalArgumentException.class, () -> attachment.getPropertyOrThrow("unknown"));
+    }
+  }
+
   @Nested
   final class SplitOnColonTest {
     @Test
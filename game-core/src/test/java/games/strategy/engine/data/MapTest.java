@@ -211,4 +211,24 @@ class MapTest {
     assertTrue(neighbors.contains(bb));
     assertTrue(neighbors.contains(ca));
   }
+
+  @Test
+  void testDistanceAfterNewConnection() {
+    assertEquals(-1, map.getLandDistance(ca, cd));
+    map.addConnection(cb, cd);
+    assertEquals(2, map.getLandDistance(ca, cd));
+  }
+
+  @Test
+  void testDistanceMatchesConditionalDistance() {
+    for (final Territory from : map.getTerritories()) {
+      for (final Territory to : map.getTerritories()) {
+        assertEquals(map.getDistance(from, to, Matches.always()), map.getDistance(from, to));
+        assertEquals(
+            map.getDistance(from, to, Matches.territoryIsLand()), map.getLandDistance(from, to));
+        assertEquals(
+            map.getDistance(from, to, Matches.territoryIsWater()), map.getWaterDistance(from, to));
+      }
+    }
+  }
 }
@@ -0,0 +1,122 @@
+package games.strategy.engine.data;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.xml.sax.SAXParseException;
+
+final class XmlReaderTest {
+  private static final String GAME_XML =
+      String.join(
+          "\n",
+          "<?xml version=\"1.0\"?>",
+          "<!DOCTYPE game SYSTEM \"game.dtd\">",
+          "<game>",
+          "  <info name=\"test\" version=\"1.0\"/>",
+          "  <map>",
+          "    <territory name=\"land\"/>",
+          "  </map>",
+          "  <playerList>",
+          "    <player name=\"player\"/>",
+          "  </playerList>",
+          "  <gamePlay>",
+          "    <delegate name=\"delegate\" javaClass=\"Delegate\"/>",
+          "    <sequence>",
+          "      <step name=\"step\" delegate=\"delegate\"/>",
+          "    </sequence>",
+          "  </gamePlay>",
+          "  <propertyList>",
+          "    <property name=\"notes\">",
+          "      <value>some &amp; notes</value>",
+          "    </property>",
+          "  </propertyList>",
+          "</game>");
+
+  private final List<SAXParseException> errors = new ArrayList<>();
+
+  private XmlElement parse(final String xml, final Predicate<String> rootChildFilter)
+      throws GameParseException {
+    return XmlReader.parse(
+        "test",
+        new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)),
+        errors,
+        rootChildFilter);
+  }
+
+  private static List<String> getChildNames(final XmlElement element) {
+    return element.getChildren().stream().map(XmlElement::getNodeName).collect(Collectors.toList());
+  }
+
+  @Test
+  void shouldReadAllElementsOfValidDocument() throws Exception {
+    final XmlElement root = parse(GAME_XML, name -> true);
+
+    assertThat(root.getNodeName(), is("game"));
+    assertThat(
+        getChildNames(root), contains("info", "map", "playerList", "gamePlay", "propertyList"));
+    assertThat(root.getChildren().get(0).getAttribute("name"), is("test"));
+    assertThat(root.getChildren().get(0).hasAttribute("missing"), is(false));
+    assertThat(errors, is(empty()));
+  }
+
+  @Test
+  void shouldLeaveOutChildrenOfRootNotAcceptedByFilter() throws Exception {
+    final XmlElement root =
+        parse(GAME_XML, name -> name.equals("info") || name.equals("propertyList"));
+
+    assertThat(getChildNames(root), contains("info", "propertyList"));
+    assertThat(getChildNames(root.getChildren().get(1)), contains("property"));
+    assertThat(errors, is(empty()));
+  }
+
+  @Test
+  void shouldOnlyKeepTextOfElementsWithoutChildren() throws Exception {
+    final XmlElement property =
+        parse(GAME_XML, name -> true).getChildren().get(4).getChildren().get(0);
+
+    assertThat(property.getTextContent(), is(""));
+    assertThat(property.getChildren().get(0).getTextContent(), is("some & notes"));
+    assertThat(property.getChildren().get(0).getChildren(), is(empty()));
+  }
+
+  @Test
+  void shouldReportDocumentNotMatchingDtd() throws Exception {
+    final XmlElement root = parse(GAME_XML.replace("<info ", "<unknown/><info "), name -> true);
+
+    assertThat(getChildNames(root).get(0), is("unknown"));
+    assertThat(errors, hasSize(2));
+  }
+
+  @Test
+  void shouldReportMalformedDocumentAndFail() {
+    assertThrows(
+        GameParseException.class, () -> parse(GAME_XML.replace("</game>", ""), name -> true));
+
+    assertThat(errors, hasSize(1));
+  }
+
+  @Test
+  void shouldCollectErrorsOfAllSeverities() {
+    final XmlReader.ElementHandler handler = new XmlReader.ElementHandler(errors, name -> true);
+    final SAXParseException warning = new SAXParseException("warning", null);
+    final SAXParseException error = new SAXParseException("error", null);
+    final SAXParseException fatalError = new SAXParseException("fatal error", null);
+
+    handler.warning(warning);
+    handler.error(error);
+    handler.fatalError(fatalError);
+
+    assertThat(errors, contains(warning, error, fatalError));
+  }
+}
@@ -0,0 +1,107 @@
+package games.strategy.engine.data.changefactory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.core.Is.is;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Resource;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class ChangeCompactorTest {
+  private final GameData gameData = TestMapGameData.TEST.getGameData();
+  private final Territory canada = gameData.getMap().getTerritory("canada");
+  private final Territory greenland = gameData.getMap().getTerritory("greenland");
+  private final Territory us = gameData.getMap().getTerritory("us");
+  private final GamePlayer chretian = gameData.getPlayerList().getPlayerId("chretian");
+  private final GamePlayer bush = gameData.getPlayerList().getPlayerId("bush");
+  private final Resource gold = gameData.getResourceList().getResource("gold");
+
+  private Unit getCanadianUnit(final int index) {
+    return new ArrayList<>(canada.getUnitCollection().getUnits()).get(index);
+  }
+
+  @Test
+  void shouldMergeChangesOfSameGameState() {
+    final Unit unit = getCanadianUnit(0);
+    final List<Change> changes = new ArrayList<>();
+    changes.add(ChangeFactory.moveUnits(canada, greenland, List.of(unit)));
+    changes.add(ChangeFactory.unitPropertyChange(unit, true, Unit.SUBMERGED));
+    changes.add(ChangeFactory.changeOwner(canada, bush));
+    changes.add(ChangeFactory.changeResourcesChange(chretian, gold, 50));
+    changes.add(ChangeFactory.moveUnits(greenland, us, List.of(unit)));
+    changes.add(ChangeFactory.unitPropertyChange(unit, false, Unit.SUBMERGED));
+    changes.add(ChangeFactory.changeOwner(canada, chretian));
+    changes.add(ChangeFactory.changeResourcesChange(chretian, gold, -20));
+
+    final CompositeChange compacted = ChangeCompactor.compact(changes);
+
+    assertThat(compacted.getChanges().size(), is(3));
+    gameData.performChange(compacted);
+    assertThat(canada.getUnitCollection().getUnitCount(), is(4));
+    assertThat(greenland.getUnitCollection().getUnits(), is(empty()));
+    assertThat(us.getUnitCollection().getUnits().contains(unit), is(true));
+    assertThat(canada.getOwner(), is(chretian));
+    assertThat(chretian.getResources().getQuantity(gold), is(130));
+  }
+
+  @Test
+  void shouldKeepUnitsInOrderTheyWereLastAdded() {
+    final Unit first = getCanadianUnit(0);
+    final Unit second = getCanadianUnit(1);
+    final List<Change> changes = new ArrayList<>();
+    changes.add(ChangeFactory.moveUnits(canada, greenland, List.of(first, second)));
+    changes.add(ChangeFactory.moveUnits(greenland, canada, List.of(first)));
+    changes.add(ChangeFactory.moveUnits(greenland, canada, List.of(second)));
+
+    final CompositeChange compacted = ChangeCompactor.compact(changes);
+
+    gameData.performChange(compacted);
+    final List<Unit> units = new ArrayList<>(canada.getUnitCollection().getUnits());
+    assertThat(units.subList(3, 5), contains(first, second));
+    assertThat(greenland.getUnitCollection().getUnits(), is(empty()));
+  }
+
+  @Test
+  void shouldNotMergeChangesAcrossOtherChanges() {
+    final Change barrier = ChangeFactory.changePlayerWhoAmIChange(chretian, "Human:chretian");
+    final List<Change> changes =
+        List.of(
+            ChangeFactory.changeResourcesChange(chretian, gold, 50),
+            barrier,
+            ChangeFactory.changeResourcesChange(chretian, gold, -50));
+
+    final CompositeChange compacted = ChangeCompactor.compact(changes);
+
+    assertThat(compacted.getChanges().size(), is(3));
+    assertThat(compacted.getChanges().get(1), is(barrier));
+  }
+
+  @Test
+  void invertedCompactedChangeShouldRestoreGameState() {
+    final Unit unit = getCanadianUnit(0);
+    final CompositeChange compacted =
+        ChangeCompactor.compact(
+            List.of(
+                ChangeFactory.moveUnits(canada, greenland, List.of(unit)),
+                ChangeFactory.changeOwner(greenland, bush),
+                ChangeFactory.changeResourcesChange(chretian, gold, 7)));
+
+    gameData.performChange(compacted);
+    gameData.performChange(compacted.invert());
+
+    assertThat(canada.getUnitCollection().getUnitCount(), is(5));
+    assertThat(greenland.getUnitCollection().getUnits(), is(empty()));
+    assertThat(greenland.getOwner(), is(chretian));
+    assertThat(chretian.getResources().getQuantity(gold), is(100));
+  }
+}
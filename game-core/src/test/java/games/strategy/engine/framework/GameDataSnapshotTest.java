@@ -0,0 +1,38 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import games.strategy.engine.data.GameData;
+import org.junit.jupiter.api.Test;
+
+final class GameDataSnapshotTest {
+  @Test
+  void forkShouldPreserveGameName() throws Exception {
+    final GameData data = new GameData();
+    data.setGameName("snapshot");
+
+    final GameData copy = GameDataSnapshot.capture(data, false).fork();
+
+    assertThat(copy.getGameName(), is(data.getGameName()));
+  }
+
+  @Test
+  void forkShouldCreateIndependentCopies() throws Exception {
+    final GameDataSnapshot snapshot = GameDataSnapshot.capture(new GameData(), false);
+
+    assertThat(snapshot.fork(), is(not(sameInstance(snapshot.fork()))));
+  }
+
+  @Test
+  void captureWithoutHistoryShouldRestoreHistory() throws Exception {
+    final GameData data = new GameData();
+    final var history = data.getHistory();
+
+    GameDataSnapshot.captureWithoutHistory(data, false);
+
+    assertThat(data.getHistory(), is(sameInstance(history)));
+  }
+}
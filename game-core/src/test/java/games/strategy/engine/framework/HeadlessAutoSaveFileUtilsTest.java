@@ -75,6 +75,15 @@ final class HeadlessAutoSaveFileUtilsTest extends AbstractClientSettingTestCase
 
       assertThat(autoSaveFileUtils.getAutoSaveFileName(BASE_FILE_NAME), is(BASE_FILE_NAME));
     }
+
+    @Test
+    void shouldPrefixFileNameWithGivenHostNameInsteadOfPlayerName() {
+      givenPlayerName(PLAYER_NAME);
+
+      assertThat(
+          new HeadlessAutoSaveFileUtils(HOST_NAME).getAutoSaveFileName(BASE_FILE_NAME),
+          is(HOST_NAME + "_" + BASE_FILE_NAME));
+    }
   }
 
   @Nested
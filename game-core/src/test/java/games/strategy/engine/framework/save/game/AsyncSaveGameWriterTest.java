@@ -0,0 +1,42 @@
+package games.strategy.engine.framework.save.game;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.delegate.DelegateExecutionManager;
+import games.strategy.engine.framework.GameDataManager;
+import java.io.File;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class AsyncSaveGameWriterTest {
+  private final AsyncSaveGameWriter asyncSaveGameWriter = new AsyncSaveGameWriter();
+  private final DelegateExecutionManager delegateExecutionManager = new DelegateExecutionManager();
+  private final GameData gameData = new GameData();
+
+  @Test
+  void shouldWriteSaveGameOfDataAsCaptured(@TempDir final Path tempDirPath) throws Exception {
+    final File file = tempDirPath.resolve("nested").resolve("save.tsvg").toFile();
+    gameData.setGameName("captured");
+
+    asyncSaveGameWriter.save(gameData, delegateExecutionManager, file);
+    gameData.setGameName("changed after capture");
+    asyncSaveGameWriter.shutDown();
+
+    assertThat(GameDataManager.loadGame(file).getGameName(), is("captured"));
+  }
+
+  @Test
+  void shouldWriteSaveGameImmediatelyAfterShutDown(@TempDir final Path tempDirPath)
+      throws Exception {
+    final File file = tempDirPath.resolve("save.tsvg").toFile();
+    asyncSaveGameWriter.shutDown();
+
+    asyncSaveGameWriter.save(gameData, delegateExecutionManager, file);
+
+    assertThat(file.exists(), is(true));
+    assertThat(tempDirPath.toFile().list().length, is(1));
+  }
+}
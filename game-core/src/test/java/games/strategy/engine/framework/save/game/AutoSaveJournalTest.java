@@ -0,0 +1,121 @@
+package games.strategy.engine.framework.save.game;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.GameStep;
+import games.strategy.engine.data.Resource;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.delegate.DelegateExecutionManager;
+import games.strategy.engine.framework.GameDataManager;
+import games.strategy.engine.history.HistoryNode;
+import games.strategy.engine.history.HistoryWriter;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class AutoSaveJournalTest {
+  private final DelegateExecutionManager delegateExecutionManager = new DelegateExecutionManager();
+  private GameData gameData;
+  private GamePlayer player;
+  private Resource pus;
+  private File checkpointFile;
+  private AutoSaveJournal autoSaveJournal;
+
+  @BeforeEach
+  void setUp(@TempDir final Path tempDirPath) throws Exception {
+    gameData = TestMapGameData.REVISED.getGameData();
+    player = gameData.getPlayerList().getPlayerId("Germans");
+    pus = gameData.getResourceList().getResource(Constants.PUS);
+    checkpointFile = tempDirPath.resolve("autosave.tsvg").toFile();
+    autoSaveJournal = new AutoSaveJournal(checkpointFile);
+    // the first auto-save point writes the checkpoint
+    autoSaveJournal.commit(gameData, delegateExecutionManager);
+  }
+
+  private void playStep() {
+    final HistoryWriter historyWriter = gameData.getHistory().getHistoryWriter();
+    final GameStep step = gameData.getSequence().getStep();
+    historyWriter.startNextStep(
+        step.getName(), step.getDelegate().getName(), step.getPlayerId(), step.getDisplayName());
+    autoSaveJournal.historyStepStarted(
+        step.getName(), step.getDelegate().getName(), step.getPlayerId(), step.getDisplayName());
+    historyWriter.startEvent("Germans collect PUs");
+    autoSaveJournal.historyEventStarted("Germans collect PUs");
+    final Change change = ChangeFactory.changeResourcesChange(player, pus, 10);
+    gameData.performChange(change);
+    historyWriter.addChange(change);
+    autoSaveJournal.changePerformed(change);
+    step.incrementRunCount();
+    gameData.getSequence().next();
+  }
+
+  private int getPus(final GameData data) {
+    return data.getPlayerList()
+        .getPlayerId(player.getName())
+        .getResources()
+        .getQuantity(data.getResourceList().getResource(Constants.PUS));
+  }
+
+  private static int countHistoryNodes(final GameData data) {
+    return Collections.list(((HistoryNode) data.getHistory().getRoot()).preorderEnumeration())
+        .size();
+  }
+
+  @Test
+  void loadingCheckpointShouldReplayJournal() throws Exception {
+    final int initialPus = getPus(gameData);
+    playStep();
+    autoSaveJournal.commit(gameData, delegateExecutionManager);
+    playStep();
+    autoSaveJournal.commit(gameData, delegateExecutionManager);
+
+    final GameData loaded = GameDataManager.loadGame(checkpointFile);
+
+    assertThat(getPus(loaded), is(getPus(gameData)));
+    assertThat(loaded.getSequence().getStepIndex(), is(gameData.getSequence().getStepIndex()));
+    assertThat(loaded.getSequence().getStep(0).getRunCount(), is(1));
+    assertThat(countHistoryNodes(loaded), is(countHistoryNodes(gameData)));
+    // going back to the start of the history undoes the replayed changes
+    loaded.getHistory().gotoNode((HistoryNode) loaded.getHistory().getRoot());
+    assertThat(getPus(loaded), is(initialPus));
+  }
+
+  @Test
+  void loadingCheckpointShouldIgnoreIncompleteSegment() throws Exception {
+    final int initialPus = getPus(gameData);
+    playStep();
+    autoSaveJournal.commit(gameData, delegateExecutionManager);
+    Files.write(
+        AutoSaveJournal.getJournalFile(checkpointFile).toPath(),
+        new byte[] {0, 0, 1, 0, 42},
+        StandardOpenOption.APPEND);
+
+    final GameData loaded = GameDataManager.loadGame(checkpointFile);
+
+    assertThat(getPus(loaded), is(initialPus + 10));
+  }
+
+  @Test
+  void newCheckpointShouldStartEmptyJournal() throws Exception {
+    playStep();
+    autoSaveJournal.commit(gameData, delegateExecutionManager);
+    playStep();
+    autoSaveJournal.checkpoint(gameData, delegateExecutionManager);
+
+    final GameData loaded = GameDataManager.loadGame(checkpointFile);
+
+    assertThat(getPus(loaded), is(getPus(gameData)));
+    assertThat(AutoSaveJournal.getJournalFile(checkpointFile).length(), is(12L));
+  }
+}
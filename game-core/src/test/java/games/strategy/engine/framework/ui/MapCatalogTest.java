@@ -0,0 +1,133 @@
+package games.strategy.engine.framework.ui;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import games.strategy.engine.data.GameData;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class MapCatalogTest {
+  private static final String HEADER = "2.0.0|maps";
+
+  private File catalogFile;
+  private URI gameUri;
+
+  @BeforeEach
+  void setUp(@TempDir final Path tempDirPath) throws IOException {
+    catalogFile = tempDirPath.resolve("mapCatalog").toFile();
+    final Path gameFile = tempDirPath.resolve("game.xml");
+    Files.writeString(gameFile, "<game/>");
+    gameUri = gameFile.toUri();
+  }
+
+  private static GameData givenGameData(final String gameName) {
+    final GameData gameData = new GameData();
+    gameData.setGameName(gameName);
+    return gameData;
+  }
+
+  private MapCatalog givenSavedCatalog(final boolean verified) {
+    final MapCatalog mapCatalog = MapCatalog.load(catalogFile, HEADER);
+    mapCatalog.getGameData(gameUri, verified);
+    mapCatalog.putGameData(gameUri, givenGameData("game"), verified);
+    mapCatalog.save();
+    return MapCatalog.load(catalogFile, HEADER);
+  }
+
+  @Test
+  void shouldReturnGameDataOfUnchangedGameFile() {
+    final MapCatalog mapCatalog = givenSavedCatalog(false);
+
+    assertThat(
+        mapCatalog.getGameData(gameUri, false).map(GameData::getGameName).orElse(null),
+        is("game"));
+  }
+
+  @Test
+  void shouldNotReturnGameDataOfChangedGameFile() throws IOException {
+    final MapCatalog mapCatalog = givenSavedCatalog(false);
+
+    Files.writeString(Path.of(gameUri), "<game></game>");
+
+    assertThat(mapCatalog.getGameData(gameUri, false).isPresent(), is(false));
+  }
+
+  @Test
+  void shouldOnlyReturnVerifiedGameDataWhenAskedFor() {
+    assertThat(givenSavedCatalog(false).getGameData(gameUri, true).isPresent(), is(false));
+    assertThat(givenSavedCatalog(true).getGameData(gameUri, true).isPresent(), is(true));
+  }
+
+  @Test
+  void shouldDiscardCatalogWithOtherHeader() {
+    givenSavedCatalog(false);
+
+    assertThat(
+        MapCatalog.load(catalogFile, "2.1.0|maps").getGameData(gameUri, false).isPresent(),
+        is(false));
+  }
+
+  @Test
+  void shouldDropEntriesNotUsedWhenSaving() throws IOException {
+    givenSavedCatalog(false);
+    final Path otherGameFile = Path.of(gameUri).resolveSibling("other.xml");
+    Files.writeString(otherGameFile, "<other/>");
+    final MapCatalog mapCatalog = MapCatalog.load(catalogFile, HEADER);
+    mapCatalog.putGameData(otherGameFile.toUri(), givenGameData("other"), false);
+    mapCatalog.save();
+
+    final MapCatalog savedCatalog = MapCatalog.load(catalogFile, HEADER);
+    assertThat(savedCatalog.getGameData(gameUri, false).isPresent(), is(false));
+    assertThat(savedCatalog.getGameData(otherGameFile.toUri(), false).isPresent(), is(true));
+  }
+
+  @Test
+  void shouldReplaceCatalogFileWithoutLeavingTemporaryFiles() throws IOException {
+    givenSavedCatalog(false);
+    final MapCatalog mapCatalog = MapCatalog.load(catalogFile, HEADER);
+    mapCatalog.putGameData(gameUri, givenGameData("changed"), false);
+    mapCatalog.save();
+
+    assertThat(
+        MapCatalog.load(catalogFile, HEADER)
+            .getGameData(gameUri, false)
+            .map(GameData::getGameName)
+            .orElse(null),
+        is("changed"));
+    try (Stream<Path> files = Files.list(catalogFile.toPath().getParent())) {
+      assertThat(
+          files
+              .filter(path -> path.getFileName().toString().startsWith(catalogFile.getName()))
+              .count(),
+          is(1L));
+    }
+  }
+
+  @Test
+  void shouldStampGameFileInZipByItsChecksum(@TempDir final Path tempDirPath) throws IOException {
+    final File zipFile = tempDirPath.resolve("map.zip").toFile();
+    try (OutputStream os = Files.newOutputStream(zipFile.toPath());
+        ZipOutputStream zipOutputStream = new ZipOutputStream(os)) {
+      zipOutputStream.putNextEntry(new ZipEntry("games/game.xml"));
+      zipOutputStream.write("<game/>".getBytes(StandardCharsets.UTF_8));
+      zipOutputStream.closeEntry();
+    }
+    final URI uri = URI.create("jar:" + zipFile.toURI() + "!/games/game.xml");
+
+    assertThat(
+        MapCatalog.newStamp(uri).map(MapCatalog.Stamp::getChecksum),
+        is(MapCatalog.newStamp(gameUri).map(MapCatalog.Stamp::getChecksum)));
+  }
+}
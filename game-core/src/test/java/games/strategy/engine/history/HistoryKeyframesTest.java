@@ -0,0 +1,95 @@
+package games.strategy.engine.history;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Resource;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+final class HistoryKeyframesTest {
+  private static final int CHANGE_COUNT = 400;
+
+  private final GameData gameData = TestMapGameData.TEST.getGameData();
+  private final List<Territory> territories = gameData.getMap().getTerritories();
+  private final List<GamePlayer> players = gameData.getPlayerList().getPlayers();
+  private final GamePlayer chretian = gameData.getPlayerList().getPlayerId("chretian");
+  private final Resource gold = gameData.getResourceList().getResource("gold");
+  private final Random random = new Random(42);
+  private final List<Change> changes = new ArrayList<>();
+  // states.get(i) is the state after the first i changes
+  private final List<String> states = new ArrayList<>(List.of(getState()));
+  // small enough that navigating the history drops keyframes many times over
+  private final HistoryKeyframes keyframes = new HistoryKeyframes(changes, 4, 12);
+
+  private String getState() {
+    return territories.stream()
+            .map(territory -> territory.getName() + "=" + territory.getOwner().getName())
+            .collect(Collectors.joining(", "))
+        + ", gold="
+        + chretian.getResources().getQuantity(gold);
+  }
+
+  private Change newRandomChange() {
+    return random.nextBoolean()
+        ? ChangeFactory.changeOwner(
+            territories.get(random.nextInt(territories.size())),
+            players.get(random.nextInt(players.size())))
+        : ChangeFactory.changeResourcesChange(chretian, gold, 1 + random.nextInt(5));
+  }
+
+  private void givenChangesPerformedUpTo(final int changeCount) {
+    while (changes.size() < changeCount) {
+      final Change change = newRandomChange();
+      gameData.performChange(change);
+      changes.add(change);
+      states.add(getState());
+    }
+  }
+
+  private void navigate(final int from, final int to) {
+    final Change delta = keyframes.getDelta(from, to);
+    if (delta != null) {
+      gameData.performChange(delta);
+    }
+  }
+
+  @Test
+  void shouldNavigateToStateOfAnyChangeIndexWhileKeyframesAreCompacted() {
+    givenChangesPerformedUpTo(CHANGE_COUNT);
+
+    int current = CHANGE_COUNT;
+    for (int i = 0; i < 2000; i++) {
+      final int target = random.nextInt(CHANGE_COUNT + 1);
+      navigate(current, target);
+      current = target;
+
+      assertThat("navigation " + i + " to change " + target, getState(), is(states.get(target)));
+    }
+  }
+
+  @Test
+  void shouldNavigateToStateOfAnyChangeIndexAfterTruncating() {
+    givenChangesPerformedUpTo(CHANGE_COUNT);
+    navigate(CHANGE_COUNT, 0);
+    navigate(0, CHANGE_COUNT / 2);
+    changes.subList(CHANGE_COUNT / 2, CHANGE_COUNT).clear();
+    states.subList(CHANGE_COUNT / 2 + 1, CHANGE_COUNT + 1).clear();
+    keyframes.truncate(changes.size());
+    givenChangesPerformedUpTo(CHANGE_COUNT);
+
+    navigate(CHANGE_COUNT, 0);
+    assertThat(getState(), is(states.get(0)));
+    navigate(0, CHANGE_COUNT);
+    assertThat(getState(), is(states.get(CHANGE_COUNT)));
+  }
+}
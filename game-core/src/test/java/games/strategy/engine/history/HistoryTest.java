@@ -0,0 +1,62 @@
+package games.strategy.engine.history;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameStep;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.framework.GameDataManager;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import org.junit.jupiter.api.Test;
+
+final class HistoryTest {
+  private final GameData gameData = TestMapGameData.REVISED.getGameData();
+
+  private static int getGermanPus(final GameData data) {
+    return data.getPlayerList()
+        .getPlayerId("Germans")
+        .getResources()
+        .getQuantity(data.getResourceList().getResource(Constants.PUS));
+  }
+
+  private void givenGermansCollectedPus(final int pus) {
+    final HistoryWriter historyWriter = gameData.getHistory().getHistoryWriter();
+    final GameStep step = gameData.getSequence().getStep();
+    historyWriter.startNextStep(
+        step.getName(), step.getDelegate().getName(), step.getPlayerId(), step.getDisplayName());
+    historyWriter.startEvent("Germans collect PUs");
+    final Change change =
+        ChangeFactory.changeResourcesChange(
+            gameData.getPlayerList().getPlayerId("Germans"),
+            gameData.getResourceList().getResource(Constants.PUS),
+            pus);
+    gameData.performChange(change);
+    historyWriter.addChange(change);
+  }
+
+  private GameData saveAndLoad() throws Exception {
+    final ByteArrayOutputStream os = new ByteArrayOutputStream();
+    GameDataManager.saveGame(os, gameData);
+    return GameDataManager.loadGame(new ByteArrayInputStream(os.toByteArray()));
+  }
+
+  @Test
+  void shouldNavigateHistoryOfLoadedGame() throws Exception {
+    final int initialPus = getGermanPus(gameData);
+    givenGermansCollectedPus(10);
+    givenGermansCollectedPus(5);
+
+    final GameData loaded = saveAndLoad();
+    final History history = loaded.getHistory();
+
+    history.gotoNode((HistoryNode) history.getRoot());
+    assertThat(getGermanPus(loaded), is(initialPus));
+    history.gotoNode(history.getLastNode());
+    assertThat(getGermanPus(loaded), is(initialPus + 15));
+  }
+}
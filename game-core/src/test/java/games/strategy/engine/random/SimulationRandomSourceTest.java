@@ -0,0 +1,78 @@
+package games.strategy.engine.random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class SimulationRandomSourceTest {
+  private static final String ANNOTATION = "annotation";
+  private static final int MAX = 6;
+
+  private final SimulationRandomSource simulationRandomSource = new SimulationRandomSource();
+
+  @AfterEach
+  void resetMasterSeed() {
+    SimulationRandomSource.resetMasterSeed();
+  }
+
+  private static void assertValueBetweenZeroInclusiveAndMaxExclusive(final int value) {
+    assertThat(value, allOf(greaterThanOrEqualTo(0), lessThan(MAX)));
+  }
+
+  @Test
+  void getRandomSingle_ShouldReturnValueBetweenZeroInclusiveAndMaxExclusive() {
+    IntStream.range(0, 5_000)
+        .forEach(
+            i ->
+                assertValueBetweenZeroInclusiveAndMaxExclusive(
+                    simulationRandomSource.getRandom(MAX, ANNOTATION)));
+  }
+
+  @Test
+  void getRandomSingle_ShouldThrowExceptionWhenMaxIsNotPositive() {
+    final Exception e =
+        assertThrows(
+            IllegalArgumentException.class, () -> simulationRandomSource.getRandom(0, ANNOTATION));
+    assertThat(e.getMessage(), containsString("max"));
+  }
+
+  @Test
+  void getRandomMany_ShouldReturnRequestedCountOfValues() {
+    assertThat(simulationRandomSource.getRandom(MAX, 1, ANNOTATION).length, is(1));
+    assertThat(simulationRandomSource.getRandom(MAX, 42, ANNOTATION).length, is(42));
+  }
+
+  @Test
+  void getRandomMany_ShouldReturnValuesBetweenZeroInclusiveAndMaxExclusive() {
+    Arrays.stream(simulationRandomSource.getRandom(MAX, 5_001, ANNOTATION))
+        .forEach(SimulationRandomSourceTest::assertValueBetweenZeroInclusiveAndMaxExclusive);
+  }
+
+  @Test
+  void getRandomMany_ShouldThrowExceptionWhenCountIsNotPositive() {
+    final Exception e =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> simulationRandomSource.getRandom(MAX, 0, ANNOTATION));
+    assertThat(e.getMessage(), containsString("count"));
+  }
+
+  @Test
+  void sourcesCreatedAfterSeedingShouldRepeatTheirNumbers() {
+    SimulationRandomSource.setMasterSeed(42);
+    final int[] first = new SimulationRandomSource().getRandom(MAX, 100, ANNOTATION);
+    SimulationRandomSource.setMasterSeed(42);
+    final int[] second = new SimulationRandomSource().getRandom(MAX, 100, ANNOTATION);
+
+    assertThat(Arrays.equals(first, second), is(true));
+  }
+}
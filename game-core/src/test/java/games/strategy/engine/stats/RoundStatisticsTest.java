@@ -0,0 +1,53 @@
+package games.strategy.engine.stats;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Resource;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.xml.TestMapGameData;
+import java.util.OptionalDouble;
+import org.junit.jupiter.api.Test;
+
+final class RoundStatisticsTest {
+  private final GameData gameData = TestMapGameData.TEST.getGameData();
+  private final GamePlayer chretian = gameData.getPlayerList().getPlayerId("chretian");
+  private final Resource gold = gameData.getResourceList().getResource("gold");
+  private final OverTimeStatisticType goldStatistic =
+      new OverTimeStatisticType.ResourceStatistic(gold);
+  private final RoundStatistics roundStatistics = new RoundStatistics();
+
+  @Test
+  void shouldReturnValuesAsRecordedAtStartOfRound() {
+    roundStatistics.record(1, gameData);
+    gameData.performChange(ChangeFactory.changeResourcesChange(chretian, gold, 50));
+    roundStatistics.record(2, gameData);
+
+    assertThat(roundStatistics.getValue(goldStatistic, "chretian", 1), is(OptionalDouble.of(100)));
+    assertThat(roundStatistics.getValue(goldStatistic, "chretian", 2), is(OptionalDouble.of(150)));
+    assertThat(roundStatistics.getValue(goldStatistic, "chretian", 3), is(OptionalDouble.empty()));
+  }
+
+  @Test
+  void recordingEarlierRoundShouldDiscardLaterRounds() {
+    for (int round = 1; round <= 20; round++) {
+      roundStatistics.record(round, gameData);
+    }
+    gameData.performChange(ChangeFactory.changeResourcesChange(chretian, gold, 50));
+
+    roundStatistics.record(5, gameData);
+
+    assertThat(roundStatistics.hasRound(4), is(true));
+    assertThat(roundStatistics.hasRound(6), is(false));
+    assertThat(roundStatistics.getValue(goldStatistic, "chretian", 5), is(OptionalDouble.of(150)));
+  }
+
+  @Test
+  void shouldReturnNoValueForUnknownSeries() {
+    roundStatistics.record(1, gameData);
+
+    assertThat(roundStatistics.getValue(goldStatistic, "unknown", 1), is(OptionalDouble.empty()));
+  }
+}
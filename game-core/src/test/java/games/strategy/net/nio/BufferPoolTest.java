@@ -0,0 +1,65 @@
+package games.strategy.net.nio;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+class BufferPoolTest {
+  private final BufferPool bufferPool = new BufferPool();
+
+  @Test
+  void acquireShouldReturnClearedBufferLimitedToRequestedSize() {
+    final ByteBuffer buffer = bufferPool.acquire(300);
+
+    assertThat(buffer.position(), is(0));
+    assertThat(buffer.limit(), is(300));
+    assertThat(buffer.capacity(), is(512));
+    assertThat(buffer.isDirect(), is(true));
+  }
+
+  @Test
+  void acquireShouldRejectNegativeSize() {
+    assertThrows(IllegalArgumentException.class, () -> bufferPool.acquire(-1));
+  }
+
+  @Test
+  void releasedBufferShouldBeReusedForRequestOfSameSizeClass() {
+    final ByteBuffer buffer = bufferPool.acquire(1000);
+    buffer.putInt(42);
+    bufferPool.release(buffer);
+
+    final ByteBuffer reused = bufferPool.acquire(600);
+
+    assertThat(reused, is(sameInstance(buffer)));
+    assertThat(reused.position(), is(0));
+    assertThat(reused.limit(), is(600));
+    assertThat(bufferPool.getIdleBufferCount(), is(0));
+  }
+
+  @Test
+  void oversizedRequestsShouldNotBePooled() {
+    final ByteBuffer buffer = bufferPool.acquire((1 << 20) + 1);
+    assertThat(buffer.isDirect(), is(false));
+
+    bufferPool.release(buffer);
+
+    assertThat(bufferPool.getIdleBufferCount(), is(0));
+  }
+
+  @Test
+  void idleBuffersShouldBeBoundedPerSizeClass() {
+    final ByteBuffer[] buffers = new ByteBuffer[4];
+    for (int i = 0; i < buffers.length; i++) {
+      buffers[i] = bufferPool.acquire(1 << 20);
+    }
+    for (final ByteBuffer buffer : buffers) {
+      bufferPool.release(buffer);
+    }
+
+    assertThat(bufferPool.getIdleBufferCount(), is(2));
+  }
+}
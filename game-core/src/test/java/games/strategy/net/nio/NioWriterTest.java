@@ -0,0 +1,60 @@
+package games.strategy.net.nio;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.io.IOException;
+import java.nio.channels.SocketChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NioWriterTest {
+  private final BufferPool bufferPool = new BufferPool();
+  private final NioWriter nioWriter = new NioWriter((channel, e) -> {});
+  private SocketChannel channel;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    channel = SocketChannel.open();
+    // a closed channel is never selected, so its packets stay queued until they are removed
+    channel.close();
+  }
+
+  @AfterEach
+  void tearDown() {
+    nioWriter.shutDown();
+  }
+
+  private SocketWriteData givenPacket() {
+    return new SocketWriteData(bufferPool, new byte[100], 100);
+  }
+
+  @Test
+  void closeShouldReturnBuffersOfQueuedPacketsToPool() {
+    nioWriter.enque(givenPacket(), channel);
+    nioWriter.enque(givenPacket(), channel);
+
+    nioWriter.close(channel);
+
+    assertThat(bufferPool.getIdleBufferCount(), is(2));
+  }
+
+  @Test
+  void shutDownShouldReturnBuffersOfQueuedPacketsToPool() {
+    nioWriter.enque(givenPacket(), channel);
+
+    nioWriter.shutDown();
+
+    assertThat(bufferPool.getIdleBufferCount(), is(1));
+  }
+
+  @Test
+  void packetQueuedAfterShutDownShouldReturnItsBufferToPool() {
+    nioWriter.shutDown();
+
+    nioWriter.enque(givenPacket(), channel);
+
+    assertThat(bufferPool.getIdleBufferCount(), is(1));
+  }
+}
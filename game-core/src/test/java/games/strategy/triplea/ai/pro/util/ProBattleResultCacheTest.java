@@ -0,0 +1,132 @@
+package games.strategy.triplea.ai.pro.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.core.Is.is;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GamePlayer;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.triplea.ai.pro.data.ProBattleResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+final class ProBattleResultCacheTest {
+  private final GameData gameData = new GameData();
+  private final GamePlayer attacker = new GamePlayer("attacker", gameData);
+  private final GamePlayer defender = new GamePlayer("defender", gameData);
+  private final UnitType infantry = new UnitType("infantry", gameData);
+  private final UnitType tank = new UnitType("tank", gameData);
+  private final Territory territory = new Territory("territory", gameData);
+  private final ProBattleResultCache resultCache = new ProBattleResultCache();
+
+  private List<Unit> givenUnits(final UnitType type, final GamePlayer owner, final int count) {
+    final List<Unit> units = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      units.add(new Unit(type, owner, gameData));
+    }
+    return units;
+  }
+
+  private ProBattleResultCache.BattleSignature getSignature(
+      final List<Unit> attackingUnits, final List<Unit> defendingUnits) {
+    return ProBattleResultCache.getSignature(
+        territory,
+        List.of(),
+        attacker,
+        defender,
+        attackingUnits,
+        defendingUnits,
+        List.of(),
+        true,
+        false);
+  }
+
+  @Test
+  void shouldMapCachedResultOntoUnitsOfTheSameKind() {
+    final List<Unit> attackingUnits = givenUnits(tank, attacker, 3);
+    final List<Unit> defendingUnits = givenUnits(infantry, defender, 2);
+    resultCache.put(
+        getSignature(attackingUnits, defendingUnits),
+        attackingUnits,
+        defendingUnits,
+        new ProBattleResult(80, 5, true, List.of(attackingUnits.get(1)), List.of(), 2));
+
+    final List<Unit> otherAttackingUnits = givenUnits(tank, attacker, 3);
+    final List<Unit> otherDefendingUnits = givenUnits(infantry, defender, 2);
+    final Optional<ProBattleResult> result =
+        resultCache.get(
+            getSignature(otherAttackingUnits, otherDefendingUnits),
+            otherAttackingUnits,
+            otherDefendingUnits);
+
+    assertThat(result.isPresent(), is(true));
+    assertThat(result.get().getWinPercentage(), is(80.0));
+    assertThat(result.get().getTuvSwing(), is(5.0));
+    assertThat(result.get().getBattleRounds(), is(2.0));
+    assertThat(result.get().getAverageAttackersRemaining(), contains(otherAttackingUnits.get(0)));
+    assertThat(result.get().getAverageDefendersRemaining(), is(empty()));
+    assertThat(resultCache.getStats().hitCount(), is(1L));
+  }
+
+  @Test
+  void shouldNotShareResultsOfUnitsWithDifferentHits() {
+    final List<Unit> attackingUnits = givenUnits(tank, attacker, 1);
+    final List<Unit> defendingUnits = givenUnits(infantry, defender, 1);
+    resultCache.put(
+        getSignature(attackingUnits, defendingUnits),
+        attackingUnits,
+        defendingUnits,
+        new ProBattleResult(100, 3, true, attackingUnits, List.of(), 1));
+
+    final List<Unit> damagedAttackingUnits = givenUnits(tank, attacker, 1);
+    damagedAttackingUnits.get(0).setHits(1);
+
+    assertThat(
+        resultCache
+            .get(
+                getSignature(damagedAttackingUnits, defendingUnits),
+                damagedAttackingUnits,
+                defendingUnits)
+            .isPresent(),
+        is(false));
+    assertThat(resultCache.getStats().missCount(), is(1L));
+  }
+
+  @Test
+  void shouldNotCacheResultsWithUnitsNotInTheBattle() {
+    final List<Unit> attackingUnits = givenUnits(tank, attacker, 1);
+    final List<Unit> defendingUnits = givenUnits(infantry, defender, 1);
+    final ProBattleResultCache.BattleSignature signature =
+        getSignature(attackingUnits, defendingUnits);
+    resultCache.put(
+        signature,
+        attackingUnits,
+        defendingUnits,
+        new ProBattleResult(100, 3, true, givenUnits(tank, attacker, 1), List.of(), 1));
+
+    assertThat(resultCache.get(signature, attackingUnits, defendingUnits).isPresent(), is(false));
+  }
+
+  @Test
+  void shouldDiscardResultsWhenCleared() {
+    final List<Unit> attackingUnits = givenUnits(tank, attacker, 1);
+    final List<Unit> defendingUnits = givenUnits(infantry, defender, 1);
+    final ProBattleResultCache.BattleSignature signature =
+        getSignature(attackingUnits, defendingUnits);
+    resultCache.put(
+        signature,
+        attackingUnits,
+        defendingUnits,
+        new ProBattleResult(100, 3, true, attackingUnits, List.of(), 1));
+
+    resultCache.clear();
+
+    assertThat(resultCache.get(signature, attackingUnits, defendingUnits).isPresent(), is(false));
+  }
+}
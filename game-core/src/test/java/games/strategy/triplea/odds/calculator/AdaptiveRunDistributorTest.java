@@ -0,0 +1,101 @@
+package games.strategy.triplea.odds.calculator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.triplea.delegate.battle.BattleResults;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class AdaptiveRunDistributorTest {
+  private static final UnitType infantry = mock(UnitType.class);
+
+  private static BattleResults givenResult(final boolean attackerWon) {
+    final BattleResults result = mock(BattleResults.class);
+    final Unit unit = mock(Unit.class);
+    when(unit.getType()).thenReturn(infantry);
+    final List<Unit> remainingUnits = List.of(unit);
+    when(result.getRemainingAttackingUnits()).thenReturn(attackerWon ? remainingUnits : List.of());
+    when(result.getRemainingDefendingUnits()).thenReturn(attackerWon ? List.of() : remainingUnits);
+    when(result.attackerWon()).thenReturn(attackerWon);
+    when(result.defenderWon()).thenReturn(!attackerWon);
+    return result;
+  }
+
+  private static AggregateResults givenBatch(final int runCount, final boolean alternateWinner) {
+    final AggregateResults batch = new AggregateResults();
+    for (int i = 0; i < runCount; i++) {
+      batch.addResult(givenResult(!alternateWinner || i % 2 == 0));
+    }
+    return batch;
+  }
+
+  private static int runUntilStopped(
+      final AdaptiveRunDistributor runDistributor, final boolean alternateWinner) {
+    int batches = 0;
+    for (int batch = runDistributor.nextBatch(); batch > 0; batch = runDistributor.nextBatch()) {
+      runDistributor.addBatch(givenBatch(batch, alternateWinner));
+      batches++;
+    }
+    return batches;
+  }
+
+  @Test
+  void shouldStopEarlyWhenResultsAreLopsided() {
+    final AdaptiveRunDistributor runDistributor =
+        new AdaptiveRunDistributor(
+            CalculationPrecision.builder().maxRunCount(200).build(), null, null);
+
+    runUntilStopped(runDistributor, false);
+
+    assertThat(runDistributor.getResults().getRollCount(), is(56));
+    assertThat(runDistributor.getResults().getAttackerWinPercent(), is(1.0));
+  }
+
+  @Test
+  void shouldRunMaxRunCountWhenResultsAreClose() {
+    final AdaptiveRunDistributor runDistributor =
+        new AdaptiveRunDistributor(
+            CalculationPrecision.builder().maxRunCount(100).build(), null, null);
+
+    runUntilStopped(runDistributor, true);
+
+    assertThat(runDistributor.getResults().getRollCount(), is(100));
+  }
+
+  @Test
+  void shouldRunExactRunCount() {
+    final AdaptiveRunDistributor runDistributor =
+        new AdaptiveRunDistributor(CalculationPrecision.ofRunCount(20), null, null);
+
+    assertThat(runUntilStopped(runDistributor, false), is(3));
+    assertThat(runDistributor.getResults().getRollCount(), is(20));
+  }
+
+  @Test
+  void shouldNotHandOutRunsWhenStopped() {
+    final AdaptiveRunDistributor runDistributor =
+        new AdaptiveRunDistributor(CalculationPrecision.ofRunCount(20), null, null);
+
+    runDistributor.addBatch(givenBatch(runDistributor.nextBatch(), false));
+    runDistributor.stop();
+
+    assertThat(runDistributor.nextBatch(), is(0));
+    assertThat(runDistributor.getResults().getRollCount(), is(8));
+  }
+
+  @Test
+  void shouldStopWhenBatchHasNoResults() {
+    final AdaptiveRunDistributor runDistributor =
+        new AdaptiveRunDistributor(CalculationPrecision.ofRunCount(20), null, null);
+
+    runDistributor.nextBatch();
+    runDistributor.addBatch(new AggregateResults());
+
+    assertThat(runDistributor.nextBatch(), is(0));
+  }
+}
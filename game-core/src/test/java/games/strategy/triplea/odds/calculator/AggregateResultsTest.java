@@ -0,0 +1,104 @@
+package games.strategy.triplea.odds.calculator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.triplea.delegate.battle.BattleResults;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.triplea.java.collections.IntegerMap;
+
+final class AggregateResultsTest {
+  private final UnitType infantry = mock(UnitType.class);
+  private final UnitType tank = mock(UnitType.class);
+
+  private List<Unit> givenUnits(final UnitType type, final int count) {
+    final List<Unit> units = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      final Unit unit = mock(Unit.class);
+      when(unit.getType()).thenReturn(type);
+      units.add(unit);
+    }
+    return units;
+  }
+
+  private BattleResults givenResult(
+      final List<Unit> attackingUnits, final List<Unit> defendingUnits, final int rounds) {
+    final BattleResults result = mock(BattleResults.class);
+    when(result.getRemainingAttackingUnits()).thenReturn(attackingUnits);
+    when(result.getRemainingDefendingUnits()).thenReturn(defendingUnits);
+    when(result.getBattleRoundsFought()).thenReturn(rounds);
+    when(result.attackerWon()).thenReturn(defendingUnits.isEmpty() && !attackingUnits.isEmpty());
+    when(result.defenderWon()).thenReturn(attackingUnits.isEmpty() && !defendingUnits.isEmpty());
+    when(result.draw()).thenReturn(attackingUnits.isEmpty() && defendingUnits.isEmpty());
+    return result;
+  }
+
+  @Test
+  void shouldAverageFoldedResults() {
+    final AggregateResults results = new AggregateResults();
+    results.addResult(givenResult(givenUnits(infantry, 3), List.of(), 2));
+    results.addResult(givenResult(givenUnits(infantry, 1), List.of(), 3));
+    results.addResult(givenResult(List.of(), givenUnits(tank, 2), 4));
+
+    assertThat(results.getRollCount(), is(3));
+    assertThat(results.getAttackerWinPercent(), closeTo(2 / 3.0, 1e-9));
+    assertThat(results.getDefenderWinPercent(), closeTo(1 / 3.0, 1e-9));
+    assertThat(results.getDrawPercent(), is(0.0));
+    assertThat(results.getAverageBattleRoundsFought(), is(3.0));
+    assertThat(results.getAverageAttackingUnitsLeft(), closeTo(4 / 3.0, 1e-9));
+    assertThat(results.getAverageAttackingUnitsLeftWhenAttackerWon(), is(2.0));
+    assertThat(results.getAverageDefendingUnitsLeftWhenDefenderWon(), is(2.0));
+    final IntegerMap<UnitType> costs = new IntegerMap<>();
+    costs.put(infantry, 3);
+    costs.put(tank, 5);
+    assertThat(results.getAverageTuvOfUnitsLeftOver(costs, costs).getFirst(), is(4.0));
+    assertThat(
+        results.getAverageTuvOfUnitsLeftOver(costs, costs).getSecond(), closeTo(10 / 3.0, 1e-9));
+  }
+
+  @Test
+  void averageUnitsRemainingShouldBeThoseOfResultClosestToAverage() {
+    final List<Unit> closest = givenUnits(infantry, 2);
+    final AggregateResults results = new AggregateResults();
+    results.addResult(givenResult(givenUnits(infantry, 4), List.of(), 1));
+    results.addResult(givenResult(closest, List.of(), 1));
+    results.addResult(givenResult(givenUnits(infantry, 4), List.of(), 1));
+    results.addResult(givenResult(List.of(), List.of(), 1));
+
+    assertThat(results.getAverageAttackingUnitsRemaining(), is(closest));
+    assertThat(results.getResults().size(), is(3));
+  }
+
+  @Test
+  void addingAggregateResultsShouldCombineThem() {
+    final AggregateResults first = new AggregateResults();
+    first.addResult(givenResult(givenUnits(infantry, 2), List.of(), 1));
+    final AggregateResults second = new AggregateResults();
+    second.addResult(givenResult(List.of(), givenUnits(tank, 1), 3));
+    second.addResult(givenResult(List.of(), List.of(), 2));
+
+    first.addResults(second);
+
+    assertThat(first.getRollCount(), is(3));
+    assertThat(first.getAttackerWinPercent(), closeTo(1 / 3.0, 1e-9));
+    assertThat(first.getDrawPercent(), closeTo(1 / 3.0, 1e-9));
+    assertThat(first.getAverageBattleRoundsFought(), is(2.0));
+    assertThat(first.getResults().size(), is(3));
+  }
+
+  @Test
+  void emptyResultsShouldHaveZeroAverages() {
+    final AggregateResults results = new AggregateResults();
+
+    assertThat(results.getAttackerWinPercent(), is(0.0));
+    assertThat(results.getAverageBattleRoundsFought(), is(0.0));
+    assertThat(results.getAverageAttackingUnitsRemaining().isEmpty(), is(true));
+  }
+}
@@ -8,21 +8,35 @@ import static games.strategy.triplea.delegate.GameDataTestUtil.transport;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.engine.random.SimulationRandomSource;
+import games.strategy.triplea.delegate.GameDelegateBridge;
 import games.strategy.triplea.delegate.GameDataTestUtil;
 import games.strategy.triplea.delegate.TerritoryEffectHelper;
+import games.strategy.triplea.delegate.battle.BattleResults;
+import games.strategy.triplea.delegate.battle.BattleTracker;
+import games.strategy.triplea.delegate.battle.MustFightBattle;
 import games.strategy.triplea.xml.TestMapGameData;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 class BattleCalculatorTest {
   private GameData gameData = TestMapGameData.REVISED.getGameData();
 
+  @AfterEach
+  void resetRandomSeed() {
+    SimulationRandomSource.resetMasterSeed();
+  }
+
   @Test
   void testUnbalancedFight() {
     final Territory germany = gameData.getMap().getTerritory("Germany");
@@ -122,4 +136,87 @@ class BattleCalculatorTest {
     assertEquals(1.0, results.getAttackerWinPercent());
     assertEquals(0.0, results.getDefenderWinPercent());
   }
+
+  @Test
+  void reusedBridgesShouldGiveTheResultsOfNewBridgesPerRun() {
+    final Territory germany = gameData.getMap().getTerritory("Germany");
+    final Collection<Unit> defendingUnits = new ArrayList<>(germany.getUnits());
+    final GamePlayer russians = GameDataTestUtil.russians(gameData);
+    final GamePlayer germans = GameDataTestUtil.germans(gameData);
+    final List<Unit> attackingUnits = GameDataTestUtil.infantry(gameData).create(12, russians);
+    attackingUnits.addAll(GameDataTestUtil.armour(gameData).create(6, russians));
+    attackingUnits.addAll(GameDataTestUtil.fighter(gameData).create(3, russians));
+    final int runCount = 2000;
+
+    SimulationRandomSource.setMasterSeed(42);
+    final AggregateResults results =
+        new BattleCalculator(gameData, false)
+            .calculate(
+                russians,
+                germans,
+                germany,
+                attackingUnits,
+                defendingUnits,
+                List.of(),
+                TerritoryEffectHelper.getEffects(germany),
+                false,
+                runCount);
+    SimulationRandomSource.setMasterSeed(42);
+    final AggregateResults expected =
+        calculateWithNewBridgesPerRun(
+            russians, germans, germany, attackingUnits, defendingUnits, runCount);
+
+    assertEquals(expected.getAttackerWinPercent(), results.getAttackerWinPercent(), 0.05);
+    assertEquals(expected.getDefenderWinPercent(), results.getDefenderWinPercent(), 0.05);
+    assertEquals(
+        expected.getAverageAttackingUnitsLeft(), results.getAverageAttackingUnitsLeft(), 0.5);
+    assertEquals(
+        expected.getAverageDefendingUnitsLeft(), results.getAverageDefendingUnitsLeft(), 0.5);
+    assertEquals(
+        expected.getAverageBattleRoundsFought(), results.getAverageBattleRoundsFought(), 0.2);
+  }
+
+  /** Simulates the battle the way the calculator did before it reused its bridges. */
+  private AggregateResults calculateWithNewBridgesPerRun(
+      final GamePlayer attacker,
+      final GamePlayer defender,
+      final Territory location,
+      final Collection<Unit> attacking,
+      final Collection<Unit> defending,
+      final int runCount) {
+    final GameData data = GameDataUtils.cloneGameData(gameData, false);
+    final GamePlayer attacker2 = data.getPlayerList().getPlayerId(attacker.getName());
+    final GamePlayer defender2 = data.getPlayerList().getPlayerId(defender.getName());
+    final Territory location2 = data.getMap().getTerritory(location.getName());
+    final Collection<Unit> attackingUnits =
+        GameDataUtils.translateIntoOtherGameData(attacking, data);
+    final Collection<Unit> defendingUnits =
+        GameDataUtils.translateIntoOtherGameData(defending, data);
+    data.performChange(ChangeFactory.removeUnits(location2, location2.getUnits()));
+    data.performChange(ChangeFactory.addUnits(location2, attackingUnits));
+    data.performChange(ChangeFactory.addUnits(location2, defendingUnits));
+    final BattleTracker battleTracker = new BattleTracker();
+    final AggregateResults results = new AggregateResults();
+    for (int i = 0; i < runCount; i++) {
+      final CompositeChange allChanges = new CompositeChange();
+      final DummyDelegateBridge bridge =
+          new DummyDelegateBridge(attacker2, data, null, null, false, -1, -1, false);
+      final MustFightBattle battle = new MustFightBattle(location2, attacker2, data, battleTracker);
+      battle.setHeadless(true);
+      battle.setUnits(
+          defendingUnits,
+          attackingUnits,
+          List.of(),
+          List.of(),
+          defender2,
+          TerritoryEffectHelper.getEffects(location2));
+      bridge.prepareForBattle(battle, allChanges);
+      battle.fight(new GameDelegateBridge(bridge));
+      results.addResult(new BattleResults(battle, data));
+      data.performChange(allChanges.invert());
+      battleTracker.clear();
+      battleTracker.clearBattleRecords();
+    }
+    return results;
+  }
 }
@@ -0,0 +1,59 @@
+package games.strategy.triplea.ui.mapdata;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+
+import games.strategy.ui.Util;
+import java.awt.Polygon;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+final class TerritoryPolygonIndexTest {
+  private static final String SEA_TERR = Util.TERRITORY_SEA_ZONE_INFIX + " 1";
+  private static final String LAND_TERR = "Land";
+  private static final String OTHER_LAND_TERR = "Other Land";
+
+  private static Polygon square(final int x, final int y, final int size) {
+    return new Polygon(
+        new int[] {x, x + size, x + size, x}, new int[] {y, y, y + size, y + size}, 4);
+  }
+
+  private final TerritoryPolygonIndex polygonIndex =
+      new TerritoryPolygonIndex(
+          Map.of(
+              SEA_TERR, List.of(square(0, 0, 1000)),
+              LAND_TERR, List.of(square(100, 100, 50), square(600, 700, 200)),
+              OTHER_LAND_TERR, List.of(square(1500, 1500, 100))));
+
+  @Test
+  void shouldPreferLandTerritoryInsideSeaZone() {
+    assertThat(polygonIndex.getTerritoryAt(120, 130), is(LAND_TERR));
+    assertThat(polygonIndex.getTerritoryAt(700, 850), is(LAND_TERR));
+  }
+
+  @Test
+  void shouldFindSeaZoneOutsideLandTerritories() {
+    assertThat(polygonIndex.getTerritoryAt(500, 500), is(SEA_TERR));
+    assertThat(polygonIndex.getTerritoryAt(0, 0), is(SEA_TERR));
+  }
+
+  @Test
+  void shouldFindTerritoryAwayFromOrigin() {
+    assertThat(polygonIndex.getTerritoryAt(1550, 1599.5), is(OTHER_LAND_TERR));
+  }
+
+  @Test
+  void shouldReturnNullWhenNoTerritoryIsAtPoint() {
+    assertThat(polygonIndex.getTerritoryAt(1200, 1200), is(nullValue()));
+    assertThat(polygonIndex.getTerritoryAt(-5, 10), is(nullValue()));
+    assertThat(polygonIndex.getTerritoryAt(1000, 500), is(nullValue()));
+    assertThat(polygonIndex.getTerritoryAt(5000, 5000), is(nullValue()));
+  }
+
+  @Test
+  void shouldReturnNullWhenThereAreNoPolygons() {
+    assertThat(new TerritoryPolygonIndex(Map.of()).getTerritoryAt(0, 0), is(nullValue()));
+  }
+}
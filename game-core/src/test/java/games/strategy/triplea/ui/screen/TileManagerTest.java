@@ -0,0 +1,121 @@
+package games.strategy.triplea.ui.screen;
+
+import static games.strategy.triplea.ui.screen.Tile.TILE_SIZE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.Mockito.when;
+
+import games.strategy.triplea.ui.UiContext;
+import games.strategy.triplea.ui.mapdata.MapData;
+import java.awt.Dimension;
+import java.awt.Rectangle;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+final class TileManagerTest {
+  // 4 columns and 3 rows of tiles, the last column and row only partly on the map
+  private static final Dimension MAP_DIMENSIONS = new Dimension(1000, 700);
+
+  @Mock private UiContext uiContext;
+  @Mock private MapData mapData;
+
+  private TileManager tileManager;
+
+  @BeforeEach
+  void setUp() {
+    when(uiContext.getMapData()).thenReturn(mapData);
+    when(mapData.getMapDimensions()).thenReturn(MAP_DIMENSIONS);
+    tileManager = new TileManager(uiContext);
+    tileManager.createTiles(new Rectangle(MAP_DIMENSIONS));
+  }
+
+  private List<Rectangle> getTileBounds(final Rectangle2D bounds) {
+    return tileManager.getTiles(bounds).stream().map(Tile::getBounds).collect(Collectors.toList());
+  }
+
+  private static Rectangle tileAt(final int column, final int row) {
+    return new Rectangle(column * TILE_SIZE, row * TILE_SIZE, TILE_SIZE, TILE_SIZE);
+  }
+
+  @Test
+  void shouldCoverMapWithTiles() {
+    assertThat(getTileBounds(new Rectangle(MAP_DIMENSIONS)).size(), is(12));
+  }
+
+  @Test
+  void shouldNotSelectTilesOnlyTouchingEdgesOfBounds() {
+    assertThat(
+        getTileBounds(new Rectangle(TILE_SIZE, TILE_SIZE, TILE_SIZE, TILE_SIZE)),
+        contains(tileAt(1, 1)));
+  }
+
+  @Test
+  void shouldSelectAllTilesOverlappedByBounds() {
+    assertThat(
+        getTileBounds(new Rectangle(TILE_SIZE - 1, TILE_SIZE - 1, 2, TILE_SIZE + 2)),
+        containsInAnyOrder(
+            tileAt(0, 0), tileAt(1, 0), tileAt(0, 1), tileAt(1, 1), tileAt(0, 2), tileAt(1, 2)));
+  }
+
+  @Test
+  void shouldSelectTilesOverlappedByFractionalBounds() {
+    assertThat(
+        getTileBounds(new Rectangle2D.Double(TILE_SIZE - 0.5, 0.5, 1, 0.25)),
+        containsInAnyOrder(tileAt(0, 0), tileAt(1, 0)));
+  }
+
+  @Test
+  void shouldSelectNoTilesForEmptyBounds() {
+    assertThat(getTileBounds(new Rectangle(100, 100, 0, 10)), is(empty()));
+  }
+
+  @Test
+  void shouldSelectOnlyTilesOnMapForBoundsExceedingMap() {
+    assertThat(
+        getTileBounds(new Rectangle(-500, 600, 2000, 500)),
+        containsInAnyOrder(tileAt(0, 2), tileAt(1, 2), tileAt(2, 2), tileAt(3, 2)));
+  }
+
+  @Test
+  void shouldSelectTilesOnOtherSideOfMapForBoundsExceedingWrappingMap() {
+    when(mapData.scrollWrapX()).thenReturn(true);
+
+    assertThat(
+        getTileBounds(new Rectangle(-10, 0, 20, 10)),
+        containsInAnyOrder(tileAt(0, 0), tileAt(3, 0)));
+  }
+
+  @Test
+  void shouldSelectSameTilesAsCheckingEveryTile() {
+    final List<Rectangle> allTiles = getTileBounds(new Rectangle(MAP_DIMENSIONS));
+    final Random random = new Random(42);
+    for (int i = 0; i < 1000; i++) {
+      final Rectangle2D bounds =
+          new Rectangle2D.Double(
+              random.nextDouble() * 1400 - 200,
+              random.nextDouble() * 1100 - 200,
+              random.nextDouble() * 600,
+              random.nextDouble() * 600);
+      final List<Rectangle> expected = new ArrayList<>();
+      for (final Rectangle tileBounds : allTiles) {
+        if (bounds.contains(tileBounds) || tileBounds.intersects(bounds)) {
+          expected.add(tileBounds);
+        }
+      }
+
+      assertThat(bounds.toString(), getTileBounds(bounds), is(expected));
+    }
+  }
+}
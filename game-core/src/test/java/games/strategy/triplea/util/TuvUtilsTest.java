@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GamePlayer;
 import games.strategy.engine.data.UnitType;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.attachments.UnitAttachment;
 import games.strategy.triplea.delegate.GameDataTestUtil;
 import games.strategy.triplea.xml.TestMapGameData;
 import org.junit.jupiter.api.Test;
@@ -40,4 +42,27 @@ class TuvUtilsTest {
     final IntegerMap<UnitType> result = TuvUtils.getCostsForTuv(germans, gameData);
     assertEquals(25, result.getInt(GameDataTestUtil.germanBattleship(gameData)));
   }
+
+  @Test
+  void testCostsForTuvAreNotModifiedByCallers() {
+    final GamePlayer germans = GameDataTestUtil.germany(gameData);
+    final UnitType infantry = GameDataTestUtil.germanInfantry(gameData);
+    TuvUtils.getCostsForTuv(germans, gameData).put(infantry, 100);
+
+    final IntegerMap<UnitType> result = TuvUtils.getCostsForTuv(germans, gameData);
+    assertEquals(3, result.getInt(infantry));
+  }
+
+  @Test
+  void testCostsForTuvReflectUnitAttachmentChanges() {
+    final GamePlayer germans = GameDataTestUtil.germany(gameData);
+    final UnitType infantry = GameDataTestUtil.germanInfantry(gameData);
+    TuvUtils.getCostsForTuv(germans, gameData);
+
+    gameData.performChange(
+        ChangeFactory.attachmentPropertyChange(UnitAttachment.get(infantry), 7, "tuv"));
+
+    final IntegerMap<UnitType> result = TuvUtils.getCostsForTuv(germans, gameData);
+    assertEquals(7, result.getInt(infantry));
+  }
 }
@@ -2,7 +2,7 @@ package org.triplea.game.server.debug;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.util.List;
-import java.util.Optional;
+import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.logging.Handler;
 import java.util.logging.Level;
@@ -15,7 +15,9 @@ import org.triplea.game.server.HeadlessGameServer;
 
 /**
  * A {@link Handler} that publishes log records to the chat subsystem. This allows a headless game
- * server to report its own logs to other game clients via the chat window.
+ * server to report its own logs to other game clients via the chat window. Log records are sent to
+ * the chat of the game whose thread logged them (see {@link
+ * HeadlessGameServer#getServersOfCurrentThread()}).
  *
  * <p><strong>Configuration:</strong> This handler does not currently support configuration through
  * the {@link LogManager}. It always uses the following default configuration:
@@ -65,9 +67,11 @@ public final class ChatHandler extends Handler {
   }
 
   private static void sendChatMessage(final String message) {
-    Optional.ofNullable(HeadlessGameServer.getInstance())
+    // a process may host several games, only report to the game that logged the record
+    HeadlessGameServer.getServersOfCurrentThread().stream()
         .map(HeadlessGameServer::getChat)
-        .ifPresent(chat -> chat.sendMessage(message));
+        .filter(Objects::nonNull)
+        .forEach(chat -> chat.sendMessage(message));
   }
 
   private List<String> formatChatMessage(final LogRecord record) {
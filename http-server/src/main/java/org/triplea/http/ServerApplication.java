@@ -46,8 +46,10 @@ import org.triplea.modules.game.listing.GameListingController;
 import org.triplea.modules.game.lobby.watcher.LobbyWatcherController;
 import org.triplea.modules.moderation.access.log.AccessLogController;
 import org.triplea.modules.moderation.audit.history.ModeratorAuditHistoryController;
+import org.triplea.modules.moderation.bad.words.BadWordsCache;
 import org.triplea.modules.moderation.bad.words.BadWordsController;
 import org.triplea.modules.moderation.ban.name.UsernameBanController;
+import org.triplea.modules.moderation.ban.user.UserBanCache;
 import org.triplea.modules.moderation.ban.user.UserBanController;
 import org.triplea.modules.moderation.chat.history.GameChatHistoryController;
 import org.triplea.modules.moderation.disconnect.user.DisconnectUserController;
@@ -71,6 +73,7 @@ import org.triplea.web.socket.WebSocketMessagingBus;
 public class ServerApplication extends Application<AppConfig> {
 
   private static final String[] DEFAULT_ARGS = new String[] {"server", "configuration.yml"};
+  private static final Duration USER_BAN_CACHE_REFRESH_PERIOD = Duration.ofMinutes(1);
   private ServerEndpointConfig gameConnectionWebsocket;
   private ServerEndpointConfig playerConnectionWebsocket;
 
@@ -124,24 +127,38 @@ public class ServerApplication extends Application<AppConfig> {
     final MetricRegistry metrics = new MetricRegistry();
     final Jdbi jdbi = createJdbi(configuration, environment);
 
-    environment.jersey().register(BannedPlayerFilter.newBannedPlayerFilter(jdbi));
+    final UserBanCache userBanCache = UserBanCache.build(jdbi);
+    userBanCache.scheduleRefresh(
+        environment.lifecycle().scheduledExecutorService("user-ban-cache-refresh").build(),
+        USER_BAN_CACHE_REFRESH_PERIOD);
+    environment.jersey().register(BannedPlayerFilter.newBannedPlayerFilter(userBanCache));
     environment.jersey().register(new RolesAllowedDynamicFeature());
     enableAuthentication(environment, metrics, jdbi);
 
     exceptionMappers().forEach(mapper -> environment.jersey().register(mapper));
 
     final var sessionIsBannedCheck = SessionBannedCheck.build(jdbi);
-    final var gameConnectionMessagingBus = new WebSocketMessagingBus();
+    final var gameConnectionMessagingBus =
+        new WebSocketMessagingBus(environment.metrics(), "game-connections");
     setupWebSocket(gameConnectionWebsocket, gameConnectionMessagingBus, sessionIsBannedCheck);
 
-    final var playerConnectionMessagingBus = new WebSocketMessagingBus();
+    final var playerConnectionMessagingBus =
+        new WebSocketMessagingBus(environment.metrics(), "player-connections");
     setupWebSocket(playerConnectionWebsocket, playerConnectionMessagingBus, sessionIsBannedCheck);
 
     final var chatters = Chatters.build();
-    ChatMessagingService.build(chatters, jdbi).configure(playerConnectionMessagingBus);
+    final var badWordsCache = BadWordsCache.build(jdbi);
+    ChatMessagingService.build(chatters, jdbi, badWordsCache)
+        .configure(playerConnectionMessagingBus);
 
     endPointControllers(
-            configuration, jdbi, chatters, playerConnectionMessagingBus, gameConnectionMessagingBus)
+            configuration,
+            jdbi,
+            userBanCache,
+            badWordsCache,
+            chatters,
+            playerConnectionMessagingBus,
+            gameConnectionMessagingBus)
         .forEach(controller -> environment.jersey().register(controller));
   }
 
@@ -213,24 +230,26 @@ public class ServerApplication extends Application<AppConfig> {
   private List<Object> endPointControllers(
       final AppConfig appConfig,
       final Jdbi jdbi,
+      final UserBanCache userBanCache,
+      final BadWordsCache badWordsCache,
       final Chatters chatters,
       final WebSocketMessagingBus playerMessagingBus,
       final WebSocketMessagingBus gameMessagingBus) {
     final GameListing gameListing = GameListing.build(jdbi, playerMessagingBus);
     return ImmutableList.of(
         AccessLogController.build(jdbi),
-        BadWordsController.build(jdbi),
+        BadWordsController.build(jdbi, badWordsCache),
         ConnectivityController.build(gameListing),
-        CreateAccountController.build(jdbi),
+        CreateAccountController.build(jdbi, badWordsCache),
         DisconnectUserController.build(jdbi, chatters, playerMessagingBus),
         ForgotPasswordController.build(appConfig, jdbi),
         GameChatHistoryController.build(jdbi),
         GameHostingController.build(jdbi),
         GameListingController.build(gameListing),
         LobbyWatcherController.build(jdbi, gameListing),
-        LoginController.build(jdbi, chatters),
+        LoginController.build(jdbi, badWordsCache, chatters),
         UsernameBanController.build(jdbi),
-        UserBanController.build(jdbi, chatters, playerMessagingBus, gameMessagingBus),
+        UserBanController.build(jdbi, userBanCache, chatters, playerMessagingBus, gameMessagingBus),
         ErrorReportController.build(appConfig, jdbi),
         ModeratorAuditHistoryController.build(jdbi),
         ModeratorsController.build(jdbi),
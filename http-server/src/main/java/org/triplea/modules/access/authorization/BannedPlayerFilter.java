@@ -16,12 +16,11 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import org.eclipse.jetty.http.HttpStatus;
-import org.jdbi.v3.core.Jdbi;
 import org.triplea.db.dao.user.ban.BanLookupRecord;
-import org.triplea.db.dao.user.ban.UserBanDao;
 import org.triplea.http.ResponseStatus;
 import org.triplea.http.client.SystemIdHeader;
 import org.triplea.http.client.lobby.moderator.BanDurationFormatter;
+import org.triplea.modules.moderation.ban.user.UserBanCache;
 
 @Provider
 @PreMatching
@@ -29,13 +28,13 @@ import org.triplea.http.client.lobby.moderator.BanDurationFormatter;
 @AllArgsConstructor(access = AccessLevel.PACKAGE, onConstructor_ = @VisibleForTesting)
 public class BannedPlayerFilter implements ContainerRequestFilter {
 
-  private final UserBanDao userBanDao;
+  private final UserBanCache userBanCache;
   private final Clock clock;
 
   @Context private HttpServletRequest request;
 
-  public static BannedPlayerFilter newBannedPlayerFilter(final Jdbi jdbi) {
-    return new BannedPlayerFilter(jdbi.onDemand(UserBanDao.class), Clock.systemUTC());
+  public static BannedPlayerFilter newBannedPlayerFilter(final UserBanCache userBanCache) {
+    return new BannedPlayerFilter(userBanCache, Clock.systemUTC());
   }
 
   @Override
@@ -47,7 +46,7 @@ public class BannedPlayerFilter implements ContainerRequestFilter {
 
     } else {
       // check if user is banned, if so abort the request
-      userBanDao
+      userBanCache
           .lookupBan(request.getRemoteAddr(), request.getHeader(SystemIdHeader.SYSTEM_ID_HEADER))
           .map(this::formatBanMessage)
           .ifPresent(
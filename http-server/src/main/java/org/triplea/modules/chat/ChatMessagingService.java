@@ -12,6 +12,7 @@ import org.triplea.modules.chat.event.processing.PlayerConnectedListener;
 import org.triplea.modules.chat.event.processing.PlayerLeftListener;
 import org.triplea.modules.chat.event.processing.SlapListener;
 import org.triplea.modules.chat.event.processing.StatusUpdateListener;
+import org.triplea.modules.moderation.bad.words.BadWordsCache;
 import org.triplea.web.socket.WebSocketMessagingBus;
 
 @Builder
@@ -22,11 +23,12 @@ public class ChatMessagingService {
   private final SlapListener slapListener;
   private final PlayerLeftListener playerLeftListener;
 
-  public static ChatMessagingService build(final Chatters chatters, final Jdbi jdbi) {
+  public static ChatMessagingService build(
+      final Chatters chatters, final Jdbi jdbi, final BadWordsCache badWordsCache) {
     Preconditions.checkNotNull(chatters);
     return ChatMessagingService.builder()
         .playerConnectedListener(PlayerConnectedListener.build(chatters, jdbi))
-        .chatMessageListener(ChatMessageListener.build(chatters, jdbi))
+        .chatMessageListener(ChatMessageListener.build(chatters, jdbi, badWordsCache))
         .statusUpdateListener(new StatusUpdateListener(chatters))
         .slapListener(new SlapListener(chatters))
         .playerLeftListener(new PlayerLeftListener(chatters))
@@ -12,6 +12,7 @@ import org.triplea.http.client.web.socket.messages.envelopes.chat.ChatSentMessag
 import org.triplea.java.concurrency.AsyncRunner;
 import org.triplea.modules.chat.ChatterSession;
 import org.triplea.modules.chat.Chatters;
+import org.triplea.modules.moderation.bad.words.BadWordsCache;
 import org.triplea.web.socket.WebSocketMessageContext;
 
 @Builder
@@ -20,11 +21,14 @@ public class ChatMessageListener implements Consumer<WebSocketMessageContext<Cha
 
   @Nonnull private final Chatters chatters;
   @Nonnull private final LobbyChatHistoryDao lobbyChatHistoryDao;
+  @Nonnull private final BadWordsCache badWordsCache;
 
-  public static ChatMessageListener build(final Chatters chatters, final Jdbi jdbi) {
+  public static ChatMessageListener build(
+      final Chatters chatters, final Jdbi jdbi, final BadWordsCache badWordsCache) {
     return ChatMessageListener.builder()
         .chatters(chatters)
         .lobbyChatHistoryDao(jdbi.onDemand(LobbyChatHistoryDao.class))
+        .badWordsCache(badWordsCache)
         .build();
   }
 
@@ -38,7 +42,9 @@ public class ChatMessageListener implements Consumer<WebSocketMessageContext<Cha
   private void recordAndSendMessage(
       final ChatterSession session, final WebSocketMessageContext<ChatSentMessage> messageContext) {
     final var chatReceivedMessage =
-        convertMessage(session.getChatParticipant(), messageContext.getMessage().getChatMessage());
+        convertMessage(
+            session.getChatParticipant(),
+            badWordsCache.maskBadWords(messageContext.getMessage().getChatMessage()));
     recordInHistory(chatReceivedMessage, session);
     messageContext.broadcastMessage(chatReceivedMessage);
   }
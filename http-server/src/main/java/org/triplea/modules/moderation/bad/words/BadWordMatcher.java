@@ -0,0 +1,179 @@
+package org.triplea.modules.moderation.bad.words;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Immutable, case insensitive matcher that finds occurrences of any of a fixed set of bad words
+ * anywhere within a text. The words are compiled into an Aho-Corasick automaton, so a text is
+ * checked against all words in a single pass regardless of how many words there are.
+ */
+final class BadWordMatcher {
+  private static final int ROOT = 0;
+
+  // transitions of node i are transitionChars[i] (sorted) to the nodes in transitionTargets[i]
+  private final char[][] transitionChars;
+  private final int[][] transitionTargets;
+  private final int[] failure;
+  // length of the word that ends at node i, zero if no word does
+  private final int[] wordLength;
+  // length of the longest word that is a suffix of the text leading to node i, zero if none is
+  private final int[] matchLength;
+  // true if an empty word was compiled, which matches every text
+  private final boolean matchesEverything;
+
+  private BadWordMatcher(
+      final char[][] transitionChars,
+      final int[][] transitionTargets,
+      final int[] failure,
+      final int[] wordLength,
+      final int[] matchLength,
+      final boolean matchesEverything) {
+    this.transitionChars = transitionChars;
+    this.transitionTargets = transitionTargets;
+    this.failure = failure;
+    this.wordLength = wordLength;
+    this.matchLength = matchLength;
+    this.matchesEverything = matchesEverything;
+  }
+
+  /** Compiles a matcher for the given words. An empty word matches every text. */
+  static BadWordMatcher compile(final Collection<String> words) {
+    final List<Map<Character, Integer>> children = new ArrayList<>();
+    final List<Integer> depths = new ArrayList<>();
+    children.add(new TreeMap<>());
+    depths.add(0);
+    final List<Integer> wordEnds = new ArrayList<>();
+    for (final String word : words) {
+      int node = ROOT;
+      for (int i = 0; i < word.length(); i++) {
+        final int parent = node;
+        node =
+            children
+                .get(parent)
+                .computeIfAbsent(
+                    Character.toLowerCase(word.charAt(i)),
+                    c -> {
+                      children.add(new TreeMap<>());
+                      depths.add(depths.get(parent) + 1);
+                      return children.size() - 1;
+                    });
+      }
+      wordEnds.add(node);
+    }
+
+    final int nodeCount = children.size();
+    final char[][] transitionChars = new char[nodeCount][];
+    final int[][] transitionTargets = new int[nodeCount][];
+    for (int node = 0; node < nodeCount; node++) {
+      final Map<Character, Integer> nodeChildren = children.get(node);
+      transitionChars[node] = new char[nodeChildren.size()];
+      transitionTargets[node] = new int[nodeChildren.size()];
+      int i = 0;
+      for (final Map.Entry<Character, Integer> child : nodeChildren.entrySet()) {
+        transitionChars[node][i] = child.getKey();
+        transitionTargets[node][i] = child.getValue();
+        i++;
+      }
+    }
+    final int[] wordLength = new int[nodeCount];
+    wordEnds.forEach(node -> wordLength[node] = depths.get(node));
+
+    final BadWordMatcher matcher =
+        new BadWordMatcher(
+            transitionChars,
+            transitionTargets,
+            new int[nodeCount],
+            wordLength,
+            wordLength.clone(),
+            wordEnds.contains(ROOT));
+    matcher.computeFailureLinks();
+    return matcher;
+  }
+
+  /**
+   * Links every node to the node of its longest proper suffix in the trie, visiting nodes in
+   * breadth first order so that the links of shallower nodes are known when they are needed.
+   */
+  private void computeFailureLinks() {
+    final Queue<Integer> queue = new ArrayDeque<>();
+    for (final int child : transitionTargets[ROOT]) {
+      failure[child] = ROOT;
+      queue.add(child);
+    }
+    while (!queue.isEmpty()) {
+      final int node = queue.poll();
+      for (int i = 0; i < transitionChars[node].length; i++) {
+        final char c = transitionChars[node][i];
+        final int child = transitionTargets[node][i];
+        failure[child] = next(failure[node], c);
+        if (matchLength[child] == 0) {
+          matchLength[child] = matchLength[failure[child]];
+        }
+        queue.add(child);
+      }
+    }
+  }
+
+  private int transition(final int node, final char c) {
+    final int index = Arrays.binarySearch(transitionChars[node], c);
+    return index < 0 ? -1 : transitionTargets[node][index];
+  }
+
+  /** Returns the node reached from the given node on the given (lower case) character. */
+  private int next(final int node, final char c) {
+    int current = node;
+    int target;
+    while ((target = transition(current, c)) < 0 && current != ROOT) {
+      current = failure[current];
+    }
+    return target < 0 ? ROOT : target;
+  }
+
+  /** Returns true if the text contains any of the bad words, ignoring case. */
+  boolean containsMatch(final String text) {
+    if (matchesEverything) {
+      return true;
+    }
+    int node = ROOT;
+    for (int i = 0; i < text.length(); i++) {
+      node = next(node, Character.toLowerCase(text.charAt(i)));
+      if (matchLength[node] > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the text with every bad word that stands as a whole word replaced by '*'. A bad word
+   * that is only part of a longer word, such as 'he' in 'the', is not masked.
+   */
+  String mask(final String text) {
+    final char[] masked = text.toCharArray();
+    int node = ROOT;
+    for (int i = 0; i < masked.length; i++) {
+      node = next(node, Character.toLowerCase(text.charAt(i)));
+      if (matchLength[node] > 0 && !isWordCharacter(text, i + 1)) {
+        // check every word ending here, a shorter one may start at a word boundary
+        for (int suffix = node; suffix != ROOT; suffix = failure[suffix]) {
+          final int start = i + 1 - wordLength[suffix];
+          if (wordLength[suffix] > 0 && !isWordCharacter(text, start - 1)) {
+            Arrays.fill(masked, start, i + 1, '*');
+          }
+        }
+      }
+    }
+    return new String(masked);
+  }
+
+  private static boolean isWordCharacter(final String text, final int index) {
+    return index >= 0 && index < text.length() && Character.isLetterOrDigit(text.charAt(index));
+  }
+}
@@ -0,0 +1,50 @@
+package org.triplea.modules.moderation.bad.words;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.List;
+import java.util.function.Supplier;
+import org.jdbi.v3.core.Jdbi;
+import org.triplea.db.dao.moderator.BadWordsDao;
+
+/**
+ * In-memory copy of the bad-word table compiled into a {@code BadWordMatcher}, so that checking
+ * names and chat messages for bad words does not need a database query.
+ *
+ * <p>The bad words are loaded when the cache is built and reloaded by {@code BadWordsService}
+ * whenever moderators add or remove a bad word. A reload compiles a new matcher and then replaces
+ * the current one, so concurrent checks always see a complete list of bad words.
+ */
+public class BadWordsCache {
+  private final Supplier<List<String>> badWordsLoader;
+  private volatile BadWordMatcher matcher = BadWordMatcher.compile(List.of());
+
+  @VisibleForTesting
+  BadWordsCache(final Supplier<List<String>> badWordsLoader) {
+    this.badWordsLoader = badWordsLoader;
+  }
+
+  /** Creates a cache and loads the current bad words from the database. */
+  public static BadWordsCache build(final Jdbi jdbi) {
+    final BadWordsDao badWordsDao = jdbi.onDemand(BadWordsDao.class);
+    final BadWordsCache badWordsCache = new BadWordsCache(badWordsDao::getBadWords);
+    badWordsCache.reload();
+    return badWordsCache;
+  }
+
+  /** Reloads the bad words from the database. */
+  synchronized void reload() {
+    matcher = BadWordMatcher.compile(badWordsLoader.get());
+  }
+
+  /** Returns true if the text contains any bad word, ignoring case. */
+  public boolean containsBadWord(final String text) {
+    return matcher.containsMatch(text);
+  }
+
+  /**
+   * Returns the text with every bad word in it that stands as a whole word replaced by asterisks.
+   */
+  public String maskBadWords(final String text) {
+    return matcher.mask(text);
+  }
+}
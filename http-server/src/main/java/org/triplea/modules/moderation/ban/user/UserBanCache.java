@@ -0,0 +1,169 @@
+package org.triplea.modules.moderation.ban.user;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.net.InetAddresses;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.jdbi.v3.core.Jdbi;
+import org.triplea.db.dao.user.ban.BanLookupRecord;
+import org.triplea.db.dao.user.ban.UserBanDao;
+import org.triplea.db.dao.user.ban.UserBanRecord;
+
+/**
+ * In-memory index of active user bans keyed by IP and system id. Lets ban checks that run on every
+ * request be answered without a database query.
+ *
+ * <p>The index is loaded from the database when built, is updated by {@code UserBanService} as
+ * moderators add and remove bans, and is periodically reloaded to pick up any changes made
+ * elsewhere. Expired bans are ignored on lookup and dropped on the next reload.
+ */
+@Slf4j
+public class UserBanCache {
+  private final Supplier<List<UserBanRecord>> banLoader;
+  private final Clock clock;
+
+  // guarded by 'this' for writes, readers see an immutable snapshot
+  private volatile Index index = new Index(Map.of());
+
+  /** Immutable view of the active bans with lookup maps by IP and system id. */
+  private static final class Index {
+    private final Map<String, UserBanRecord> bansById;
+    private final Map<String, List<UserBanRecord>> bansByIp = new HashMap<>();
+    private final Map<String, List<UserBanRecord>> bansBySystemId = new HashMap<>();
+
+    Index(final Map<String, UserBanRecord> bansById) {
+      this.bansById = bansById;
+      for (final UserBanRecord ban : bansById.values()) {
+        if (ban.getIp() != null) {
+          bansByIp.computeIfAbsent(normalizeIp(ban.getIp()), ip -> new ArrayList<>()).add(ban);
+        }
+        if (ban.getSystemId() != null) {
+          bansBySystemId.computeIfAbsent(ban.getSystemId(), id -> new ArrayList<>()).add(ban);
+        }
+      }
+    }
+  }
+
+  @VisibleForTesting
+  UserBanCache(final Supplier<List<UserBanRecord>> banLoader, final Clock clock) {
+    this.banLoader = banLoader;
+    this.clock = clock;
+  }
+
+  /** Creates a cache and loads the currently active bans from the database. */
+  public static UserBanCache build(final Jdbi jdbi) {
+    final UserBanDao userBanDao = jdbi.onDemand(UserBanDao.class);
+    final UserBanCache userBanCache = new UserBanCache(userBanDao::lookupBans, Clock.systemUTC());
+    userBanCache.refresh();
+    return userBanCache;
+  }
+
+  /** Reloads all active bans from the database, replacing the cached bans. */
+  public synchronized void refresh() {
+    final Map<String, UserBanRecord> bansById = new LinkedHashMap<>();
+    banLoader.get().forEach(ban -> bansById.put(ban.getPublicBanId(), ban));
+    index = new Index(bansById);
+  }
+
+  /**
+   * Schedules periodic reloads of the cache as a safety net against bans that are changed without
+   * going through {@code UserBanService}. A failed reload keeps the previously cached bans.
+   */
+  public void scheduleRefresh(final ScheduledExecutorService executor, final Duration period) {
+    executor.scheduleWithFixedDelay(
+        () -> {
+          try {
+            refresh();
+          } catch (final RuntimeException e) {
+            log.warn("Failed to reload user bans, keeping previously cached bans", e);
+          }
+        },
+        period.toMillis(),
+        period.toMillis(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Adds a ban to the cache, to be called after the ban has been stored in the database.
+   *
+   * @param banMinutes Duration of the ban starting from now.
+   */
+  synchronized void addBan(
+      final String publicBanId,
+      final String username,
+      final String systemId,
+      final String ip,
+      final long banMinutes) {
+    final Instant now = clock.instant();
+    final Map<String, UserBanRecord> bansById = new LinkedHashMap<>(index.bansById);
+    bansById.put(
+        publicBanId,
+        UserBanRecord.builder()
+            .publicBanId(publicBanId)
+            .username(username)
+            .systemId(systemId)
+            .ip(ip)
+            .dateCreated(now)
+            .banExpiry(now.plus(Duration.ofMinutes(banMinutes)))
+            .build());
+    index = new Index(bansById);
+  }
+
+  /** Removes a ban from the cache, to be called after it has been removed from the database. */
+  synchronized void removeBan(final String publicBanId) {
+    if (index.bansById.containsKey(publicBanId)) {
+      final Map<String, UserBanRecord> bansById = new LinkedHashMap<>(index.bansById);
+      bansById.remove(publicBanId);
+      index = new Index(bansById);
+    }
+  }
+
+  /**
+   * Returns the active ban matching either the IP or the system id that expires last, or an empty
+   * optional if neither is banned.
+   */
+  public Optional<BanLookupRecord> lookupBan(final String ip, @Nullable final String systemId) {
+    final Index current = index;
+    final Instant now = clock.instant();
+    return Stream.concat(
+            bansOf(current.bansByIp, ip == null ? null : normalizeIp(ip)),
+            bansOf(current.bansBySystemId, systemId))
+        .filter(ban -> ban.getBanExpiry().isAfter(now))
+        .max(Comparator.comparing(UserBanRecord::getBanExpiry))
+        .map(
+            ban ->
+                BanLookupRecord.builder()
+                    .publicBanId(ban.getPublicBanId())
+                    .banExpiry(ban.getBanExpiry())
+                    .build());
+  }
+
+  private static Stream<UserBanRecord> bansOf(
+      final Map<String, List<UserBanRecord>> bans, @Nullable final String key) {
+    return key == null ? Stream.empty() : bans.getOrDefault(key, List.of()).stream();
+  }
+
+  /**
+   * Converts an IP address to its canonical text form so that, for example, IPv6 addresses match
+   * regardless of how the database or the servlet container formats them.
+   */
+  private static String normalizeIp(final String ip) {
+    return InetAddresses.isInetAddress(ip)
+        ? InetAddresses.toAddrString(InetAddresses.forString(ip))
+        : ip;
+  }
+}
@@ -32,6 +32,7 @@ public class UserBanController extends HttpController {
 
   public static UserBanController build(
       final Jdbi jdbi,
+      final UserBanCache userBanCache,
       final Chatters chatters,
       final WebSocketMessagingBus chatMessagingBus,
       final WebSocketMessagingBus gameMessagingBus) {
@@ -39,6 +40,7 @@ public class UserBanController extends HttpController {
         .bannedUsersService(
             UserBanService.builder()
                 .jdbi(jdbi)
+                .userBanCache(userBanCache)
                 .chatters(chatters)
                 .chatMessagingBus(chatMessagingBus)
                 .gameMessagingBus(gameMessagingBus)
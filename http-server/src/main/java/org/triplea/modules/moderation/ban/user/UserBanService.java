@@ -33,6 +33,7 @@ public class UserBanService {
 
   private final ModeratorAuditHistoryDao moderatorAuditHistoryDao;
   private final UserBanDao userBanDao;
+  private final UserBanCache userBanCache;
   private final Supplier<String> publicIdSupplier;
   private final Chatters chatters;
   private final PlayerApiKeyDaoWrapper apiKeyDaoWrapper;
@@ -42,11 +43,13 @@ public class UserBanService {
   @Builder
   public UserBanService(
       final Jdbi jdbi,
+      final UserBanCache userBanCache,
       final Chatters chatters,
       final WebSocketMessagingBus chatMessagingBus,
       final WebSocketMessagingBus gameMessagingBus) {
     moderatorAuditHistoryDao = jdbi.onDemand(ModeratorAuditHistoryDao.class);
     userBanDao = jdbi.onDemand(UserBanDao.class);
+    this.userBanCache = userBanCache;
     publicIdSupplier = () -> UUID.randomUUID().toString();
     this.chatters = chatters;
     this.apiKeyDaoWrapper = PlayerApiKeyDaoWrapper.build(jdbi);
@@ -74,6 +77,7 @@ public class UserBanService {
     if (userBanDao.removeBan(banId) != 1) {
       return false;
     }
+    userBanCache.removeBan(banId);
     if (unbanName == null) {
       throw new IllegalStateException(
           "Consistency error, unbanned "
@@ -123,8 +127,9 @@ public class UserBanService {
   }
 
   private void persistUserBanToDatabase(final UserBanParams userBanParams) {
+    final String banId = publicIdSupplier.get();
     if (userBanDao.addBan(
-            publicIdSupplier.get(),
+            banId,
             userBanParams.getUsername(),
             userBanParams.getSystemId(),
             userBanParams.getIp(),
@@ -132,6 +137,12 @@ public class UserBanService {
         != 1) {
       throw new IllegalStateException("Failed to insert ban record:" + userBanParams);
     }
+    userBanCache.addBan(
+        banId,
+        userBanParams.getUsername(),
+        userBanParams.getSystemId(),
+        userBanParams.getIp(),
+        userBanParams.getMinutesToBan());
   }
 
   private boolean removePlayerFromChat(final UserBanParams userBanParams) {
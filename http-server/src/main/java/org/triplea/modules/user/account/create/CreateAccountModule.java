@@ -7,6 +7,7 @@ import lombok.Builder;
 import org.jdbi.v3.core.Jdbi;
 import org.triplea.http.client.lobby.login.CreateAccountRequest;
 import org.triplea.http.client.lobby.login.CreateAccountResponse;
+import org.triplea.modules.moderation.bad.words.BadWordsCache;
 
 /**
  * Imperative shell for creating a user account. Validates a request, if valid, creates a new user
@@ -18,10 +19,10 @@ class CreateAccountModule implements Function<CreateAccountRequest, CreateAccoun
   @Nonnull private final Function<CreateAccountRequest, Optional<String>> createAccountValidation;
   @Nonnull private final Function<CreateAccountRequest, CreateAccountResponse> accountCreator;
 
-  public static CreateAccountModule build(final Jdbi jdbi) {
+  public static CreateAccountModule build(final Jdbi jdbi, final BadWordsCache badWordsCache) {
     return CreateAccountModule.builder()
         .accountCreator(AccountCreator.build(jdbi))
-        .createAccountValidation(CreateAccountValidation.build(jdbi))
+        .createAccountValidation(CreateAccountValidation.build(jdbi, badWordsCache))
         .build();
   }
 
@@ -18,14 +18,16 @@ import org.triplea.http.client.lobby.login.LobbyLoginClient;
 import org.triplea.http.client.lobby.login.LobbyLoginResponse;
 import org.triplea.http.client.lobby.login.LoginRequest;
 import org.triplea.modules.chat.Chatters;
+import org.triplea.modules.moderation.bad.words.BadWordsCache;
 
 @Builder
 public class LoginController extends HttpController {
   @Nonnull private final LoginModule loginModule;
 
-  public static LoginController build(final Jdbi jdbi, final Chatters chatters) {
+  public static LoginController build(
+      final Jdbi jdbi, final BadWordsCache badWordsCache, final Chatters chatters) {
     return LoginController.builder() //
-        .loginModule(LoginModule.build(jdbi, chatters))
+        .loginModule(LoginModule.build(jdbi, badWordsCache, chatters))
         .build();
   }
 
@@ -17,6 +17,7 @@ import org.triplea.domain.data.UserName;
 import org.triplea.http.client.lobby.login.LobbyLoginResponse;
 import org.triplea.http.client.lobby.login.LoginRequest;
 import org.triplea.modules.chat.Chatters;
+import org.triplea.modules.moderation.bad.words.BadWordsCache;
 import org.triplea.modules.user.account.NameValidation;
 import org.triplea.modules.user.account.login.authorizer.anonymous.AnonymousLogin;
 import org.triplea.modules.user.account.login.authorizer.registered.RegisteredLogin;
@@ -32,7 +33,8 @@ class LoginModule {
   @Nonnull private final UserJdbiDao userJdbiDao;
   @Nonnull private final Function<String, Optional<String>> nameValidation;
 
-  public static LoginModule build(final Jdbi jdbi, final Chatters chatters) {
+  public static LoginModule build(
+      final Jdbi jdbi, final BadWordsCache badWordsCache, final Chatters chatters) {
     return LoginModule.builder()
         .userJdbiDao(jdbi.onDemand(UserJdbiDao.class))
         .accessLogUpdater(AccessLogUpdater.build(jdbi))
@@ -40,7 +42,7 @@ class LoginModule {
         .anonymousLogin(AnonymousLogin.build(jdbi, chatters))
         .tempPasswordLogin(TempPasswordLogin.build(jdbi))
         .registeredLogin(RegisteredLogin.build(jdbi))
-        .nameValidation(NameValidation.build(jdbi))
+        .nameValidation(NameValidation.build(jdbi, badWordsCache))
         .build();
   }
 
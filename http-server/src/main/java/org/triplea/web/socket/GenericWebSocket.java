@@ -41,7 +41,7 @@ class GenericWebSocket {
     if (isSessionBanned(session)) {
       disconnectBannedSession(session);
     } else {
-      ((WebSocketMessagingBus) session.getUserProperties().get(MESSAGING_BUS_KEY)).onOpen(session);
+      getMessagingBus(session).onOpen(session);
     }
   }
 
@@ -60,21 +60,17 @@ class GenericWebSocket {
   }
 
   static void onMessage(final Session session, final String message) {
-    onMessage(session, message, badMessageCache, new MessageSender());
+    onMessage(session, message, badMessageCache);
   }
 
   @VisibleForTesting
   static void onMessage(
       final Session session,
       final String message,
-      final Cache<InetAddress, AtomicInteger> badMessageCache,
-      final MessageSender messageSender) {
-
-    readJsonMessage(session, message, badMessageCache, messageSender)
-        .ifPresent(
-            envelope ->
-                ((WebSocketMessagingBus) session.getUserProperties().get(MESSAGING_BUS_KEY))
-                    .onMessage(session, envelope));
+      final Cache<InetAddress, AtomicInteger> badMessageCache) {
+
+    readJsonMessage(session, message, badMessageCache)
+        .ifPresent(envelope -> getMessagingBus(session).onMessage(session, envelope));
   }
 
   /**
@@ -86,8 +82,7 @@ class GenericWebSocket {
   private static Optional<MessageEnvelope> readJsonMessage(
       final Session session,
       final String message,
-      final Cache<InetAddress, AtomicInteger> badMessageCache,
-      final MessageSender messageSender) {
+      final Cache<InetAddress, AtomicInteger> badMessageCache) {
 
     if (burnMessagesFromThisSession(session, badMessageCache)) {
       // Burn the message -> no-op
@@ -101,7 +96,7 @@ class GenericWebSocket {
       final InetAddress inetAddress = InetExtractor.extract(session.getUserProperties());
       incrementBadMessageCount(session, badMessageCache);
       logBadMessage(inetAddress, message);
-      respondWithServerError(messageSender, session);
+      respondWithServerError(session);
       return Optional.empty();
     }
   }
@@ -134,20 +129,26 @@ class GenericWebSocket {
         Ascii.truncate(message, 500, "..."));
   }
 
-  private static void respondWithServerError(
-      final MessageSender messageSender, final Session session) {
-    messageSender.accept(
-        session,
-        new ServerErrorMessage("Server is unable to process request, error reading message")
-            .toEnvelope());
+  /**
+   * Sends the error through the messaging bus of the session, which queues it with all other
+   * messages to the session so it is never written while another message is being sent.
+   */
+  private static void respondWithServerError(final Session session) {
+    getMessagingBus(session)
+        .sendResponse(
+            session,
+            new ServerErrorMessage("Server is unable to process request, error reading message"));
   }
 
   static void onClose(final Session session, final CloseReason closeReason) {
-    ((WebSocketMessagingBus) session.getUserProperties().get(MESSAGING_BUS_KEY)).onClose(session);
+    getMessagingBus(session).onClose(session);
   }
 
   static void onError(final Session session, final Throwable throwable) {
-    ((WebSocketMessagingBus) session.getUserProperties().get(MESSAGING_BUS_KEY))
-        .onError(session, throwable);
+    getMessagingBus(session).onError(session, throwable);
+  }
+
+  private static WebSocketMessagingBus getMessagingBus(final Session session) {
+    return (WebSocketMessagingBus) session.getUserProperties().get(MESSAGING_BUS_KEY);
   }
 }
@@ -9,23 +9,19 @@ import org.triplea.http.client.web.socket.MessageEnvelope;
 
 /**
  * Sends a server message (encoded as a JSON string) to all open and connected websocket sessions.
+ * The message is encoded once and the same JSON string is handed to every session.
  */
 @Slf4j
 @AllArgsConstructor
 class MessageBroadcaster implements BiConsumer<Collection<Session>, MessageEnvelope> {
 
-  private final BiConsumer<Session, MessageEnvelope> messageSender;
-
-  public static MessageBroadcaster build() {
-    return new MessageBroadcaster(new MessageSender());
-  }
+  private final BiConsumer<Session, String> messageSender;
 
   /**
    * Sends a message to sessions.
    *
-   * <p>Warning: use a concurrent collection for {@param sessions}, the broadcast could take a
-   * significant amount of time, any modifications during that time could trigger a
-   * ConcurrentModificationException.
+   * <p>Warning: use a concurrent collection for {@param sessions}, any modifications during the
+   * broadcast could trigger a ConcurrentModificationException.
    *
    * @param sessions Sessions to receive message.
    * @param messageEnvelope The message to send.
@@ -33,9 +29,7 @@ class MessageBroadcaster implements BiConsumer<Collection<Session>, MessageEnvel
   @Override
   public void accept(final Collection<Session> sessions, final MessageEnvelope messageEnvelope) {
     log.info("Broadcasting: {}", messageEnvelope);
-    sessions
-        .parallelStream()
-        .filter(Session::isOpen)
-        .forEach(s -> messageSender.accept(s, messageEnvelope));
+    final String json = MessageSender.toJson(messageEnvelope);
+    sessions.stream().filter(Session::isOpen).forEach(s -> messageSender.accept(s, json));
   }
 }
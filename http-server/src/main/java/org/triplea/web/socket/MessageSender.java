@@ -1,33 +1,193 @@
 package org.triplea.web.socket;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.Gson;
-import java.util.concurrent.ExecutionException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import javax.websocket.CloseReason;
 import javax.websocket.Session;
 import lombok.extern.slf4j.Slf4j;
 import org.triplea.http.client.web.socket.MessageEnvelope;
-import org.triplea.java.Interruptibles;
 
-/** Sends a server message (encoded as a JSON string) to a specific connected websocket sessions. */
+/**
+ * Sends server messages (encoded as JSON strings) to specific connected websocket sessions.
+ *
+ * <p>Each session has a bounded queue of outgoing messages that are sent in order, at most one at a
+ * time. Messages are sent asynchronously: a task on a shared executor starts the send of the next
+ * message once the previous send completed, so no thread waits for a slow client. When a session
+ * does not keep up and its queue is full, further messages to it are dropped. A session that keeps
+ * dropping messages, or that does not complete a send in time, is considered a slow consumer and is
+ * closed.
+ */
 @Slf4j
 class MessageSender implements BiConsumer<Session, MessageEnvelope> {
+  @VisibleForTesting static final int MAX_QUEUED_MESSAGES = 200;
+  @VisibleForTesting static final int MAX_DROPPED_MESSAGES = 200;
+  private static final Duration SEND_TIMEOUT = Duration.ofSeconds(10);
   private static final Gson GSON = new Gson();
+  private static final Executor SHARED_EXECUTOR =
+      Executors.newFixedThreadPool(
+          Math.max(4, Runtime.getRuntime().availableProcessors() * 2),
+          new ThreadFactoryBuilder().setNameFormat("websocket-sender-%d").setDaemon(true).build());
+  private static final ScheduledExecutorService SHARED_TIMEOUT_SCHEDULER =
+      Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder()
+              .setNameFormat("websocket-send-timeout")
+              .setDaemon(true)
+              .build());
+
+  private final Executor executor;
+  private final ScheduledExecutorService timeoutScheduler;
+  private final Map<Session, SessionQueue> queues = new ConcurrentHashMap<>();
+  private final Meter droppedMessages;
+  private final Meter evictedSessions;
+
+  /** Outgoing messages of a single session. */
+  private static final class SessionQueue {
+    private final Queue<String> messages = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    // messages dropped since the last completed send
+    private final AtomicInteger dropped = new AtomicInteger();
+    // whether a send is in flight or about to be started
+    private final AtomicBoolean sending = new AtomicBoolean();
+  }
+
+  /**
+   * Creates a sender that registers its queue depth, dropped message and evicted session metrics
+   * with the given registry, using the given prefix for the metric names.
+   */
+  MessageSender(final MetricRegistry metrics, final String metricPrefix) {
+    this(SHARED_EXECUTOR, SHARED_TIMEOUT_SCHEDULER, metrics, metricPrefix);
+  }
+
+  @VisibleForTesting
+  MessageSender(
+      final Executor executor,
+      final ScheduledExecutorService timeoutScheduler,
+      final MetricRegistry metrics,
+      final String metricPrefix) {
+    this.executor = executor;
+    this.timeoutScheduler = timeoutScheduler;
+    metrics.register(
+        MetricRegistry.name(metricPrefix, "queued-messages"),
+        (Gauge<Integer>) this::getQueuedMessageCount);
+    droppedMessages = metrics.meter(MetricRegistry.name(metricPrefix, "dropped-messages"));
+    evictedSessions = metrics.meter(MetricRegistry.name(metricPrefix, "evicted-sessions"));
+  }
+
+  static String toJson(final MessageEnvelope message) {
+    return GSON.toJson(message);
+  }
 
   @Override
   public void accept(final Session session, final MessageEnvelope message) {
     if (session.isOpen()) {
-      new Thread(() -> Interruptibles.await(() -> sendMessage(session, message))).start();
+      send(session, toJson(message));
     }
   }
 
-  private void sendMessage(final Session session, final MessageEnvelope message)
-      throws InterruptedException {
-    try {
-      if (session.isOpen()) {
-        session.getAsyncRemote().sendText(GSON.toJson(message)).get();
+  /**
+   * Queues an already encoded message for sending. This allows a broadcast to encode a message
+   * once and hand the same JSON string to every session.
+   */
+  void send(final Session session, final String json) {
+    if (!session.isOpen()) {
+      return;
+    }
+    final SessionQueue queue = queues.computeIfAbsent(session, s -> new SessionQueue());
+    if (queue.size.incrementAndGet() > MAX_QUEUED_MESSAGES) {
+      queue.size.decrementAndGet();
+      droppedMessages.mark();
+      if (queue.dropped.incrementAndGet() >= MAX_DROPPED_MESSAGES) {
+        evict(session, "too many dropped messages");
       }
-    } catch (final ExecutionException e) {
-      log.warn("Failed to send message: " + message, e);
+      return;
+    }
+    queue.messages.add(json);
+    if (queue.sending.compareAndSet(false, true)) {
+      executor.execute(() -> sendNext(session, queue));
+    }
+  }
+
+  /** Discards any messages still queued for a session, to be called when the session closes. */
+  void remove(final Session session) {
+    queues.remove(session);
+  }
+
+  @VisibleForTesting
+  int getQueuedMessageCount() {
+    return queues.values().stream().mapToInt(queue -> queue.size.get()).sum();
+  }
+
+  /**
+   * Starts sending the next queued message of a session. The send completes on a container thread,
+   * which hands the following message back to the executor, so sends to a session never overlap
+   * and neither thread waits for the client.
+   */
+  private void sendNext(final Session session, final SessionQueue queue) {
+    if (queues.get(session) != queue) {
+      // the session was closed or evicted, its remaining messages are discarded
+      return;
+    }
+    final String json = queue.messages.poll();
+    if (json == null) {
+      queue.sending.set(false);
+      // a message may have been queued after the poll but before the flag was cleared
+      if (!queue.messages.isEmpty() && queue.sending.compareAndSet(false, true)) {
+        sendNext(session, queue);
+      }
+      return;
+    }
+    queue.size.decrementAndGet();
+    if (!session.isOpen()) {
+      // later messages to this session create a new queue if it is open again
+      queues.remove(session, queue);
+      return;
+    }
+    final ScheduledFuture<?> timeout =
+        timeoutScheduler.schedule(
+            () -> evict(session, "send timed out"), SEND_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    session
+        .getAsyncRemote()
+        .sendText(
+            json,
+            result -> {
+              timeout.cancel(false);
+              if (!result.isOK()) {
+                log.warn("Failed to send message: " + json, result.getException());
+              }
+              queue.dropped.set(0);
+              executor.execute(() -> sendNext(session, queue));
+            });
+  }
+
+  private void evict(final Session session, final String reason) {
+    if (queues.remove(session) == null) {
+      return;
+    }
+    evictedSessions.mark();
+    log.info("Closing slow websocket session {}, {}", session.getId(), reason);
+    try {
+      session.close(
+          new CloseReason(CloseReason.CloseCodes.TRY_AGAIN_LATER, "Connection is too slow"));
+    } catch (final IOException e) {
+      log.warn("Could not close slow session (session is still open? {}", session.isOpen(), e);
     }
   }
 }
@@ -1,5 +1,7 @@
 package org.triplea.web.socket;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
 import java.util.List;
@@ -41,9 +43,21 @@ public class WebSocketMessagingBus {
   private final List<MessageListener<?>> messageListeners = new ArrayList<>();
 
   public WebSocketMessagingBus() {
-    messageSender = new MessageSender();
-    messageBroadcaster = new MessageBroadcaster(messageSender);
+    this(new MetricRegistry(), WebSocketMessagingBus.class.getName());
+  }
+
+  /**
+   * Creates a messaging bus that registers session count, queued message, dropped message and
+   * evicted session metrics with the given registry under the given name.
+   */
+  public WebSocketMessagingBus(final MetricRegistry metrics, final String name) {
+    final String metricPrefix = MetricRegistry.name(WebSocketMessagingBus.class, name);
+    messageSender = new MessageSender(metrics, metricPrefix);
+    messageBroadcaster = new MessageBroadcaster(messageSender::send);
     sessionSet = new SessionSet();
+    metrics.register(
+        MetricRegistry.name(metricPrefix, "sessions"),
+        (Gauge<Integer>) () -> sessionSet.values().size());
   }
 
   public <X extends WebSocketMessage> void sendResponse(
@@ -107,6 +121,7 @@ public class WebSocketMessagingBus {
 
   void onClose(final Session session) {
     sessionSet.remove(session);
+    messageSender.remove(session);
     sessionClosedListeners.forEach(listener -> listener.accept(this, session));
   }
 
@@ -25,8 +25,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.triplea.db.dao.user.ban.BanLookupRecord;
-import org.triplea.db.dao.user.ban.UserBanDao;
 import org.triplea.http.client.SystemIdHeader;
+import org.triplea.modules.moderation.ban.user.UserBanCache;
 
 @SuppressWarnings("SameParameterValue")
 @ExtendWith(MockitoExtension.class)
@@ -37,7 +37,7 @@ class BannedPlayerFilterTest {
   private static final String IP = "sample-ip";
   private static final String SYSTEM_ID = "system-id";
 
-  @Mock private UserBanDao userBanDao;
+  @Mock private UserBanCache userBanCache;
   @Mock private Clock clock;
   @Mock private HttpServletRequest request;
 
@@ -64,7 +64,7 @@ class BannedPlayerFilterTest {
     }
 
     private void givenIpIsNotBanned() {
-      when(userBanDao.lookupBan(IP, SYSTEM_ID)).thenReturn(Optional.empty());
+      when(userBanCache.lookupBan(IP, SYSTEM_ID)).thenReturn(Optional.empty());
     }
 
     private void verifyRequestIsAllowed() {
@@ -92,7 +92,7 @@ class BannedPlayerFilterTest {
 
     private void givenBannedWithExpiryAndBanIdentifier(
         final Instant banExpiry, final String banId) {
-      when(userBanDao.lookupBan(IP, SYSTEM_ID))
+      when(userBanCache.lookupBan(IP, SYSTEM_ID))
           .thenReturn(
               Optional.of(
                   BanLookupRecord.builder().banExpiry(banExpiry).publicBanId(banId).build()));
@@ -26,6 +26,7 @@ import org.triplea.http.client.web.socket.messages.envelopes.chat.ChatReceivedMe
 import org.triplea.http.client.web.socket.messages.envelopes.chat.ChatSentMessage;
 import org.triplea.modules.chat.ChatterSession;
 import org.triplea.modules.chat.Chatters;
+import org.triplea.modules.moderation.bad.words.BadWordsCache;
 import org.triplea.web.socket.WebSocketMessageContext;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +34,7 @@ class ChatMessageListenerTest {
 
   @Mock private Chatters chatters;
   @Mock private LobbyChatHistoryDao lobbyChatHistoryDao;
+  @Mock private BadWordsCache badWordsCache;
   @InjectMocks private ChatMessageListener chatMessageListener;
 
   @Mock private Session session;
@@ -58,6 +60,7 @@ class ChatMessageListenerTest {
   void ifPlayerSessionDoesExistThenRelayTheirMessage() {
     when(messageContext.getSenderSession()).thenReturn(session);
     when(messageContext.getMessage()).thenReturn(new ChatSentMessage("message"));
+    when(badWordsCache.maskBadWords("message")).thenReturn("message");
     givenChatterSession(
         session,
         ChatParticipant.builder()
@@ -73,6 +76,25 @@ class ChatMessageListenerTest {
     verify(lobbyChatHistoryDao, timeout(1000)).recordMessage(chatReceivedMessage, 123);
   }
 
+  @Test
+  @DisplayName("Bad words are masked in relayed messages")
+  void badWordsAreMasked() {
+    when(messageContext.getSenderSession()).thenReturn(session);
+    when(messageContext.getMessage()).thenReturn(new ChatSentMessage("bad message"));
+    when(badWordsCache.maskBadWords("bad message")).thenReturn("*** message");
+    givenChatterSession(
+        session,
+        ChatParticipant.builder()
+            .playerChatId(PlayerChatId.newId().getValue())
+            .userName("user-name")
+            .build());
+
+    chatMessageListener.accept(messageContext);
+
+    verify(messageContext).broadcastMessage(messageCaptor.capture());
+    assertThat(messageCaptor.getValue().getMessage(), is("*** message"));
+  }
+
   private void givenChatterSession(final Session session, final ChatParticipant chatParticipant) {
     when(chatters.lookupPlayerBySession(session))
         .thenReturn(
@@ -0,0 +1,68 @@
+package org.triplea.modules.moderation.bad.words;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BadWordMatcherTest {
+  private static final BadWordMatcher MATCHER =
+      BadWordMatcher.compile(List.of("bad", "awful", "not nice", "he", "she", "hers"));
+
+  @Test
+  void noWordsMatchesNothing() {
+    assertThat(BadWordMatcher.compile(List.of()).containsMatch("bad"), is(false));
+  }
+
+  @Test
+  void emptyWordMatchesEverything() {
+    assertThat(BadWordMatcher.compile(List.of("")).containsMatch("text"), is(true));
+  }
+
+  @Test
+  void matchesWordAnywhereInText() {
+    assertThat(MATCHER.containsMatch("bad"), is(true));
+    assertThat(MATCHER.containsMatch("xbadx"), is(true));
+    assertThat(MATCHER.containsMatch("this is not nice!"), is(true));
+    assertThat(MATCHER.containsMatch("awfu"), is(false));
+    assertThat(MATCHER.containsMatch("ba d"), is(false));
+    assertThat(MATCHER.containsMatch(""), is(false));
+  }
+
+  @Test
+  void matchingIgnoresCase() {
+    assertThat(MATCHER.containsMatch("BaD"), is(true));
+    assertThat(BadWordMatcher.compile(List.of("AwFuL")).containsMatch("awful"), is(true));
+  }
+
+  @Test
+  void matchesWordsThatAreSuffixesOfPartialMatches() {
+    // 'bc' ends inside the partial match of 'abcd'
+    assertThat(BadWordMatcher.compile(List.of("abcd", "bc")).containsMatch("abce"), is(true));
+    // 'abcd' fails on 'x' and matching continues from 'bc' towards 'bcx'
+    assertThat(BadWordMatcher.compile(List.of("abcd", "bcx")).containsMatch("abcx"), is(true));
+  }
+
+  @Test
+  void maskReplacesEveryMatchedWholeWord() {
+    assertThat(MATCHER.mask("You are bad and AWFUL"), is("You are *** and *****"));
+    assertThat(MATCHER.mask("bad!awful"), is("***!*****"));
+    assertThat(MATCHER.mask("he said it is hers"), is("** said it is ****"));
+    assertThat(MATCHER.mask("fine"), is("fine"));
+  }
+
+  @Test
+  void maskKeepsWordsThatOnlyContainBadWords() {
+    assertThat(MATCHER.mask("ushers"), is("ushers"));
+    assertThat(MATCHER.mask("the badge"), is("the badge"));
+    assertThat(MATCHER.mask("bad2"), is("bad2"));
+  }
+
+  @Test
+  void maskFindsShorterWordAtBoundaryWithinLongerMatch() {
+    // 'not nice' does not start at a word boundary, but 'nice' does
+    assertThat(
+        BadWordMatcher.compile(List.of("not nice", "nice")).mask("knot nice"), is("knot ****"));
+  }
+}
@@ -0,0 +1,39 @@
+package org.triplea.modules.moderation.bad.words;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BadWordsCacheTest {
+  @Mock private Supplier<List<String>> badWordsLoader;
+  @InjectMocks private BadWordsCache badWordsCache;
+
+  @Test
+  void emptyBeforeLoad() {
+    assertThat(badWordsCache.containsBadWord("bad"), is(false));
+  }
+
+  @Test
+  void reloadReplacesBadWords() {
+    when(badWordsLoader.get()).thenReturn(List.of("bad"));
+    badWordsCache.reload();
+
+    assertThat(badWordsCache.containsBadWord("so bad"), is(true));
+    assertThat(badWordsCache.maskBadWords("so bad"), is("so ***"));
+
+    when(badWordsLoader.get()).thenReturn(List.of("awful"));
+    badWordsCache.reload();
+
+    assertThat(badWordsCache.containsBadWord("so bad"), is(false));
+    assertThat(badWordsCache.containsBadWord("so awful"), is(true));
+  }
+}
@@ -27,6 +27,7 @@ class BadWordsServiceTest {
 
   @Mock private BadWordsDao badWordsDao;
   @Mock private ModeratorAuditHistoryDao moderatorAuditHistoryDao;
+  @Mock private BadWordsCache badWordsCache;
 
   @InjectMocks private BadWordsService badWordsService;
 
@@ -36,6 +37,7 @@ class BadWordsServiceTest {
 
     assertThat(badWordsService.removeBadWord(MODERATOR_ID, TEST_VALUE), is(true));
 
+    verify(badWordsCache).reload();
     verify(moderatorAuditHistoryDao)
         .addAuditRecord(
             ModeratorAuditHistoryDao.AuditArgs.builder()
@@ -51,6 +53,7 @@ class BadWordsServiceTest {
 
     assertThat(badWordsService.removeBadWord(MODERATOR_ID, TEST_VALUE), is(false));
 
+    verify(badWordsCache, never()).reload();
     verify(moderatorAuditHistoryDao, never()).addAuditRecord(any());
   }
 
@@ -60,6 +63,7 @@ class BadWordsServiceTest {
 
     assertThat(badWordsService.addBadWord(MODERATOR_ID, TEST_VALUE), is(true));
 
+    verify(badWordsCache).reload();
     verify(moderatorAuditHistoryDao)
         .addAuditRecord(
             ModeratorAuditHistoryDao.AuditArgs.builder()
@@ -74,6 +78,7 @@ class BadWordsServiceTest {
     when(badWordsDao.addBadWord(TEST_VALUE)).thenReturn(0);
 
     assertThat(badWordsService.addBadWord(MODERATOR_ID, TEST_VALUE), is(false));
+    verify(badWordsCache, never()).reload();
     verify(moderatorAuditHistoryDao, never()).addAuditRecord(any());
   }
 
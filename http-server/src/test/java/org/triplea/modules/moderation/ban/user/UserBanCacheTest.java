@@ -0,0 +1,134 @@
+package org.triplea.modules.moderation.ban.user;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.triplea.db.dao.user.ban.BanLookupRecord;
+import org.triplea.db.dao.user.ban.UserBanRecord;
+
+@ExtendWith(MockitoExtension.class)
+class UserBanCacheTest {
+  private static final Instant NOW = Instant.parse("2001-01-01T23:59:59.0Z");
+  private static final String IP = "33.99.99.99";
+  private static final String SYSTEM_ID = "system-id";
+
+  private static final UserBanRecord IP_BAN =
+      UserBanRecord.builder()
+          .publicBanId("ip-ban")
+          .username("username")
+          .systemId("other-system-id")
+          .ip(IP)
+          .dateCreated(NOW.minus(1, ChronoUnit.DAYS))
+          .banExpiry(NOW.plus(1, ChronoUnit.HOURS))
+          .build();
+
+  private static final UserBanRecord SYSTEM_ID_BAN =
+      UserBanRecord.builder()
+          .publicBanId("system-id-ban")
+          .username("username")
+          .systemId(SYSTEM_ID)
+          .ip("55.99.99.99")
+          .dateCreated(NOW.minus(1, ChronoUnit.DAYS))
+          .banExpiry(NOW.plus(2, ChronoUnit.HOURS))
+          .build();
+
+  @Mock private Supplier<List<UserBanRecord>> banLoader;
+  @Mock private Clock clock;
+
+  private UserBanCache userBanCache;
+
+  @BeforeEach
+  void setup() {
+    userBanCache = new UserBanCache(banLoader, clock);
+    when(clock.instant()).thenReturn(NOW);
+  }
+
+  @Test
+  void notBannedWhenEmpty() {
+    assertThat(userBanCache.lookupBan(IP, SYSTEM_ID), is(Optional.empty()));
+  }
+
+  @Test
+  void lookupBanByIpOrSystemId() {
+    when(banLoader.get()).thenReturn(List.of(IP_BAN, SYSTEM_ID_BAN));
+    userBanCache.refresh();
+
+    assertThat(userBanCache.lookupBan(IP, "unbanned"), is(Optional.of(toLookupRecord(IP_BAN))));
+    assertThat(
+        userBanCache.lookupBan("1.1.1.1", SYSTEM_ID),
+        is(Optional.of(toLookupRecord(SYSTEM_ID_BAN))));
+    assertThat(userBanCache.lookupBan("1.1.1.1", "unbanned"), is(Optional.empty()));
+  }
+
+  @Test
+  void lookupBanReturnsBanThatExpiresLast() {
+    when(banLoader.get()).thenReturn(List.of(IP_BAN, SYSTEM_ID_BAN));
+    userBanCache.refresh();
+
+    assertThat(
+        userBanCache.lookupBan(IP, SYSTEM_ID), is(Optional.of(toLookupRecord(SYSTEM_ID_BAN))));
+  }
+
+  @Test
+  void expiredBansAreIgnored() {
+    when(banLoader.get()).thenReturn(List.of(IP_BAN));
+    userBanCache.refresh();
+    when(clock.instant()).thenReturn(IP_BAN.getBanExpiry());
+
+    assertThat(userBanCache.lookupBan(IP, SYSTEM_ID), is(Optional.empty()));
+  }
+
+  @Test
+  void ipAddressesAreMatchedInCanonicalForm() {
+    userBanCache.addBan("ban-id", "username", SYSTEM_ID, "0:0:0:0:0:0:0:1", 10);
+
+    assertThat(userBanCache.lookupBan("::1", "unbanned").isPresent(), is(true));
+  }
+
+  @Test
+  void addAndRemoveBan() {
+    userBanCache.addBan("ban-id", "username", SYSTEM_ID, IP, 10);
+
+    assertThat(
+        userBanCache.lookupBan(IP, SYSTEM_ID),
+        is(
+            Optional.of(
+                BanLookupRecord.builder()
+                    .publicBanId("ban-id")
+                    .banExpiry(NOW.plus(10, ChronoUnit.MINUTES))
+                    .build())));
+
+    userBanCache.removeBan("ban-id");
+
+    assertThat(userBanCache.lookupBan(IP, SYSTEM_ID), is(Optional.empty()));
+  }
+
+  @Test
+  void refreshReplacesCachedBans() {
+    userBanCache.addBan("ban-id", "username", SYSTEM_ID, IP, 10);
+    when(banLoader.get()).thenReturn(List.of());
+
+    userBanCache.refresh();
+
+    assertThat(userBanCache.lookupBan(IP, SYSTEM_ID), is(Optional.empty()));
+  }
+
+  private static BanLookupRecord toLookupRecord(final UserBanRecord userBanRecord) {
+    return BanLookupRecord.builder()
+        .publicBanId(userBanRecord.getPublicBanId())
+        .banExpiry(userBanRecord.getBanExpiry())
+        .build();
+  }
+}
@@ -4,6 +4,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.never;
@@ -68,6 +69,7 @@ class UserBanServiceTest {
 
   @Mock private ModeratorAuditHistoryDao moderatorAuditHistoryDao;
   @Mock private UserBanDao userBanDao;
+  @Mock private UserBanCache userBanCache;
   @Mock private Supplier<String> publicIdSupplier;
   @Mock private Chatters chatters;
 
@@ -86,6 +88,7 @@ class UserBanServiceTest {
         new UserBanService(
             moderatorAuditHistoryDao,
             userBanDao,
+            userBanCache,
             publicIdSupplier,
             chatters,
             apiKeyDaoWrapper,
@@ -127,6 +130,7 @@ class UserBanServiceTest {
 
       assertThat(result, is(false));
       verify(moderatorAuditHistoryDao, never()).addAuditRecord(any());
+      verify(userBanCache, never()).removeBan(any());
     }
 
     @Test
@@ -137,6 +141,7 @@ class UserBanServiceTest {
       final boolean result = bannedUsersService.removeUserBan(MODERATOR_ID, BAN_ID);
 
       assertThat(result, is(true));
+      verify(userBanCache).removeBan(BAN_ID);
       verify(moderatorAuditHistoryDao)
           .addAuditRecord(
               ModeratorAuditHistoryDao.AuditArgs.builder()
@@ -154,6 +159,7 @@ class UserBanServiceTest {
     assertThrows(
         IllegalStateException.class,
         () -> bannedUsersService.banUser(MODERATOR_ID, USER_BAN_PARAMS));
+    verify(userBanCache, never()).addBan(any(), any(), any(), any(), anyLong());
   }
 
   private void givenBanDaoUpdateCount(final int updateCount) {
@@ -175,6 +181,13 @@ class UserBanServiceTest {
         .thenReturn(true);
 
     bannedUsersService.banUser(MODERATOR_ID, USER_BAN_PARAMS);
+    verify(userBanCache)
+        .addBan(
+            BAN_ID,
+            USER_BAN_PARAMS.getUsername(),
+            USER_BAN_PARAMS.getSystemId(),
+            USER_BAN_PARAMS.getIp(),
+            USER_BAN_PARAMS.getMinutesToBan());
     verify(moderatorAuditHistoryDao)
         .addAuditRecord(
             ModeratorAuditHistoryDao.AuditArgs.builder()
@@ -23,11 +23,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.triplea.http.client.IpAddressParser;
-import org.triplea.http.client.web.socket.MessageEnvelope;
 import org.triplea.http.client.web.socket.messages.envelopes.ServerErrorMessage;
 import org.triplea.http.client.web.socket.messages.envelopes.chat.PlayerStatusUpdateSentMessage;
 
@@ -37,8 +35,6 @@ class GenericWebSocketTest {
 
   @Mock private Session session;
 
-  @Mock private MessageSender messageSender;
-
   @Mock private WebSocketMessagingBus webSocketMessagingBus;
 
   @Mock private Predicate<Session> banCheck;
@@ -46,9 +42,6 @@ class GenericWebSocketTest {
   private Cache<InetAddress, AtomicInteger> cache =
       Caffeine.newBuilder().expireAfterWrite(Duration.ofSeconds(60)).build();
 
-  private ArgumentCaptor<MessageEnvelope> messageCaptor =
-      ArgumentCaptor.forClass(MessageEnvelope.class);
-
   @Test
   void verifyBannedSessionsAreDisconnected() throws Exception {
     givenOnOpenSessionWithIp("1.1.1.1");
@@ -89,13 +82,9 @@ class GenericWebSocketTest {
   void invalidMessageButNotBurned() {
     givenIpInSession("1.1.1.1");
 
-    GenericWebSocket.onMessage(session, "message", cache, messageSender);
+    GenericWebSocket.onMessage(session, "message", cache);
 
-    verify(messageSender).accept(eq(session), messageCaptor.capture());
-    assertThat(
-        "Server should responsd back with an error message, while under the bad message burn limit",
-        messageCaptor.getValue().getMessageTypeId(),
-        is(ServerErrorMessage.TYPE.getMessageTypeId()));
+    verify(webSocketMessagingBus).sendResponse(eq(session), any(ServerErrorMessage.class));
     assertThat(
         "Verify cache has been populated and incremented",
         cache.getIfPresent(IpAddressParser.fromString("1.1.1.1")).get(),
@@ -107,7 +96,7 @@ class GenericWebSocketTest {
     givenIpInSession("1.1.1.1");
     givenIpHasBadMessageCount("1.1.1.1", 1);
 
-    GenericWebSocket.onMessage(session, "message", cache, messageSender);
+    GenericWebSocket.onMessage(session, "message", cache);
 
     assertThat(
         "Verify cache has been incremented",
@@ -132,7 +121,7 @@ class GenericWebSocketTest {
     givenIpInSession("1.1.1.1");
     givenIpHasBadMessageCount("1.1.1.1", GenericWebSocket.MAX_BAD_MESSAGES + 1);
 
-    GenericWebSocket.onMessage(session, message, cache, messageSender);
+    GenericWebSocket.onMessage(session, message, cache);
 
     verify(webSocketMessagingBus, never()).onMessage(any(), any());
   }
@@ -158,7 +147,7 @@ class GenericWebSocketTest {
 
     final var messageEnvelope = new PlayerStatusUpdateSentMessage("status").toEnvelope();
 
-    GenericWebSocket.onMessage(session, new Gson().toJson(messageEnvelope), cache, messageSender);
+    GenericWebSocket.onMessage(session, new Gson().toJson(messageEnvelope), cache);
 
     verify(webSocketMessagingBus).onMessage(session, messageEnvelope);
   }
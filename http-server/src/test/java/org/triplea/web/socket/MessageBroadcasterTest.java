@@ -4,6 +4,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.gson.Gson;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import javax.websocket.Session;
@@ -13,16 +14,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.triplea.http.client.web.socket.MessageEnvelope;
+import org.triplea.http.client.web.socket.messages.envelopes.ServerErrorMessage;
 
 @ExtendWith(MockitoExtension.class)
 class MessageBroadcasterTest {
+  private static final MessageEnvelope MESSAGE_ENVELOPE =
+      new ServerErrorMessage("message!").toEnvelope();
+
+  private static final String SERVER_MESSAGE_JSON = new Gson().toJson(MESSAGE_ENVELOPE);
 
   @Mock private Session session0;
   @Mock private Session session1;
   @Mock private Session session2;
-  @Mock private MessageEnvelope messageEnvelope;
 
-  @Mock private BiConsumer<Session, MessageEnvelope> singleMessageSender;
+  @Mock private BiConsumer<Session, String> singleMessageSender;
   @InjectMocks private MessageBroadcaster messageBroadcaster;
 
   @Test
@@ -31,11 +36,11 @@ class MessageBroadcasterTest {
     when(session1.isOpen()).thenReturn(true);
     when(session2.isOpen()).thenReturn(false);
 
-    messageBroadcaster.accept(Set.of(session0, session1, session2), messageEnvelope);
+    messageBroadcaster.accept(Set.of(session0, session1, session2), MESSAGE_ENVELOPE);
 
-    verify(singleMessageSender).accept(session0, messageEnvelope);
-    verify(singleMessageSender).accept(session1, messageEnvelope);
+    verify(singleMessageSender).accept(session0, SERVER_MESSAGE_JSON);
+    verify(singleMessageSender).accept(session1, SERVER_MESSAGE_JSON);
     // session2 is not open, should not be used
-    verify(singleMessageSender, never()).accept(session2, messageEnvelope);
+    verify(singleMessageSender, never()).accept(session2, SERVER_MESSAGE_JSON);
   }
 }
@@ -1,17 +1,34 @@
 package org.triplea.web.socket;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.codahale.metrics.MetricRegistry;
 import com.google.gson.Gson;
-import java.util.concurrent.Future;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import javax.websocket.CloseReason;
 import javax.websocket.RemoteEndpoint;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
 import javax.websocket.Session;
 import lombok.AllArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.triplea.http.client.web.socket.MessageEnvelope;
@@ -41,24 +58,115 @@ class MessageSenderTest {
 
   @Mock private Session session;
   @Mock private RemoteEndpoint.Async asyncRemote;
-  @Mock private Future<Void> future;
+  @Mock private ScheduledExecutorService timeoutScheduler;
+  @Mock private ScheduledFuture<?> scheduledTimeout;
+  @Captor private ArgumentCaptor<SendHandler> sendHandler;
 
   @Test
   void sendToOnlyOpenSession() {
-    new MessageSender().accept(session, MESSAGE_ENVELOPE);
+    new MessageSender(new MetricRegistry(), "").accept(session, MESSAGE_ENVELOPE);
 
     verify(session, timeout(500)).isOpen();
     verify(session, never()).getAsyncRemote();
   }
 
   @Test
-  void sendMessage() throws Exception {
+  void sendMessage() {
     when(session.isOpen()).thenReturn(true);
     when(session.getAsyncRemote()).thenReturn(asyncRemote);
-    when(asyncRemote.sendText(SERVER_MESSAGE_JSON)).thenReturn(future);
 
-    new MessageSender().accept(session, MESSAGE_ENVELOPE);
+    new MessageSender(new MetricRegistry(), "").accept(session, MESSAGE_ENVELOPE);
 
-    verify(future, timeout(500)).get();
+    verify(asyncRemote, timeout(500)).sendText(eq(SERVER_MESSAGE_JSON), any(SendHandler.class));
+  }
+
+  private MessageSender givenMessageSender(final Executor executor, final MetricRegistry metrics) {
+    return new MessageSender(executor, timeoutScheduler, metrics, "");
+  }
+
+  private void givenSendsStartTimeouts() {
+    doReturn(scheduledTimeout)
+        .when(timeoutScheduler)
+        .schedule(any(Runnable.class), anyLong(), any());
+  }
+
+  @Test
+  void messagesToSameSessionAreSentInOrderOneAtATime() {
+    final List<Runnable> tasks = new ArrayList<>();
+    final MessageSender messageSender = givenMessageSender(tasks::add, new MetricRegistry());
+    when(session.isOpen()).thenReturn(true);
+    when(session.getAsyncRemote()).thenReturn(asyncRemote);
+    givenSendsStartTimeouts();
+
+    messageSender.send(session, "first");
+    messageSender.send(session, "second");
+
+    assertThat(tasks, hasSize(1));
+    assertThat(messageSender.getQueuedMessageCount(), is(2));
+
+    tasks.get(0).run();
+
+    verify(asyncRemote).sendText(eq("first"), sendHandler.capture());
+    verify(asyncRemote, never()).sendText(eq("second"), any(SendHandler.class));
+
+    sendHandler.getValue().onResult(new SendResult());
+    verify(scheduledTimeout).cancel(false);
+    assertThat(tasks, hasSize(2));
+    tasks.get(1).run();
+
+    verify(asyncRemote).sendText(eq("second"), any(SendHandler.class));
+    assertThat(messageSender.getQueuedMessageCount(), is(0));
+  }
+
+  @Test
+  void sessionNotCompletingSendInTimeIsClosed() throws Exception {
+    final MetricRegistry metrics = new MetricRegistry();
+    final List<Runnable> tasks = new ArrayList<>();
+    final MessageSender messageSender = givenMessageSender(tasks::add, metrics);
+    when(session.isOpen()).thenReturn(true);
+    when(session.getAsyncRemote()).thenReturn(asyncRemote);
+    givenSendsStartTimeouts();
+
+    messageSender.send(session, "first");
+    messageSender.send(session, "second");
+    tasks.get(0).run();
+    final ArgumentCaptor<Runnable> timeoutTask = ArgumentCaptor.forClass(Runnable.class);
+    verify(timeoutScheduler).schedule(timeoutTask.capture(), anyLong(), any());
+    timeoutTask.getValue().run();
+
+    verify(session).close(any(CloseReason.class));
+    assertThat(metrics.meter("evicted-sessions").getCount(), is(1L));
+    assertThat(messageSender.getQueuedMessageCount(), is(0));
+  }
+
+  @Test
+  void messagesAreDroppedWhenQueueIsFull() {
+    final MetricRegistry metrics = new MetricRegistry();
+    final MessageSender messageSender = givenMessageSender(task -> {}, metrics);
+    when(session.isOpen()).thenReturn(true);
+
+    for (int i = 0; i < MessageSender.MAX_QUEUED_MESSAGES + 1; i++) {
+      messageSender.send(session, "message");
+    }
+
+    assertThat(messageSender.getQueuedMessageCount(), is(MessageSender.MAX_QUEUED_MESSAGES));
+    assertThat(metrics.meter("dropped-messages").getCount(), is(1L));
+    verify(session, never()).getAsyncRemote();
+  }
+
+  @Test
+  void slowSessionIsClosed() throws Exception {
+    final MetricRegistry metrics = new MetricRegistry();
+    final MessageSender messageSender = givenMessageSender(task -> {}, metrics);
+    when(session.isOpen()).thenReturn(true);
+
+    final int messageCount = MessageSender.MAX_QUEUED_MESSAGES + MessageSender.MAX_DROPPED_MESSAGES;
+    for (int i = 0; i < messageCount; i++) {
+      messageSender.send(session, "message");
+    }
+
+    verify(session).close(any(CloseReason.class));
+    assertThat(metrics.meter("evicted-sessions").getCount(), is(1L));
+    assertThat(messageSender.getQueuedMessageCount(), is(0));
   }
 }
@@ -1,39 +1,74 @@
 package org.triplea.java.collections;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
-import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 
 /**
  * A utility class for mapping Objects to ints. <br>
  * Supports adding and comparing of maps.
  *
+ * <p>Values are stored as primitive ints, so reading and updating values does not box. Iteration
+ * order is insertion order.
+ *
  * @param <T> The type of the map key.
  */
 public final class IntegerMap<T> implements Serializable {
   private static final long serialVersionUID = 6856531659284300930L;
-  private final Map<T, Integer> mapValues;
+  // Keep the serialized form of older versions, which stored a LinkedHashMap<T, Integer> in a field
+  // named "mapValues", so that existing save games can still be loaded.
+  private static final ObjectStreamField[] serialPersistentFields = {
+    new ObjectStreamField("mapValues", Map.class)
+  };
+
+  // not final, so readObject() can rebuild it from the serialized form
+  private ObjectIntHashMap<T> mapValues;
 
   public IntegerMap() {
-    mapValues = new LinkedHashMap<>();
+    mapValues = new ObjectIntHashMap<>();
   }
 
   public IntegerMap(final Map<T, Integer> map) {
-    mapValues = new LinkedHashMap<>(map);
+    mapValues = new ObjectIntHashMap<>(map.size());
+    map.forEach(mapValues::put);
   }
 
   /** Creates a shallow clone of the provided IntegerMap. */
   public IntegerMap(final IntegerMap<T> integerMap) {
-    this(integerMap.mapValues);
+    mapValues = new ObjectIntHashMap<>(integerMap.mapValues);
   }
 
   public static <X> IntegerMap<X> of(final Map<X, Integer> map) {
     return new IntegerMap<>(map);
   }
 
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    final Map<T, Integer> map = new LinkedHashMap<>();
+    for (final Map.Entry<T, Integer> entry : mapValues.entrySet()) {
+      map.put(entry.getKey(), entry.getValue());
+    }
+    final ObjectOutputStream.PutField fields = out.putFields();
+    fields.put("mapValues", map);
+    out.writeFields();
+  }
+
+  @SuppressWarnings("unchecked")
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    // objects read along with the values that refer back to this map must not see null values
+    mapValues = new ObjectIntHashMap<>();
+    final ObjectInputStream.GetField fields = in.readFields();
+    final Map<T, Integer> map = (Map<T, Integer>) fields.get("mapValues", null);
+    if (map == null) {
+      throw new IOException("Missing map values");
+    }
+    map.forEach(mapValues::put);
+  }
+
   public int size() {
     return mapValues.size();
   }
@@ -48,7 +83,7 @@ public final class IntegerMap<T> implements Serializable {
   }
 
   public void add(final T key, final int value) {
-    mapValues.compute(key, (k, oldVal) -> oldVal == null ? value : (oldVal + value));
+    mapValues.add(key, value);
   }
 
   public void add(final IntegerMap<T> map) {
@@ -61,7 +96,7 @@ public final class IntegerMap<T> implements Serializable {
    * Will multiply all values by a given double. Rounds up the results when converting to an int.
    */
   public void multiplyAllValuesBy(final double multiplyBy) {
-    mapValues.replaceAll((key, value) -> (int) Math.ceil(value * multiplyBy));
+    mapValues.replaceAll(value -> (int) Math.ceil(value * multiplyBy));
   }
 
   public void clear() {
@@ -78,20 +113,17 @@ public final class IntegerMap<T> implements Serializable {
    * @return true if all values are equal to the given integer.
    */
   public boolean allValuesEqual(final int integer) {
-    return mapValues.values().stream().allMatch(value -> integer == value);
+    return mapValues.allValuesMatch(value -> integer == value);
   }
 
   /** Will return null if empty. */
   public T lowestKey() {
-    return mapValues.entrySet().stream()
-        .min(Comparator.comparing(Map.Entry::getValue))
-        .map(Map.Entry::getKey)
-        .orElse(null);
+    return mapValues.lowestKey();
   }
 
   /** Returns the sum of all keys. */
   public int totalValues() {
-    return mapValues.values().stream().mapToInt(value -> value).sum();
+    return mapValues.sumValues();
   }
 
   public void subtract(final IntegerMap<T> map) {
@@ -112,7 +144,7 @@ public final class IntegerMap<T> implements Serializable {
 
   /** True if all values are >= 0. */
   public boolean isPositive() {
-    return mapValues.values().stream().allMatch(value -> value >= 0);
+    return mapValues.allValuesMatch(value -> value >= 0);
   }
 
   /** Add map * multiple. */
@@ -153,7 +185,7 @@ public final class IntegerMap<T> implements Serializable {
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(mapValues);
+    return mapValues.hashCode();
   }
 
   /**
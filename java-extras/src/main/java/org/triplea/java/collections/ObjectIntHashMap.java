@@ -0,0 +1,436 @@
+package org.triplea.java.collections;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * An insertion-ordered hash map from objects to primitive ints that does not box its values.
+ *
+ * <p>Entries are stored densely in insertion order in parallel key and value arrays. A separate
+ * open-addressing table with linear probing maps key hashes to positions in those arrays. Removed
+ * entries leave a hole in the dense arrays that is reclaimed the next time the map grows, so
+ * iteration order matches that of a {@link java.util.LinkedHashMap}.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @param <T> The type of the map key.
+ */
+final class ObjectIntHashMap<T> {
+  private static final int DEFAULT_CAPACITY = 8;
+  // marks an empty slot in the hash table; occupied slots hold the dense index + 1
+  private static final int EMPTY_SLOT = 0;
+  private static final int DELETED_SLOT = -1;
+  // marks a removed entry in the dense key array
+  private static final Object REMOVED = new Object();
+
+  private Object[] keys;
+  private int[] values;
+  private int[] table;
+  // number of dense slots in use, including removed entries
+  private int used;
+  private int size;
+  private int deletedSlots;
+  private int modCount;
+
+  ObjectIntHashMap() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  ObjectIntHashMap(final int expectedSize) {
+    allocate(Math.max(DEFAULT_CAPACITY, expectedSize));
+  }
+
+  ObjectIntHashMap(final ObjectIntHashMap<T> other) {
+    this(other.size);
+    for (int i = 0; i < other.used; i++) {
+      if (other.keys[i] != REMOVED) {
+        put(other.key(i), other.values[i]);
+      }
+    }
+  }
+
+  private void allocate(final int capacity) {
+    keys = new Object[capacity];
+    values = new int[capacity];
+    // keep the table at most half full so probe sequences stay short
+    table = new int[Integer.highestOneBit(capacity * 4 - 1)];
+    used = 0;
+    size = 0;
+    deletedSlots = 0;
+  }
+
+  private static int hash(final Object key) {
+    final int h = Objects.hashCode(key) * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  @SuppressWarnings("unchecked")
+  private T key(final int index) {
+    return (T) keys[index];
+  }
+
+  /** Returns the table slot holding the specified key or -1 if the key is absent. */
+  private int findSlot(final Object key) {
+    final int mask = table.length - 1;
+    for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+      final int entry = table[slot];
+      if (entry == EMPTY_SLOT) {
+        return -1;
+      } else if (entry != DELETED_SLOT && Objects.equals(keys[entry - 1], key)) {
+        return slot;
+      }
+    }
+  }
+
+  private void insertIntoTable(final Object key, final int index) {
+    final int mask = table.length - 1;
+    int slot = hash(key) & mask;
+    while (table[slot] != EMPTY_SLOT && table[slot] != DELETED_SLOT) {
+      slot = (slot + 1) & mask;
+    }
+    if (table[slot] == DELETED_SLOT) {
+      deletedSlots--;
+    }
+    table[slot] = index + 1;
+  }
+
+  /** Compacts the dense arrays and rebuilds the table with room for at least one more entry. */
+  private void rebuild() {
+    final Object[] oldKeys = keys;
+    final int[] oldValues = values;
+    final int oldUsed = used;
+    allocate(Math.max(DEFAULT_CAPACITY, (size + 1) * 2));
+    for (int i = 0; i < oldUsed; i++) {
+      if (oldKeys[i] != REMOVED) {
+        keys[used] = oldKeys[i];
+        values[used] = oldValues[i];
+        insertIntoTable(oldKeys[i], used);
+        used++;
+        size++;
+      }
+    }
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  boolean containsKey(final Object key) {
+    return findSlot(key) >= 0;
+  }
+
+  /** Returns the value mapped to the specified key or {@code defaultValue} if the key is absent. */
+  int getOrDefault(final Object key, final int defaultValue) {
+    final int slot = findSlot(key);
+    return slot < 0 ? defaultValue : values[table[slot] - 1];
+  }
+
+  void put(final T key, final int value) {
+    final int slot = findSlot(key);
+    if (slot >= 0) {
+      values[table[slot] - 1] = value;
+      return;
+    }
+    if (used == keys.length || (size + deletedSlots + 1) * 2 > table.length) {
+      rebuild();
+    }
+    keys[used] = key;
+    values[used] = value;
+    insertIntoTable(key, used);
+    used++;
+    size++;
+    modCount++;
+  }
+
+  /** Adds the specified value to the value mapped to the key, treating absent keys as zero. */
+  void add(final T key, final int value) {
+    final int slot = findSlot(key);
+    if (slot >= 0) {
+      values[table[slot] - 1] += value;
+    } else {
+      put(key, value);
+    }
+  }
+
+  void remove(final Object key) {
+    final int slot = findSlot(key);
+    if (slot < 0) {
+      return;
+    }
+    keys[table[slot] - 1] = REMOVED;
+    table[slot] = DELETED_SLOT;
+    deletedSlots++;
+    size--;
+    modCount++;
+  }
+
+  void clear() {
+    Arrays.fill(keys, 0, used, null);
+    Arrays.fill(table, EMPTY_SLOT);
+    used = 0;
+    size = 0;
+    deletedSlots = 0;
+    modCount++;
+  }
+
+  /** Applies the specified operator to every value in this map. */
+  void replaceAll(final IntUnaryOperator operator) {
+    for (int i = 0; i < used; i++) {
+      if (keys[i] != REMOVED) {
+        values[i] = operator.applyAsInt(values[i]);
+      }
+    }
+  }
+
+  /** Returns true if all values match the predicate, or if this map is empty. */
+  boolean allValuesMatch(final IntPredicate predicate) {
+    for (int i = 0; i < used; i++) {
+      if (keys[i] != REMOVED && !predicate.test(values[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Returns the first key in iteration order with the lowest value, or null if empty. */
+  T lowestKey() {
+    int lowest = -1;
+    for (int i = 0; i < used; i++) {
+      if (keys[i] != REMOVED && (lowest < 0 || values[i] < values[lowest])) {
+        lowest = i;
+      }
+    }
+    return lowest < 0 ? null : key(lowest);
+  }
+
+  int sumValues() {
+    int sum = 0;
+    for (int i = 0; i < used; i++) {
+      if (keys[i] != REMOVED) {
+        sum += values[i];
+      }
+    }
+    return sum;
+  }
+
+  /** Returns a live view of the keys of this map that supports removal. */
+  Set<T> keySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<T> iterator() {
+        return new DenseIterator<>() {
+          @Override
+          T element(final int index) {
+            return key(index);
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public boolean contains(final Object o) {
+        return containsKey(o);
+      }
+
+      @Override
+      public boolean remove(final Object o) {
+        final boolean contained = containsKey(o);
+        ObjectIntHashMap.this.remove(o);
+        return contained;
+      }
+
+      @Override
+      public void clear() {
+        ObjectIntHashMap.this.clear();
+      }
+    };
+  }
+
+  /**
+   * Returns a live view of the entries of this map that supports removal. The values of the
+   * returned entries are boxed on access.
+   */
+  Set<Map.Entry<T, Integer>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Map.Entry<T, Integer>> iterator() {
+        return new DenseIterator<>() {
+          @Override
+          Map.Entry<T, Integer> element(final int index) {
+            return new Entry(index);
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public boolean contains(final Object o) {
+        if (!(o instanceof Map.Entry)) {
+          return false;
+        }
+        final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+        final int slot = findSlot(entry.getKey());
+        return slot >= 0 && Integer.valueOf(values[table[slot] - 1]).equals(entry.getValue());
+      }
+
+      @Override
+      public boolean remove(final Object o) {
+        if (!contains(o)) {
+          return false;
+        }
+        ObjectIntHashMap.this.remove(((Map.Entry<?, ?>) o).getKey());
+        return true;
+      }
+
+      @Override
+      public void clear() {
+        ObjectIntHashMap.this.clear();
+      }
+    };
+  }
+
+  private abstract class DenseIterator<E> implements Iterator<E> {
+    private int next = skipRemoved(0);
+    private int last = -1;
+    private int expectedModCount = modCount;
+
+    private int skipRemoved(final int start) {
+      int index = start;
+      while (index < used && keys[index] == REMOVED) {
+        index++;
+      }
+      return index;
+    }
+
+    abstract E element(int index);
+
+    @Override
+    public boolean hasNext() {
+      return next < used;
+    }
+
+    @Override
+    public E next() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      } else if (next >= used) {
+        throw new NoSuchElementException();
+      }
+      last = next;
+      next = skipRemoved(next + 1);
+      return element(last);
+    }
+
+    @Override
+    public void remove() {
+      if (last < 0) {
+        throw new IllegalStateException();
+      } else if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      ObjectIntHashMap.this.remove(keys[last]);
+      last = -1;
+      expectedModCount = modCount;
+    }
+  }
+
+  /** An entry backed by a position in the dense arrays. */
+  private final class Entry implements Map.Entry<T, Integer> {
+    private final int index;
+
+    Entry(final int index) {
+      this.index = index;
+    }
+
+    @Override
+    public T getKey() {
+      return key(index);
+    }
+
+    @Override
+    public Integer getValue() {
+      return values[index];
+    }
+
+    @Override
+    public Integer setValue(final Integer value) {
+      final int previous = values[index];
+      values[index] = value;
+      return previous;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (!(o instanceof Map.Entry)) {
+        return false;
+      }
+      final Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+      return Objects.equals(getKey(), other.getKey()) && getValue().equals(other.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(getKey()) ^ values[index];
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + "=" + values[index];
+    }
+  }
+
+  /** Hash code as defined by {@link Map#hashCode()}. */
+  @Override
+  public int hashCode() {
+    int hashCode = 0;
+    for (int i = 0; i < used; i++) {
+      if (keys[i] != REMOVED) {
+        hashCode += Objects.hashCode(keys[i]) ^ values[i];
+      }
+    }
+    return hashCode;
+  }
+
+  /** Equality as defined by {@link Map#equals(Object)}, ignoring iteration order. */
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    } else if (!(o instanceof ObjectIntHashMap)) {
+      return false;
+    }
+    final ObjectIntHashMap<?> other = (ObjectIntHashMap<?>) o;
+    if (size != other.size) {
+      return false;
+    }
+    for (int i = 0; i < used; i++) {
+      if (keys[i] != REMOVED) {
+        final int slot = other.findSlot(keys[i]);
+        if (slot < 0 || other.values[other.table[slot] - 1] != values[i]) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+}
@@ -9,7 +9,15 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Base64;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
@@ -34,7 +42,14 @@ class IntegerMapTest {
 
   @Test
   void shouldBeEquatableAndHashable() {
-    EqualsVerifier.forClass(IntegerMap.class).suppress(Warning.NULL_FIELDS).verify();
+    final ObjectIntHashMap<Object> red = new ObjectIntHashMap<>();
+    red.put(k1, 1);
+    final ObjectIntHashMap<Object> blue = new ObjectIntHashMap<>();
+    blue.put(k2, 2);
+    EqualsVerifier.forClass(IntegerMap.class)
+        .withPrefabValues(ObjectIntHashMap.class, red, blue)
+        .suppress(Warning.NULL_FIELDS, Warning.NONFINAL_FIELDS)
+        .verify();
 
     // We need to explicitly test this case because EqualsVerifier's internal prefab values for
     // LinkedHashMap use the
@@ -216,4 +231,122 @@ class IntegerMapTest {
     assertEquals(k3, third.getKey());
     assertEquals(0, third.getValue().intValue());
   }
+
+  @Test
+  void testInsertionOrderIsKeptAfterRemoval() {
+    final IntegerMap<Object> test = new IntegerMap<>();
+    test.put(k1, 1);
+    test.put(k2, 2);
+    test.put(k3, 3);
+    test.removeKey(k1);
+    test.put(k1, 4);
+    assertThat(List.copyOf(test.keySet()), is(List.of(k2, k3, k1)));
+    assertEquals(4, test.getInt(k1));
+  }
+
+  @Test
+  void testKeySetRemoval() {
+    final IntegerMap<Object> test = new IntegerMap<>();
+    test.put(k1, 1);
+    test.put(k2, 2);
+    test.put(k3, 3);
+    test.keySet().removeAll(List.of(k1, k3));
+    assertEquals(1, test.size());
+    assertFalse(test.containsKey(k1));
+    assertEquals(2, test.getInt(k2));
+  }
+
+  @Test
+  void testManyKeys() {
+    final IntegerMap<Integer> test = new IntegerMap<>();
+    for (int i = 0; i < 1000; i++) {
+      test.add(i, i);
+    }
+    for (int i = 0; i < 1000; i += 2) {
+      test.removeKey(i);
+    }
+    for (int i = 0; i < 1000; i++) {
+      test.add(i, 1);
+    }
+    assertEquals(1000, test.size());
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(i % 2 == 0 ? 1 : i + 1, test.getInt(i));
+    }
+  }
+
+  @Test
+  void shouldBeSerializable() throws Exception {
+    final IntegerMap<String> expected = new IntegerMap<>();
+    expected.put("a", 1);
+    expected.put("b", -2);
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(expected);
+    }
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      final Object actual = in.readObject();
+
+      assertThat(actual, is(expected));
+      assertThat(List.copyOf(((IntegerMap<?>) actual).keySet()), is(List.of("a", "b")));
+    }
+  }
+
+  @Test
+  void shouldReadSerializedFormOfPreviousVersion() throws Exception {
+    // an IntegerMap<String> of infantry=3, armour=1, fighter=-2 written by the LinkedHashMap based
+    // version of this class
+    final byte[] bytes =
+        Base64.getDecoder()
+            .decode(
+                "rO0ABXNyACdvcmcudHJpcGxlYS5qYXZhLmNvbGxlY3Rpb25zLkludGVnZXJNYXBfJ0s3dtxE"
+                    + "ggIAAUwACW1hcFZhbHVlc3QAD0xqYXZhL3V0aWwvTWFwO3hwc3IAF2phdmEudXRpbC5MaW5r"
+                    + "ZWRIYXNoTWFwNMBOXBBswPsCAAFaAAthY2Nlc3NPcmRlcnhyABFqYXZhLnV0aWwuSGFzaE1h"
+                    + "cAUH2sHDFmDRAwACRgAKbG9hZEZhY3RvckkACXRocmVzaG9sZHhwP0AAAAAAAAx3CAAAABAA"
+                    + "AAADdAAIaW5mYW50cnlzcgARamF2YS5sYW5nLkludGVnZXIS4qCk94GHOAIAAUkABXZhbHVl"
+                    + "eHIAEGphdmEubGFuZy5OdW1iZXKGrJUdC5TgiwIAAHhwAAAAA3QABmFybW91cnNxAH4ABwAA"
+                    + "AAF0AAdmaWdodGVyc3EAfgAH/////ngA");
+
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      final IntegerMap<?> actual = (IntegerMap<?>) in.readObject();
+
+      assertThat(List.copyOf(actual.keySet()), is(List.of("infantry", "armour", "fighter")));
+      assertThat(
+          actual, is(new IntegerMap<>(ImmutableMap.of("infantry", 3, "armour", 1, "fighter", -2))));
+    }
+  }
+
+  @Test
+  void shouldBeUsableByKeysReferringBackToItWhileItIsRead() throws Exception {
+    final KeyReferringToMap key = new KeyReferringToMap();
+    key.map.put(key, 5);
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(key.map);
+    }
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      @SuppressWarnings("unchecked")
+      final IntegerMap<KeyReferringToMap> actual = (IntegerMap<KeyReferringToMap>) in.readObject();
+
+      final KeyReferringToMap actualKey = actual.keySet().iterator().next();
+      assertThat(actualKey.map == actual, is(true));
+      assertThat(actualKey.sizeWhileRead, is(0));
+      assertThat(actual.getInt(actualKey), is(5));
+    }
+  }
+
+  private static final class KeyReferringToMap implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final IntegerMap<KeyReferringToMap> map = new IntegerMap<>();
+    private transient int sizeWhileRead;
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+      in.defaultReadObject();
+      sizeWhileRead = map.size();
+    }
+  }
 }